@@ -0,0 +1,50 @@
+package com.creditas.loan.simulator.benchmark;
+
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.creditas.loan.simulator.service.RateBand;
+import com.creditas.loan.simulator.service.RateBandTable;
+import com.creditas.loan.simulator.service.RatePolicy;
+import com.creditas.loan.simulator.service.RatePolicyHolder;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Inputs shared by the benchmarks: the default rate policy and a deterministic pool of valid requests spread
+ * over every age band, amount range and term, generated once so benchmarks measure the code under test rather
+ * than input generation.
+ */
+final class BenchmarkFixtures {
+
+  static final int SIZE = 1024;
+
+  private static final long SEED = 42L;
+  private static final LocalDate TODAY = LocalDate.now();
+
+  private BenchmarkFixtures() {
+    // Prevent instantiation
+  }
+
+  static RatePolicyHolder ratePolicyHolder() {
+    return new RatePolicyHolder(new RatePolicy("benchmark", RateBandTable.of(List.of(
+        new RateBand(25, new BigDecimal("5.00")),
+        new RateBand(40, new BigDecimal("3.00")),
+        new RateBand(60, new BigDecimal("2.00")),
+        new RateBand(null, new BigDecimal("4.00"))))));
+  }
+
+  static LoanSimulationRequest[] requests() {
+    SplittableRandom random = new SplittableRandom(SEED);
+    LoanSimulationRequest[] requests = new LoanSimulationRequest[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      requests[i] = new LoanSimulationRequest(
+          new UUID(random.nextLong(), random.nextLong()).toString(),
+          BigDecimal.valueOf(random.nextLong(100_00, 1_000_000_00), 2),
+          TODAY.minusDays(random.nextLong(18 * 365, 80 * 365)),
+          random.nextInt(1, 361));
+    }
+    return requests;
+  }
+}
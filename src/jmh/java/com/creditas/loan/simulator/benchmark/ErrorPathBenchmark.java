@@ -0,0 +1,104 @@
+package com.creditas.loan.simulator.benchmark;
+
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.creditas.loan.simulator.dto.error.ErrorResponse;
+import com.creditas.loan.simulator.exception.CustomExceptionHandler;
+import com.creditas.loan.simulator.service.AgeBasedInterestRateCalculator;
+import com.creditas.loan.simulator.service.BigDecimalPaymentCalculator;
+import com.creditas.loan.simulator.service.DailyClock;
+import com.creditas.loan.simulator.service.LoanService;
+import com.creditas.loan.simulator.service.NoOpSimulationCache;
+import com.creditas.loan.simulator.service.NoOpSimulationStore;
+import com.creditas.loan.simulator.service.RandomSimulationIdGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+/**
+ * Benchmarks answering a rejected request against answering an accepted one: the body the handler builds plus
+ * its JSON serialization, so a flood of invalid payloads can be compared with the traffic it competes with.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ErrorPathBenchmark {
+
+  private LoanService loanService;
+  private CustomExceptionHandler exceptionHandler;
+  private ObjectWriter writer;
+  private LoanSimulationRequest[] requests;
+  private MethodArgumentNotValidException validationException;
+  private HttpMessageNotReadableException parseException;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    DailyClock dailyClock = new DailyClock(Clock.systemDefaultZone());
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    loanService = new LoanService(
+        new AgeBasedInterestRateCalculator(dailyClock, BenchmarkFixtures.ratePolicyHolder()),
+        new BigDecimalPaymentCalculator(), new NoOpSimulationCache(), dailyClock, new NoOpSimulationStore(),
+        new RandomSimulationIdGenerator(), meterRegistry);
+    exceptionHandler = new CustomExceptionHandler(meterRegistry);
+
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    writer = objectMapper.writer();
+    requests = BenchmarkFixtures.requests();
+
+    BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "request");
+    bindingResult.addError(new FieldError("request", "loanAmount", "must be greater than 0"));
+    bindingResult.addError(new FieldError("request", "loanTermInMonths", "must not be null"));
+    validationException = new MethodArgumentNotValidException(null, bindingResult);
+
+    InvalidFormatException cause = new InvalidFormatException(null, "Invalid value", "abc", BigDecimal.class);
+    cause.prependPath(new JsonMappingException.Reference(LoanSimulationRequest.class, "loan_amount"));
+    parseException = new HttpMessageNotReadableException("Invalid format", cause, null);
+  }
+
+  private int nextIndex() {
+    int index = next;
+    next = (index + 1) & (BenchmarkFixtures.SIZE - 1);
+    return index;
+  }
+
+  @Benchmark
+  public byte[] acceptedSimulation() throws JsonProcessingException {
+    return writer.writeValueAsBytes(loanService.calculateLoanSimulation(requests[nextIndex()]).withRoundedValues());
+  }
+
+  @Benchmark
+  public byte[] rejectedValidation() throws JsonProcessingException {
+    ErrorResponse body = exceptionHandler.handleValidationExceptions(validationException).getBody();
+    return writer.writeValueAsBytes(body);
+  }
+
+  @Benchmark
+  public byte[] rejectedParse() throws JsonProcessingException {
+    ErrorResponse body = exceptionHandler.handleJsonParseException(parseException).getBody();
+    return writer.writeValueAsBytes(body);
+  }
+}
@@ -0,0 +1,81 @@
+package com.creditas.loan.simulator.benchmark;
+
+import com.creditas.loan.simulator.domain.Money;
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.creditas.loan.simulator.dto.LoanSimulationResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Benchmarks Jackson reading a request body and writing a response body, with a mapper configured the way
+ * Spring Boot configures the one used by the web tier.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class JsonBenchmark {
+
+  private ObjectReader requestReader;
+  private ObjectWriter responseWriter;
+  private byte[][] requestBodies;
+  private LoanSimulationResponse[] responses;
+  private int next;
+
+  @Setup
+  public void setUp() throws JsonProcessingException {
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    requestReader = objectMapper.readerFor(LoanSimulationRequest.class);
+    responseWriter = objectMapper.writerFor(LoanSimulationResponse.class);
+
+    LoanSimulationRequest[] requests = BenchmarkFixtures.requests();
+    requestBodies = new byte[requests.length][];
+    responses = new LoanSimulationResponse[requests.length];
+    for (int i = 0; i < requests.length; i++) {
+      LoanSimulationRequest request = requests[i];
+      requestBodies[i] = objectMapper.writeValueAsBytes(request);
+      BigDecimal installment = request.getLoanAmount()
+          .divide(BigDecimal.valueOf(request.getLoanTermInMonths()), 2, RoundingMode.HALF_UP);
+      BigDecimal total = installment.multiply(BigDecimal.valueOf(request.getLoanTermInMonths()));
+      responses[i] = new LoanSimulationResponse(UUID.randomUUID().toString(), request.getClientId(),
+          Money.of(request.getLoanAmount()), new BigDecimal("3.00"), request.getLoanTermInMonths(),
+          Money.of(total), Money.of(installment), Money.of(total.subtract(request.getLoanAmount())), "benchmark");
+    }
+  }
+
+  private int nextIndex() {
+    int index = next;
+    next = (index + 1) & (BenchmarkFixtures.SIZE - 1);
+    return index;
+  }
+
+  @Benchmark
+  public LoanSimulationRequest deserializeRequest() throws IOException {
+    return requestReader.readValue(requestBodies[nextIndex()]);
+  }
+
+  @Benchmark
+  public byte[] serializeResponse() throws JsonProcessingException {
+    return responseWriter.writeValueAsBytes(responses[nextIndex()]);
+  }
+}
@@ -0,0 +1,71 @@
+package com.creditas.loan.simulator.benchmark;
+
+import com.creditas.loan.simulator.config.CalculationProperties;
+import com.creditas.loan.simulator.config.CalculationProperties.Engine;
+import com.creditas.loan.simulator.config.CalculationConfiguration;
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.creditas.loan.simulator.dto.LoanSimulationResponse;
+import com.creditas.loan.simulator.service.AgeBasedInterestRateCalculator;
+import com.creditas.loan.simulator.service.DailyClock;
+import com.creditas.loan.simulator.service.LoanService;
+import com.creditas.loan.simulator.service.NoOpSimulationCache;
+import com.creditas.loan.simulator.service.NoOpSimulationStore;
+import com.creditas.loan.simulator.service.RandomSimulationIdGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the whole {@link LoanService#calculateLoanSimulation} call for every calculation engine, with
+ * the simulation cache disabled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class LoanServiceBenchmark {
+
+  @Param({"BIG_DECIMAL", "DOUBLE", "ANNUITY_TABLE"})
+  private Engine engine;
+
+  private LoanService loanService;
+  private LoanSimulationRequest[] requests;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    DailyClock dailyClock = new DailyClock(Clock.systemDefaultZone());
+    AgeBasedInterestRateCalculator interestRateCalculator =
+        new AgeBasedInterestRateCalculator(dailyClock, BenchmarkFixtures.ratePolicyHolder());
+    loanService = new LoanService(interestRateCalculator,
+        new CalculationConfiguration().paymentCalculator(new CalculationProperties(engine, 1200)),
+        new NoOpSimulationCache(), dailyClock, new NoOpSimulationStore(),
+        new RandomSimulationIdGenerator(), new SimpleMeterRegistry());
+
+    requests = BenchmarkFixtures.requests();
+  }
+
+  private int nextIndex() {
+    int index = next;
+    next = (index + 1) & (BenchmarkFixtures.SIZE - 1);
+    return index;
+  }
+
+  @Benchmark
+  public LoanSimulationResponse calculateLoanSimulation() {
+    return loanService.calculateLoanSimulation(requests[nextIndex()]);
+  }
+}
@@ -0,0 +1,86 @@
+package com.creditas.loan.simulator.benchmark;
+
+import com.creditas.loan.simulator.config.CalculationConfiguration;
+import com.creditas.loan.simulator.config.CalculationProperties;
+import com.creditas.loan.simulator.config.CalculationProperties.Engine;
+import com.creditas.loan.simulator.dto.LoanOfferGridRequest;
+import com.creditas.loan.simulator.dto.LoanOfferGridResponse;
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.creditas.loan.simulator.service.AgeBasedInterestRateCalculator;
+import com.creditas.loan.simulator.service.DailyClock;
+import com.creditas.loan.simulator.service.LoanOfferGridService;
+import com.creditas.loan.simulator.service.LoanService;
+import com.creditas.loan.simulator.service.NoOpSimulationCache;
+import com.creditas.loan.simulator.service.NoOpSimulationStore;
+import com.creditas.loan.simulator.service.PaymentCalculator;
+import com.creditas.loan.simulator.service.RandomSimulationIdGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares a product-page grid of 12 terms by 5 amounts computed in one {@link LoanOfferGridService} call with the
+ * same 60 cells computed by one {@link LoanService} simulation each, both on a warm annuity table.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class OfferGridBenchmark {
+
+  private static final LocalDate BIRTH_DATE = LocalDate.of(1990, 1, 1);
+
+  private LoanOfferGridService gridService;
+  private LoanService loanService;
+  private LoanOfferGridRequest gridRequest;
+  private LoanSimulationRequest[] cellRequests;
+
+  @Setup
+  public void setUp() {
+    DailyClock dailyClock = new DailyClock(Clock.systemDefaultZone());
+    AgeBasedInterestRateCalculator interestRateCalculator =
+        new AgeBasedInterestRateCalculator(dailyClock, BenchmarkFixtures.ratePolicyHolder());
+    CalculationProperties properties = new CalculationProperties(Engine.ANNUITY_TABLE, 1200);
+    PaymentCalculator paymentCalculator = new CalculationConfiguration().paymentCalculator(properties);
+    gridService = new LoanOfferGridService(interestRateCalculator, paymentCalculator, properties);
+    loanService = new LoanService(interestRateCalculator, paymentCalculator, new NoOpSimulationCache(), dailyClock, new NoOpSimulationStore(),
+        new RandomSimulationIdGenerator(), new SimpleMeterRegistry());
+
+    List<BigDecimal> amounts = List.of(new BigDecimal("5000.00"), new BigDecimal("10000.00"),
+        new BigDecimal("20000.00"), new BigDecimal("35000.00"), new BigDecimal("50000.00"));
+    List<Integer> terms = IntStream.rangeClosed(1, 12).mapToObj(i -> i * 6).toList();
+    gridRequest = new LoanOfferGridRequest(null, BIRTH_DATE, amounts, terms);
+    cellRequests = terms.stream()
+        .flatMap(term -> amounts.stream().map(amount -> new LoanSimulationRequest(null, amount, BIRTH_DATE, term)))
+        .toArray(LoanSimulationRequest[]::new);
+  }
+
+  @Benchmark
+  public LoanOfferGridResponse grid() {
+    return gridService.calculateOfferGrid(gridRequest);
+  }
+
+  @Benchmark
+  public void simulationPerCell(final Blackhole blackhole) {
+    for (LoanSimulationRequest request : cellRequests) {
+      blackhole.consume(loanService.calculateLoanSimulation(request).withRoundedValues());
+    }
+  }
+}
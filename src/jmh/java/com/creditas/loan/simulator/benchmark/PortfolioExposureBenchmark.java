@@ -0,0 +1,106 @@
+package com.creditas.loan.simulator.benchmark;
+
+import com.creditas.loan.simulator.domain.Client;
+import com.creditas.loan.simulator.domain.Contract;
+import com.creditas.loan.simulator.domain.Installment;
+import com.creditas.loan.simulator.domain.Money;
+import com.creditas.loan.simulator.service.ClientPortfolio;
+import com.creditas.loan.simulator.service.PortfolioExposure;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks aggregating the exposure of 20,000 clients holding 40,000 contracts and 960,000 installments, over
+ * the columns of {@link ClientPortfolio} and, as a baseline, over the same clients as a graph of domain objects.
+ * Both run on the same pool.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class PortfolioExposureBenchmark {
+
+  private static final int CLIENTS = 20_000;
+  private static final int CONTRACTS_PER_CLIENT = 2;
+  private static final int INSTALLMENTS_PER_CONTRACT = 24;
+  private static final LocalDate AS_OF = LocalDate.of(2025, 9, 20);
+
+  private ForkJoinPool pool;
+  private List<Client> clients;
+  private ClientPortfolio portfolio;
+
+  @Setup
+  public void setUp() {
+    pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    SplittableRandom random = new SplittableRandom(42);
+    clients = new ArrayList<>(CLIENTS);
+    for (int c = 0; c < CLIENTS; c++) {
+      List<Contract> contracts = new ArrayList<>(CONTRACTS_PER_CLIENT);
+      for (int k = 0; k < CONTRACTS_PER_CLIENT; k++) {
+        LocalDate start = AS_OF.minusDays(random.nextInt(730));
+        List<Installment> installments = new ArrayList<>(INSTALLMENTS_PER_CONTRACT);
+        for (int i = 1; i <= INSTALLMENTS_PER_CONTRACT; i++) {
+          Money principal = Money.ofCents(random.nextLong(100_000, 200_000));
+          Money interest = Money.ofCents(random.nextLong(10_000));
+          installments.add(new Installment(String.valueOf(i), start.plusMonths(i), principal.plus(interest),
+              principal, interest, Money.ZERO));
+        }
+        contracts.add(new Contract("CT-" + c + "-" + k, Money.ZERO, installments));
+      }
+      clients.add(new Client("client-" + c, "Client " + c, "client-" + c + "@example.com", null, contracts));
+    }
+    portfolio = ClientPortfolio.of(clients);
+  }
+
+  @TearDown
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Benchmark
+  public PortfolioExposure columns() {
+    return PortfolioExposure.aggregate(portfolio, AS_OF, pool);
+  }
+
+  @Benchmark
+  public long[] objectGraph() {
+    long[] outstanding = new long[clients.size()];
+    long[] interest = new long[clients.size()];
+    Installment[] nextDue = new Installment[clients.size()];
+    pool.submit(() -> IntStream.range(0, clients.size())
+            .parallel()
+            .forEach(c -> {
+              for (Contract contract : clients.get(c).getContracts()) {
+                for (Installment installment : contract.getInstallments()) {
+                  if (!installment.getDate().isBefore(AS_OF)) {
+                    outstanding[c] += installment.getPrincipal().cents();
+                    interest[c] += installment.getInterest().cents();
+                    if (nextDue[c] == null || installment.getDate().isBefore(nextDue[c].getDate())) {
+                      nextDue[c] = installment;
+                    }
+                  }
+                }
+              }
+            }))
+        .join();
+    return outstanding;
+  }
+}
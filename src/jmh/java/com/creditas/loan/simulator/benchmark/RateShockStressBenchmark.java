@@ -0,0 +1,64 @@
+package com.creditas.loan.simulator.benchmark;
+
+import com.creditas.loan.simulator.dto.RateShockStressRequest;
+import com.creditas.loan.simulator.dto.RateShockStressResponse;
+import com.creditas.loan.simulator.service.DailyClock;
+import com.creditas.loan.simulator.service.RateShockStressService;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks a rate shock stress test of 100,000 scenarios over the 1024 benchmark loans, for several pool sizes;
+ * on a machine with that many cores the time per run should fall in proportion to the workers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateShockStressBenchmark {
+
+  private static final int SCENARIOS = 100_000;
+
+  @Param({"1", "2", "4", "8"})
+  private int workers;
+
+  private ForkJoinPool pool;
+  private RateShockStressService service;
+  private RateShockStressRequest request;
+
+  @Setup
+  public void setUp() {
+    pool = new ForkJoinPool(workers);
+    service = new RateShockStressService(new DailyClock(Clock.systemDefaultZone()),
+        BenchmarkFixtures.ratePolicyHolder(), pool);
+    request = new RateShockStressRequest(List.of(BenchmarkFixtures.requests()), SCENARIOS,
+        new BigDecimal("0.50"), new BigDecimal("1.00"), 42L);
+  }
+
+  @TearDown
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Benchmark
+  public RateShockStressResponse simulate() {
+    return service.simulate(request);
+  }
+}
@@ -0,0 +1,77 @@
+package com.creditas.loan.simulator.benchmark;
+
+import com.creditas.loan.simulator.converter.LoanSimulationRequestParser;
+import com.creditas.loan.simulator.converter.ValidatedLoanSimulationRequest;
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.creditas.loan.simulator.service.DailyClock;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.time.Clock;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Benchmarks reading and validating a small request body, with Jackson data binding plus Bean Validation and with
+ * the streaming parser.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class RequestReaderBenchmark {
+
+  private ObjectReader requestReader;
+  private Validator validator;
+  private LoanSimulationRequestParser parser;
+  private byte[][] requestBodies;
+  private int next;
+
+  @Setup
+  public void setUp() throws JsonProcessingException {
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    requestReader = objectMapper.readerFor(LoanSimulationRequest.class);
+    validator = Validation.buildDefaultValidatorFactory().getValidator();
+    parser = new LoanSimulationRequestParser(objectMapper.getFactory(), new DailyClock(Clock.systemDefaultZone()));
+
+    LoanSimulationRequest[] requests = BenchmarkFixtures.requests();
+    requestBodies = new byte[requests.length][];
+    for (int i = 0; i < requests.length; i++) {
+      requestBodies[i] = objectMapper.writeValueAsBytes(requests[i]);
+    }
+  }
+
+  private int nextIndex() {
+    int index = next;
+    next = (index + 1) & (BenchmarkFixtures.SIZE - 1);
+    return index;
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<LoanSimulationRequest>> jacksonAndBeanValidation() throws IOException {
+    LoanSimulationRequest request = requestReader.readValue(requestBodies[nextIndex()]);
+    return validator.validate(request);
+  }
+
+  @Benchmark
+  public ValidatedLoanSimulationRequest streamingParser() {
+    return parser.parse(requestBodies[nextIndex()]);
+  }
+}
@@ -0,0 +1,56 @@
+package com.creditas.loan.simulator.benchmark;
+
+import com.creditas.loan.simulator.service.RandomSimulationIdGenerator;
+import com.creditas.loan.simulator.service.SimulationIdGenerator;
+import com.creditas.loan.simulator.service.TimeOrderedSimulationIdGenerator;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the simulation id generators issuing ids from one thread and from 32 at once, which is where the
+ * shared {@link java.security.SecureRandom} behind random UUIDs contends and the time-ordered generator, with one
+ * compare-and-set and per-thread entropy, does not.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SimulationIdBenchmark {
+
+  private final SimulationIdGenerator random = new RandomSimulationIdGenerator();
+  private final SimulationIdGenerator timeOrdered = new TimeOrderedSimulationIdGenerator(Clock.systemUTC());
+
+  @Benchmark
+  public String random() {
+    return random.nextId();
+  }
+
+  @Benchmark
+  public String timeOrdered() {
+    return timeOrdered.nextId();
+  }
+
+  @Benchmark
+  @Threads(32)
+  public String random32Threads() {
+    return random.nextId();
+  }
+
+  @Benchmark
+  @Threads(32)
+  public String timeOrdered32Threads() {
+    return timeOrdered.nextId();
+  }
+}
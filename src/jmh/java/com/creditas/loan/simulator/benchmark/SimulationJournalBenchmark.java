@@ -0,0 +1,80 @@
+package com.creditas.loan.simulator.benchmark;
+
+import com.creditas.loan.simulator.domain.Money;
+import com.creditas.loan.simulator.dto.LoanSimulationResponse;
+import com.creditas.loan.simulator.service.FsyncPolicy;
+import com.creditas.loan.simulator.service.MappedSimulationJournal;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks recording a simulation in {@link MappedSimulationJournal}, the cost added to the simulate path when
+ * the journal is enabled. Every iteration starts from an empty journal, and every record gets a new id, so each
+ * one is appended and indexed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class SimulationJournalBenchmark {
+
+  private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+
+  @Param({"NONE", "GROUP"})
+  private FsyncPolicy fsyncPolicy;
+
+  private Path directory;
+  private MappedSimulationJournal journal;
+  private LoanSimulationResponse simulation;
+  private long sequence;
+
+  @Setup(Level.Iteration)
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("simulation-journal");
+    journal = MappedSimulationJournal.open(directory, SEGMENT_SIZE, fsyncPolicy, Duration.ofMillis(100),
+        Executors.defaultThreadFactory());
+    simulation = new LoanSimulationResponse(null, "123e4567-e89b-12d3-a456-426614178000", Money.ofCents(1_000_000),
+        new BigDecimal("3.00"), 12, Money.ofCents(1_016_328), Money.ofCents(84_694), Money.ofCents(16_328),
+        "2025-10");
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() throws IOException {
+    journal.close();
+    try (Stream<Path> files = Files.walk(directory)) {
+      for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  @Benchmark
+  public LoanSimulationResponse record() {
+    simulation.setId(new UUID(sequence++, 0).toString());
+    journal.record(simulation);
+    return simulation;
+  }
+}
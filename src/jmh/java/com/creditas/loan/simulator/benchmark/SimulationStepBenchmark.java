@@ -0,0 +1,84 @@
+package com.creditas.loan.simulator.benchmark;
+
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.creditas.loan.simulator.dto.LoanSimulationResponse;
+import com.creditas.loan.simulator.service.AgeBasedInterestRateCalculator;
+import com.creditas.loan.simulator.service.BigDecimalPaymentCalculator;
+import com.creditas.loan.simulator.service.DailyClock;
+import com.creditas.loan.simulator.service.InterestRate;
+import com.creditas.loan.simulator.service.LoanService;
+import com.creditas.loan.simulator.service.NoOpSimulationCache;
+import com.creditas.loan.simulator.service.NoOpSimulationStore;
+import com.creditas.loan.simulator.service.RandomSimulationIdGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the steps of a simulation that do not depend on the calculation engine: the age-based rate lookup
+ * and the rounding applied before a response is returned.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class SimulationStepBenchmark {
+
+  private LoanService loanService;
+  private AgeBasedInterestRateCalculator interestRateCalculator;
+  private LoanSimulationRequest[] requests;
+  private LoanSimulationResponse[] responses;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    DailyClock dailyClock = new DailyClock(Clock.systemDefaultZone());
+    interestRateCalculator = new AgeBasedInterestRateCalculator(dailyClock, BenchmarkFixtures.ratePolicyHolder());
+    loanService = new LoanService(interestRateCalculator,
+        new BigDecimalPaymentCalculator(),
+        new NoOpSimulationCache(), dailyClock, new NoOpSimulationStore(),
+        new RandomSimulationIdGenerator(), new SimpleMeterRegistry());
+
+    requests = BenchmarkFixtures.requests();
+    responses = new LoanSimulationResponse[requests.length];
+    for (int i = 0; i < requests.length; i++) {
+      responses[i] = loanService.calculateLoanSimulation(requests[i]);
+    }
+  }
+
+  private int nextIndex() {
+    int index = next;
+    next = (index + 1) & (BenchmarkFixtures.SIZE - 1);
+    return index;
+  }
+
+  @Benchmark
+  public InterestRate calculateInterestRate() {
+    return interestRateCalculator.calculateInterestRate(requests[nextIndex()]);
+  }
+
+  /**
+   * Rounds a fresh copy of an unrounded response, as rounding is done in place. The copy is part of the
+   * measurement, which mirrors the controller always rounding a response it has just created.
+   */
+  @Benchmark
+  public LoanSimulationResponse withRoundedValues() {
+    LoanSimulationResponse response = responses[nextIndex()];
+    return new LoanSimulationResponse(response.getId(), response.getClientId(), response.getLoanAmount(),
+        response.getInterestRate(), response.getLoanTermInMonths(), response.getTotalAmountPayable(),
+        response.getMonthlyInstallment(), response.getTotalInterestPaid(), response.getRatePolicyVersion())
+        .withRoundedValues();
+  }
+}
@@ -0,0 +1,70 @@
+package com.creditas.loan.simulator.benchmark;
+
+import com.creditas.loan.simulator.config.CalculationConfiguration;
+import com.creditas.loan.simulator.config.CalculationProperties;
+import com.creditas.loan.simulator.config.CalculationProperties.Engine;
+import com.creditas.loan.simulator.dto.LoanSimulationResponse;
+import com.creditas.loan.simulator.dto.MaxLoanAmountRequest;
+import com.creditas.loan.simulator.dto.MinLoanTermRequest;
+import com.creditas.loan.simulator.service.AgeBasedInterestRateCalculator;
+import com.creditas.loan.simulator.service.DailyClock;
+import com.creditas.loan.simulator.service.LoanService;
+import com.creditas.loan.simulator.service.NoOpSimulationCache;
+import com.creditas.loan.simulator.service.NoOpSimulationStore;
+import com.creditas.loan.simulator.service.RandomSimulationIdGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the inverse solvers of {@link LoanService} on the annuity-table engine, each including the simulation
+ * of the solved loan.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class SolverBenchmark {
+
+  private static final LocalDate BIRTH_DATE = LocalDate.of(1990, 1, 1);
+
+  private LoanService loanService;
+  private MaxLoanAmountRequest maxAmountRequest;
+  private MinLoanTermRequest minTermRequest;
+
+  @Setup
+  public void setUp() {
+    DailyClock dailyClock = new DailyClock(Clock.systemDefaultZone());
+    loanService = new LoanService(new AgeBasedInterestRateCalculator(dailyClock, BenchmarkFixtures.ratePolicyHolder()),
+        new CalculationConfiguration().paymentCalculator(new CalculationProperties(Engine.ANNUITY_TABLE, 1200)),
+        new NoOpSimulationCache(), dailyClock, new NoOpSimulationStore(),
+        new RandomSimulationIdGenerator(), new SimpleMeterRegistry());
+
+    maxAmountRequest = new MaxLoanAmountRequest(null, BIRTH_DATE, new BigDecimal("500.00"), 48);
+    minTermRequest = new MinLoanTermRequest(null, BIRTH_DATE, new BigDecimal("20000.00"), new BigDecimal("500.00"));
+  }
+
+  @Benchmark
+  public LoanSimulationResponse maxLoanAmount() {
+    return loanService.calculateMaxLoanAmount(maxAmountRequest);
+  }
+
+  @Benchmark
+  public LoanSimulationResponse minLoanTerm() {
+    return loanService.calculateMinLoanTerm(minTermRequest);
+  }
+}
@@ -0,0 +1,116 @@
+package com.creditas.loan.simulator.benchmark;
+
+import com.creditas.loan.simulator.converter.CompactCborModule;
+import com.creditas.loan.simulator.domain.Money;
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.creditas.loan.simulator.dto.LoanSimulationResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Benchmarks round trips of requests, responses and a 100-item batch of responses in JSON and in the compact CBOR
+ * format. The average payload size of each format is printed at setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class WireFormatBenchmark {
+
+  private static final int BATCH_SIZE = 100;
+
+  @Param({"JSON", "CBOR"})
+  private String format;
+
+  private ObjectReader requestReader;
+  private ObjectWriter requestWriter;
+  private ObjectReader responseReader;
+  private ObjectWriter responseWriter;
+  private ObjectReader batchReader;
+  private ObjectWriter batchWriter;
+  private LoanSimulationRequest[] requests;
+  private LoanSimulationResponse[] responses;
+  private List<LoanSimulationResponse> batch;
+  private int next;
+
+  @Setup
+  public void setUp() throws JsonProcessingException {
+    Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+    if ("CBOR".equals(format)) {
+      builder.factory(new CBORFactory()).modulesToInstall(new CompactCborModule());
+    }
+    ObjectMapper objectMapper = builder.build();
+    requestReader = objectMapper.readerFor(LoanSimulationRequest.class);
+    requestWriter = objectMapper.writerFor(LoanSimulationRequest.class);
+    responseReader = objectMapper.readerFor(LoanSimulationResponse.class);
+    responseWriter = objectMapper.writerFor(LoanSimulationResponse.class);
+    batchReader = objectMapper.readerForListOf(LoanSimulationResponse.class);
+    batchWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+        .constructCollectionType(List.class, LoanSimulationResponse.class));
+
+    requests = BenchmarkFixtures.requests();
+    responses = new LoanSimulationResponse[requests.length];
+    long requestBytes = 0;
+    long responseBytes = 0;
+    for (int i = 0; i < requests.length; i++) {
+      LoanSimulationRequest request = requests[i];
+      BigDecimal installment = request.getLoanAmount()
+          .divide(BigDecimal.valueOf(request.getLoanTermInMonths()), 2, RoundingMode.HALF_UP);
+      BigDecimal total = installment.multiply(BigDecimal.valueOf(request.getLoanTermInMonths()));
+      responses[i] = new LoanSimulationResponse(UUID.randomUUID().toString(), request.getClientId(),
+          Money.of(request.getLoanAmount()), new BigDecimal("3.00"), request.getLoanTermInMonths(),
+          Money.of(total), Money.of(installment), Money.of(total.subtract(request.getLoanAmount())), "benchmark");
+      requestBytes += requestWriter.writeValueAsBytes(request).length;
+      responseBytes += responseWriter.writeValueAsBytes(responses[i]).length;
+    }
+    batch = Arrays.asList(responses).subList(0, BATCH_SIZE);
+    System.out.printf("%n%s payload bytes: request %d, response %d, batch of %d %d%n", format,
+        requestBytes / requests.length, responseBytes / responses.length, BATCH_SIZE,
+        batchWriter.writeValueAsBytes(batch).length);
+  }
+
+  private int nextIndex() {
+    int index = next;
+    next = (index + 1) & (BenchmarkFixtures.SIZE - 1);
+    return index;
+  }
+
+  @Benchmark
+  public LoanSimulationRequest requestRoundTrip() throws IOException {
+    return requestReader.readValue(requestWriter.writeValueAsBytes(requests[nextIndex()]));
+  }
+
+  @Benchmark
+  public LoanSimulationResponse responseRoundTrip() throws IOException {
+    return responseReader.readValue(responseWriter.writeValueAsBytes(responses[nextIndex()]));
+  }
+
+  @Benchmark
+  public List<LoanSimulationResponse> batchRoundTrip() throws IOException {
+    return batchReader.readValue(batchWriter.writeValueAsBytes(batch));
+  }
+}
@@ -0,0 +1,48 @@
+package com.creditas.loan.simulator;
+
+import com.creditas.loan.simulator.config.RepricingProperties;
+import com.creditas.loan.simulator.service.BulkRepricingService;
+import com.creditas.loan.simulator.service.RepricingReport;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+/**
+ * Batch-mode entry point repricing a file of loan simulation requests when the application starts, for example
+ * {@code java -jar loan-simulator.jar --spring.main.web-application-type=none
+ * --loan.simulator.reprice.input=book.ndjson}. Without a web server, the application exits once the file is done,
+ * with a non-zero status if repricing failed.
+ */
+@Slf4j
+public final class LoanRepricingRunner implements ApplicationRunner {
+
+  private static final String OUTPUT_SUFFIX = ".repriced.ndjson";
+
+  private final RepricingProperties properties;
+  private final BulkRepricingService bulkRepricingService;
+
+  public LoanRepricingRunner(final RepricingProperties properties,
+                             final BulkRepricingService bulkRepricingService) {
+    this.properties = properties;
+    this.bulkRepricingService = bulkRepricingService;
+  }
+
+  @Override
+  public void run(final ApplicationArguments args) throws IOException {
+    Path input = properties.input();
+    Path output = properties.output();
+    if (output == null) {
+      output = input.resolveSibling(input.getFileName() + OUTPUT_SUFFIX);
+    }
+
+    log.info("Repricing {} into {}", input, output);
+    RepricingReport report = bulkRepricingService.reprice(input, output,
+        Math.toIntExact(properties.chunkSize().toBytes()), properties.maxChunksInFlight());
+    log.info("Repriced {} rows, {} failed, in {} ms: {} rows/s, {} MB/s", report.rows(), report.failures(),
+        report.elapsed().toMillis(), String.format(Locale.ROOT, "%.0f", report.rowsPerSecond()),
+        String.format(Locale.ROOT, "%.1f", report.megabytesPerSecond()));
+  }
+}
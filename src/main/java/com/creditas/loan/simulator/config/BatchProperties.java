@@ -0,0 +1,15 @@
+package com.creditas.loan.simulator.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Limits applied to batch loan simulations.
+ *
+ * @param maxSize     maximum number of simulations accepted in a single batch
+ * @param parallelism number of workers in the simulation pool, {@code 0} uses every available processor
+ */
+@ConfigurationProperties(prefix = "loan.simulator.batch")
+public record BatchProperties(@DefaultValue("10000") int maxSize,
+                              @DefaultValue("0") int parallelism) {
+}
@@ -0,0 +1,29 @@
+package com.creditas.loan.simulator.config;
+
+import com.creditas.loan.simulator.converter.CompactCborModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+
+@Configuration
+@Profile("!reactive")
+public class BinaryFormatConfiguration {
+
+  /**
+   * Converter for {@code application/cbor} bodies, negotiated through the {@code Content-Type} and {@code Accept}
+   * headers. It takes the place of the default CBOR converter, after the JSON one, so JSON stays the default.
+   *
+   * @param builder the builder holding the application's Jackson settings
+   * @return the CBOR message converter
+   */
+  @Bean
+  public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(final Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2CborHttpMessageConverter(builder
+        .factory(new CBORFactory())
+        .postConfigurer(objectMapper -> objectMapper.registerModule(new CompactCborModule()))
+        .build());
+  }
+}
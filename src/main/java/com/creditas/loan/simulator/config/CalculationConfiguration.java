@@ -0,0 +1,74 @@
+package com.creditas.loan.simulator.config;
+
+import com.creditas.loan.simulator.service.AnnuityFactorTable;
+import com.creditas.loan.simulator.service.BigDecimalPaymentCalculator;
+import com.creditas.loan.simulator.service.CaffeineSimulationCache;
+import com.creditas.loan.simulator.service.DoublePaymentCalculator;
+import com.creditas.loan.simulator.service.NoOpSimulationCache;
+import com.creditas.loan.simulator.service.PaymentCalculator;
+import com.creditas.loan.simulator.service.SimulationCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({CalculationProperties.class, SimulationCacheProperties.class})
+public class CalculationConfiguration {
+
+  /**
+   * Payment calculator matching the configured calculation engine.
+   *
+   * @param properties the calculation properties holding the selected engine
+   * @return the payment calculator used by the loan service
+   */
+  @Bean
+  public PaymentCalculator paymentCalculator(final CalculationProperties properties) {
+    return switch (properties.engine()) {
+      case BIG_DECIMAL -> new BigDecimalPaymentCalculator();
+      case DOUBLE -> new DoublePaymentCalculator();
+      case ANNUITY_TABLE -> new AnnuityFactorTable(properties.maxCachedTerm());
+    };
+  }
+
+  /**
+   * Cache of repeated simulations, a pass-through one unless {@code loan.simulator.cache.enabled} is set. Its
+   * hit, miss and eviction counters and its size are published as {@code loan.simulation.cache.*} meters.
+   *
+   * @param properties    the cache properties holding its size and time to live
+   * @param meterRegistry the registry the cache meters are published to
+   * @return the simulation cache used by the loan service
+   */
+  @Bean
+  public SimulationCache simulationCache(final SimulationCacheProperties properties,
+                                         final MeterRegistry meterRegistry) {
+    SimulationCache cache;
+    if (properties.enabled()) {
+      cache = new CaffeineSimulationCache(properties.maximumSize(), properties.timeToLive(), Ticker.systemTicker());
+    } else {
+      cache = new NoOpSimulationCache();
+    }
+    bindMetrics(cache, meterRegistry);
+    return cache;
+  }
+
+  private static void bindMetrics(final SimulationCache cache, final MeterRegistry meterRegistry) {
+    FunctionCounter.builder("loan.simulation.cache.gets", cache, c -> c.stats().hits())
+        .description("Quotes served from the simulation cache")
+        .tag("result", "hit")
+        .register(meterRegistry);
+    FunctionCounter.builder("loan.simulation.cache.gets", cache, c -> c.stats().misses())
+        .description("Quotes calculated on a miss of the simulation cache")
+        .tag("result", "miss")
+        .register(meterRegistry);
+    FunctionCounter.builder("loan.simulation.cache.evictions", cache, c -> c.stats().evictions())
+        .description("Quotes evicted from the simulation cache by size or expiry")
+        .register(meterRegistry);
+    Gauge.builder("loan.simulation.cache.size", cache, c -> c.stats().size())
+        .description("Approximate number of quotes in the simulation cache")
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,30 @@
+package com.creditas.loan.simulator.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Selects how loan payments are calculated.
+ *
+ * @param engine        the calculation engine used by every simulation
+ * @param maxCachedTerm the longest term, in months, whose annuity factors are cached by the annuity-table engine
+ */
+@ConfigurationProperties(prefix = "loan.simulator.calculation")
+public record CalculationProperties(@DefaultValue("annuity-table") Engine engine,
+                                    @DefaultValue("1200") int maxCachedTerm) {
+
+  public enum Engine {
+    /**
+     * Exact {@link java.math.BigDecimal} arithmetic, the reference implementation.
+     */
+    BIG_DECIMAL,
+    /**
+     * Primitive {@code double} arithmetic, within a documented error bound of {@link #BIG_DECIMAL}.
+     */
+    DOUBLE,
+    /**
+     * Cached {@link java.math.BigDecimal} annuity factors per rate and term, matching {@link #BIG_DECIMAL}.
+     */
+    ANNUITY_TABLE
+  }
+}
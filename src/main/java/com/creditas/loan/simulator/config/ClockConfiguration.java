@@ -0,0 +1,43 @@
+package com.creditas.loan.simulator.config;
+
+import com.creditas.loan.simulator.exception.ErrorResponses;
+import com.creditas.loan.simulator.service.DailyClock;
+import java.time.Clock;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ClockConfiguration {
+
+  /**
+   * System clock in the default zone, shared by everything that needs the current time.
+   *
+   * @return the application clock
+   */
+  @Bean
+  public Clock clock() {
+    return Clock.systemDefaultZone();
+  }
+
+  /**
+   * Cached view of today's date built on the application clock.
+   *
+   * @param clock the application clock
+   * @return the daily clock
+   */
+  @Bean
+  public DailyClock dailyClock(final Clock clock) {
+    return new DailyClock(clock);
+  }
+
+  /**
+   * Builder of error bodies, timestamped with the application clock.
+   *
+   * @param clock the application clock
+   * @return the error responses
+   */
+  @Bean
+  public ErrorResponses errorResponses(final Clock clock) {
+    return new ErrorResponses(clock);
+  }
+}
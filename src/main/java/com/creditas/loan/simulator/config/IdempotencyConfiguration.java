@@ -0,0 +1,23 @@
+package com.creditas.loan.simulator.config;
+
+import com.creditas.loan.simulator.service.IdempotentSimulationCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfiguration {
+
+  /**
+   * Simulations remembered by idempotency key, replayed when a client retries a request.
+   *
+   * @param properties the idempotency properties holding how many keys are remembered and for how long
+   * @return the idempotent simulation cache used by the loan controller
+   */
+  @Bean
+  public IdempotentSimulationCache idempotentSimulationCache(final IdempotencyProperties properties) {
+    return new IdempotentSimulationCache(properties.maximumSize(), properties.timeToLive(), Ticker.systemTicker());
+  }
+}
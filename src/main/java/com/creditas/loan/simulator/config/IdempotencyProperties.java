@@ -0,0 +1,16 @@
+package com.creditas.loan.simulator.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Replay of simulations requested again with the same {@code Idempotency-Key} header.
+ *
+ * @param maximumSize the maximum number of keys remembered
+ * @param timeToLive  how long a key is remembered after its simulation was first requested
+ */
+@ConfigurationProperties(prefix = "loan.simulator.idempotency")
+public record IdempotencyProperties(@DefaultValue("100000") long maximumSize,
+                                    @DefaultValue("24h") Duration timeToLive) {
+}
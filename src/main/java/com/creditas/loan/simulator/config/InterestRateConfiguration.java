@@ -0,0 +1,82 @@
+package com.creditas.loan.simulator.config;
+
+import com.creditas.loan.simulator.service.AgeBasedInterestRateCalculator;
+import com.creditas.loan.simulator.service.DailyClock;
+import com.creditas.loan.simulator.service.InterestRateCalculator;
+import com.creditas.loan.simulator.service.MeteredInterestRateCalculator;
+import com.creditas.loan.simulator.service.RateBandTable;
+import com.creditas.loan.simulator.service.RatePolicy;
+import com.creditas.loan.simulator.service.RatePolicyFileWatcher;
+import com.creditas.loan.simulator.service.RatePolicyHolder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ThreadFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+@Configuration
+@EnableConfigurationProperties({InterestRateProperties.class, RatePolicyProperties.class})
+public class InterestRateConfiguration {
+
+  /**
+   * Holder of the rate policy in force, starting with the configured age bands.
+   *
+   * @param properties the interest rate properties holding the initial bands
+   * @return the rate policy holder
+   */
+  @Bean
+  public RatePolicyHolder ratePolicyHolder(final InterestRateProperties properties) {
+    return new RatePolicyHolder(new RatePolicy(properties.version(), RateBandTable.of(properties.bands())));
+  }
+
+  /**
+   * Age-based interest rate calculator, timed and counted per rate band.
+   *
+   * @param dailyClock       the clock used to compute the client's age
+   * @param ratePolicyHolder the holder of the rate policy in force
+   * @param meterRegistry    the registry receiving the calculator metrics
+   * @return the interest rate calculator
+   */
+  @Bean
+  public InterestRateCalculator interestRateCalculator(final DailyClock dailyClock,
+                                                       final RatePolicyHolder ratePolicyHolder,
+                                                       final MeterRegistry meterRegistry) {
+    return new MeteredInterestRateCalculator(new AgeBasedInterestRateCalculator(dailyClock, ratePolicyHolder),
+        meterRegistry);
+  }
+
+  /**
+   * Watcher that hot-reloads the rate policy from {@code loan.simulator.rate-policy.file}.
+   *
+   * @param properties   the rate policy properties holding the file and poll interval
+   * @param holder       the holder receiving every new policy
+   * @param objectMapper the mapper used to read the policy file
+   * @param environment  the environment telling whether virtual threads are enabled
+   * @return the started watcher
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "loan.simulator.rate-policy", name = "file")
+  public RatePolicyFileWatcher ratePolicyFileWatcher(final RatePolicyProperties properties,
+                                                     final RatePolicyHolder holder,
+                                                     final ObjectMapper objectMapper,
+                                                     final Environment environment) {
+    ThreadFactory threadFactory;
+    if (Threading.VIRTUAL.isActive(environment)) {
+      threadFactory = Thread.ofVirtual().name("rate-policy-watcher-", 1).factory();
+    } else {
+      CustomizableThreadFactory platformThreadFactory = new CustomizableThreadFactory("rate-policy-watcher-");
+      platformThreadFactory.setDaemon(true);
+      threadFactory = platformThreadFactory;
+    }
+
+    RatePolicyFileWatcher watcher =
+        new RatePolicyFileWatcher(properties.file(), holder, objectMapper, threadFactory);
+    watcher.start(properties.pollInterval());
+    return watcher;
+  }
+}
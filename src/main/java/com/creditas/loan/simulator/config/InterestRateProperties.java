@@ -0,0 +1,19 @@
+package com.creditas.loan.simulator.config;
+
+import com.creditas.loan.simulator.service.RateBand;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Age bands used to price loans until a rate policy file replaces them. They can be overridden through any
+ * external configuration source, e.g. an {@code application.properties} next to the jar or environment
+ * variables, without a new build.
+ *
+ * @param version the version reported for these bands
+ * @param bands   the rate bands ordered by age, the last one without a maximum age
+ */
+@ConfigurationProperties(prefix = "loan.simulator.interest-rate")
+public record InterestRateProperties(@DefaultValue("application") String version,
+                                     List<RateBand> bands) {
+}
@@ -0,0 +1,34 @@
+package com.creditas.loan.simulator.config;
+
+import com.creditas.loan.simulator.service.ClientPortfolio;
+import com.creditas.loan.simulator.service.ClientPortfolioReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PortfolioProperties.class)
+public class PortfolioConfiguration {
+
+  /**
+   * Client portfolio loaded once from {@code loan.simulator.portfolio.file}, or an empty one when no file is set.
+   *
+   * @param properties   the portfolio properties holding the file
+   * @param objectMapper the mapper whose factory parses the file
+   * @return the client portfolio
+   */
+  @Bean
+  public ClientPortfolio clientPortfolio(final PortfolioProperties properties, final ObjectMapper objectMapper) {
+    if (properties.file() == null) {
+      return ClientPortfolio.builder().build();
+    }
+    try {
+      return new ClientPortfolioReader(objectMapper.getFactory()).read(properties.file());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot load the client portfolio from " + properties.file(), e);
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package com.creditas.loan.simulator.config;
+
+import java.nio.file.Path;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Client portfolio served by the exposure endpoint.
+ *
+ * @param file the JSON file holding the clients with their contracts and installments, or {@code null} for an
+ *             empty portfolio
+ */
+@ConfigurationProperties(prefix = "loan.simulator.portfolio")
+public record PortfolioProperties(Path file) {
+}
@@ -0,0 +1,17 @@
+package com.creditas.loan.simulator.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Hot reloading of the rate policy.
+ *
+ * @param file         the rate policy file to watch; when absent the configured interest rate bands stay in force
+ * @param pollInterval the delay between two checks of the file
+ */
+@ConfigurationProperties(prefix = "loan.simulator.rate-policy")
+public record RatePolicyProperties(Path file,
+                                   @DefaultValue("5s") Duration pollInterval) {
+}
@@ -0,0 +1,59 @@
+package com.creditas.loan.simulator.config;
+
+import com.creditas.loan.simulator.controller.ReactiveLoanHandler;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RequestPredicates;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+@Profile("reactive")
+@EnableConfigurationProperties(ReactiveProperties.class)
+public class ReactiveConfiguration {
+
+  /**
+   * Netty server for the reactive stack. It is declared explicitly because Tomcat, also on the classpath for the
+   * servlet stack, would otherwise be picked as the reactive server.
+   *
+   * @return the Netty reactive web server factory
+   */
+  @Bean
+  public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+    return new NettyReactiveWebServerFactory();
+  }
+
+  /**
+   * Bounded scheduler running the CPU-bound simulations off the Netty event loop.
+   *
+   * @param properties the reactive properties holding the configured parallelism
+   * @return the scheduler dedicated to loan simulations
+   */
+  @Bean(destroyMethod = "dispose")
+  public Scheduler simulationScheduler(final ReactiveProperties properties) {
+    int parallelism = properties.parallelism();
+    if (parallelism <= 0) {
+      parallelism = Runtime.getRuntime().availableProcessors();
+    }
+    return Schedulers.newParallel("loan-simulation", parallelism);
+  }
+
+  /**
+   * Routes of the reactive entry point, mirroring the servlet {@code POST /v1/loans/simulate}.
+   *
+   * @param handler the handler serving the routes
+   * @return the router function of the loan API
+   */
+  @Bean
+  public RouterFunction<ServerResponse> loanRoutes(final ReactiveLoanHandler handler) {
+    return RouterFunctions.route(RequestPredicates.POST("/v1/loans/simulate")
+        .and(RequestPredicates.contentType(MediaType.APPLICATION_JSON)), handler::simulateLoan);
+  }
+}
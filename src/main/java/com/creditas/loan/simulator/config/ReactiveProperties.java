@@ -0,0 +1,14 @@
+package com.creditas.loan.simulator.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Reactive entry point settings, used under the {@code reactive} profile.
+ *
+ * @param parallelism number of threads of the scheduler running simulations; zero or less uses one per
+ *                    available processor
+ */
+@ConfigurationProperties(prefix = "loan.simulator.reactive")
+public record ReactiveProperties(@DefaultValue("0") int parallelism) {
+}
@@ -0,0 +1,27 @@
+package com.creditas.loan.simulator.config;
+
+import com.creditas.loan.simulator.LoanRepricingRunner;
+import com.creditas.loan.simulator.service.BulkRepricingService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RepricingProperties.class)
+public class RepricingConfiguration {
+
+  /**
+   * Runner repricing {@code loan.simulator.reprice.input} once the application has started.
+   *
+   * @param properties           the repricing properties holding the files and chunking
+   * @param bulkRepricingService the service repricing the file
+   * @return the repricing runner
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "loan.simulator.reprice", name = "input")
+  public LoanRepricingRunner loanRepricingRunner(final RepricingProperties properties,
+                                                 final BulkRepricingService bulkRepricingService) {
+    return new LoanRepricingRunner(properties, bulkRepricingService);
+  }
+}
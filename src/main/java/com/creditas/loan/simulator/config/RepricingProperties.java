@@ -0,0 +1,22 @@
+package com.creditas.loan.simulator.config;
+
+import java.nio.file.Path;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Offline repricing of a file of loan simulation requests, run at startup when an input file is set.
+ *
+ * @param input             the NDJSON or CSV file of requests, or {@code null} to skip repricing
+ * @param output            the NDJSON file of results, or {@code null} for the input file name followed by
+ *                          {@code .repriced.ndjson}
+ * @param chunkSize         the size of the chunks the input is read in, at least the length of its longest line
+ * @param maxChunksInFlight the number of chunks read ahead of the one being written, bounding memory use
+ */
+@ConfigurationProperties(prefix = "loan.simulator.reprice")
+public record RepricingProperties(Path input,
+                                  Path output,
+                                  @DefaultValue("1MB") DataSize chunkSize,
+                                  @DefaultValue("16") int maxChunksInFlight) {
+}
@@ -0,0 +1,18 @@
+package com.creditas.loan.simulator.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Caching of repeated simulations.
+ *
+ * @param enabled     whether quotes are cached
+ * @param maximumSize the maximum number of cached quotes
+ * @param timeToLive  how long a quote stays cached after it was calculated
+ */
+@ConfigurationProperties(prefix = "loan.simulator.cache")
+public record SimulationCacheProperties(@DefaultValue("false") boolean enabled,
+                                        @DefaultValue("10000") long maximumSize,
+                                        @DefaultValue("10m") Duration timeToLive) {
+}
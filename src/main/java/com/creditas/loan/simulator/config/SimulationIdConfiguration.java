@@ -0,0 +1,29 @@
+package com.creditas.loan.simulator.config;
+
+import com.creditas.loan.simulator.service.RandomSimulationIdGenerator;
+import com.creditas.loan.simulator.service.SimulationIdGenerator;
+import com.creditas.loan.simulator.service.TimeOrderedSimulationIdGenerator;
+import java.time.Clock;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(SimulationIdProperties.class)
+public class SimulationIdConfiguration {
+
+  /**
+   * Generator of simulation ids matching {@code loan.simulator.id.generator}.
+   *
+   * @param properties the id properties holding the selected generator
+   * @param clock      the application clock, timing time-ordered ids
+   * @return the simulation id generator used by the loan service
+   */
+  @Bean
+  public SimulationIdGenerator simulationIdGenerator(final SimulationIdProperties properties, final Clock clock) {
+    return switch (properties.generator()) {
+      case RANDOM -> new RandomSimulationIdGenerator();
+      case TIME_ORDERED -> new TimeOrderedSimulationIdGenerator(clock);
+    };
+  }
+}
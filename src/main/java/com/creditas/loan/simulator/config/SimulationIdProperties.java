@@ -0,0 +1,24 @@
+package com.creditas.loan.simulator.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Selects how simulation ids are generated.
+ *
+ * @param generator the generator of the id of every simulation issued
+ */
+@ConfigurationProperties(prefix = "loan.simulator.id")
+public record SimulationIdProperties(@DefaultValue("random") Generator generator) {
+
+  public enum Generator {
+    /**
+     * Random version 4 UUIDs, which cannot be predicted.
+     */
+    RANDOM,
+    /**
+     * Monotonic version 7 UUIDs, sorted by the time they were issued and generated without contention.
+     */
+    TIME_ORDERED
+  }
+}
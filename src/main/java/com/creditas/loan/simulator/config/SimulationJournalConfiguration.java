@@ -0,0 +1,46 @@
+package com.creditas.loan.simulator.config;
+
+import com.creditas.loan.simulator.service.MappedSimulationJournal;
+import com.creditas.loan.simulator.service.NoOpSimulationStore;
+import com.creditas.loan.simulator.service.SimulationStore;
+import java.util.concurrent.ThreadFactory;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+@Configuration
+@EnableConfigurationProperties(SimulationJournalProperties.class)
+public class SimulationJournalConfiguration {
+
+  /**
+   * Store of issued simulations, a journal in {@code loan.simulator.journal.directory} when
+   * {@code loan.simulator.journal.enabled} is set, and one keeping nothing otherwise. The journal is closed, and
+   * forced to disk, when the context shuts down.
+   *
+   * @param properties  the journal properties holding its directory, segment size and fsync policy
+   * @param environment the environment telling whether virtual threads are enabled
+   * @return the simulation store used by the loan service
+   */
+  @Bean
+  public SimulationStore simulationStore(final SimulationJournalProperties properties,
+                                         final Environment environment) {
+    if (!properties.enabled()) {
+      return new NoOpSimulationStore();
+    }
+
+    ThreadFactory threadFactory;
+    if (Threading.VIRTUAL.isActive(environment)) {
+      threadFactory = Thread.ofVirtual().name("simulation-journal-flusher-", 1).factory();
+    } else {
+      CustomizableThreadFactory platformThreadFactory = new CustomizableThreadFactory("simulation-journal-flusher-");
+      platformThreadFactory.setDaemon(true);
+      threadFactory = platformThreadFactory;
+    }
+
+    return MappedSimulationJournal.open(properties.directory(), Math.toIntExact(properties.segmentSize().toBytes()),
+        properties.fsyncPolicy(), properties.fsyncInterval(), threadFactory);
+  }
+}
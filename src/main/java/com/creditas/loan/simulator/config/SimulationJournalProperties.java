@@ -0,0 +1,25 @@
+package com.creditas.loan.simulator.config;
+
+import com.creditas.loan.simulator.service.FsyncPolicy;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Journal of every simulation issued.
+ *
+ * @param enabled       whether simulations are journaled and can be retrieved by id
+ * @param directory     the directory holding the journal segment files
+ * @param segmentSize   the size of each segment file, a multiple of 256 bytes
+ * @param fsyncPolicy   when records are forced to disk: none, group or sync
+ * @param fsyncInterval the longest delay between two forces of the journal
+ */
+@ConfigurationProperties(prefix = "loan.simulator.journal")
+public record SimulationJournalProperties(@DefaultValue("false") boolean enabled,
+                                          @DefaultValue("data/journal") Path directory,
+                                          @DefaultValue("64MB") DataSize segmentSize,
+                                          @DefaultValue("group") FsyncPolicy fsyncPolicy,
+                                          @DefaultValue("100ms") Duration fsyncInterval) {
+}
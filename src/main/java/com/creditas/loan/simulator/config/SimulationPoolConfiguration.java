@@ -0,0 +1,27 @@
+package com.creditas.loan.simulator.config;
+
+import java.util.concurrent.ForkJoinPool;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(BatchProperties.class)
+public class SimulationPoolConfiguration {
+
+  /**
+   * Bounded fork-join pool used to fan batch simulations out across CPU cores.
+   * It is kept apart from the common pool so batch traffic cannot starve other parallel work.
+   *
+   * @param properties the batch properties holding the configured parallelism
+   * @return the pool dedicated to loan simulations
+   */
+  @Bean(destroyMethod = "shutdown")
+  public ForkJoinPool simulationPool(final BatchProperties properties) {
+    int parallelism = properties.parallelism();
+    if (parallelism <= 0) {
+      parallelism = Runtime.getRuntime().availableProcessors();
+    }
+    return new ForkJoinPool(parallelism);
+  }
+}
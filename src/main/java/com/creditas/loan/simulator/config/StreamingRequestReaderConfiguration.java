@@ -0,0 +1,60 @@
+package com.creditas.loan.simulator.config;
+
+import com.creditas.loan.simulator.converter.LoanSimulationRequestParser;
+import com.creditas.loan.simulator.converter.PrevalidatedRequestValidator;
+import com.creditas.loan.simulator.converter.StreamingLoanSimulationRequestConverter;
+import com.creditas.loan.simulator.service.DailyClock;
+import com.creditas.loan.simulator.service.SimulationStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Reads loan simulation requests with the streaming parser instead of Jackson data binding plus Bean Validation,
+ * when {@code loan.simulator.request.reader} is {@code streaming}.
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(prefix = "loan.simulator.request", name = "reader", havingValue = "streaming")
+public class StreamingRequestReaderConfiguration implements WebMvcConfigurer {
+
+  private final jakarta.validation.Validator beanValidator;
+
+  public StreamingRequestReaderConfiguration(final jakarta.validation.Validator beanValidator) {
+    this.beanValidator = beanValidator;
+  }
+
+  /**
+   * Converter reading loan simulation requests with the streaming parser, registered ahead of the default
+   * converters and falling back to Jackson for bodies the parser does not handle.
+   *
+   * @param objectMapper    the application mapper, whose factory the parser reads with
+   * @param dailyClock      the clock telling whether the birth date is in the past
+   * @param simulationStore the simulation store, whose client id limit the parser checks
+   * @return the streaming request converter
+   */
+  @Bean
+  public StreamingLoanSimulationRequestConverter streamingLoanSimulationRequestConverter(
+      final ObjectMapper objectMapper, final DailyClock dailyClock, final SimulationStore simulationStore) {
+    return new StreamingLoanSimulationRequestConverter(
+        new LoanSimulationRequestParser(objectMapper.getFactory(), dailyClock, simulationStore.maxClientIdBytes()),
+        new MappingJackson2HttpMessageConverter(objectMapper));
+  }
+
+  /**
+   * MVC validator reporting the violations found by the streaming parser instead of validating those requests
+   * again, and using Bean Validation for everything else.
+   *
+   * @return the MVC validator
+   */
+  @Override
+  public Validator getValidator() {
+    return new PrevalidatedRequestValidator(new SpringValidatorAdapter(beanValidator));
+  }
+}
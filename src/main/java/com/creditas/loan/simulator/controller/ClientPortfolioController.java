@@ -0,0 +1,44 @@
+package com.creditas.loan.simulator.controller;
+
+import com.creditas.loan.simulator.dto.ClientExposureResponse;
+import com.creditas.loan.simulator.dto.error.ErrorResponse;
+import com.creditas.loan.simulator.service.ClientExposureService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequestMapping("/v1/portfolio/clients")
+@RestController
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class ClientPortfolioController {
+
+  private final ClientExposureService clientExposureService;
+
+  /**
+   * Returns the exposure of a client across all its contracts.
+   *
+   * @param idOrEmail the id or the email of the client
+   * @return a response entity containing the client's outstanding balance, remaining interest and next due
+   *         installment
+   */
+  @GetMapping("/{idOrEmail}/exposure")
+  @Operation(summary = "Retrieve a client's exposure", description = "This endpoint returns the outstanding balance, remaining interest and next due installment of a client of the portfolio, found by id or email.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Client exposure found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ClientExposureResponse.class))),
+      @ApiResponse(responseCode = "404", description = "No client has this id or email", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+      @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+  })
+  public ResponseEntity<ClientExposureResponse> exposure(@PathVariable final String idOrEmail) {
+    return ResponseEntity.ok(clientExposureService.exposureOf(idOrEmail));
+  }
+}
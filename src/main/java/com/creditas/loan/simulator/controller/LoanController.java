@@ -1,8 +1,11 @@
 package com.creditas.loan.simulator.controller;
 
+import com.creditas.loan.simulator.dto.LoanSimulationBatchResponse;
 import com.creditas.loan.simulator.dto.LoanSimulationRequest;
 import com.creditas.loan.simulator.dto.LoanSimulationResponse;
 import com.creditas.loan.simulator.dto.error.ErrorResponse;
+import com.creditas.loan.simulator.service.IdempotentSimulationCache;
+import com.creditas.loan.simulator.service.LoanBatchService;
 import com.creditas.loan.simulator.service.LoanService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -10,24 +13,35 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @RequestMapping("/v1/loans")
 @RestController
+@Profile("!reactive")
 @RequiredArgsConstructor
 public class LoanController {
 
+  private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
   private final LoanService loanService;
+  private final LoanBatchService loanBatchService;
+  private final IdempotentSimulationCache idempotentSimulationCache;
 
   /**
-   * Simulates a loan based on the provided request parameters.
+   * Simulates a loan based on the provided request parameters. A request sent again with the same idempotency
+   * key returns the simulation issued the first time, with the same id, without simulating again.
    *
-   * @param request the loan simulation request containing the necessary parameters
+   * @param request        the loan simulation request containing the necessary parameters
+   * @param idempotencyKey the client's key for the request, or {@code null} to always simulate
    * @return a response entity containing the loan simulation response with rounded values
    */
   @PostMapping("/simulate")
@@ -35,6 +49,7 @@ public class LoanController {
   @ApiResponses(value = {
       @ApiResponse(responseCode = "200", description = "Loan simulation successful", content = @Content(mediaType = "application/json", schema = @Schema(implementation = LoanSimulationResponse.class))),
       @ApiResponse(responseCode = "400", description = "Invalid request parameters", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+      @ApiResponse(responseCode = "422", description = "Idempotency key already used for a different request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
       @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class, example = """
         {
           "error": "Internal Server Error",
@@ -45,8 +60,34 @@ public class LoanController {
         """)))
   })
   public ResponseEntity<LoanSimulationResponse> simulateLoan(
-      @Valid @RequestBody final LoanSimulationRequest request) {
-    LoanSimulationResponse response = loanService.calculateLoanSimulation(request);
-    return ResponseEntity.ok(response.withRoundedValues());
+      @Valid @RequestBody final LoanSimulationRequest request,
+      @RequestHeader(name = "Idempotency-Key", required = false)
+      @Size(min = 1, max = MAX_IDEMPOTENCY_KEY_LENGTH, message = "Idempotency key must have 1 to 255 characters")
+      final String idempotencyKey) {
+    if (idempotencyKey == null) {
+      return ResponseEntity.ok(loanService.calculateLoanSimulation(request).withRoundedValues());
+    }
+    // Rounded before it is cached, since the cached response is shared by every request with the key
+    return ResponseEntity.ok(idempotentSimulationCache.get(idempotencyKey, request,
+        () -> loanService.calculateLoanSimulation(request).withRoundedValues()));
+  }
+
+  /**
+   * Simulates a batch of loans in a single call. Each item is validated independently and the
+   * batch is evaluated in parallel, so invalid items are reported alongside the successful ones.
+   *
+   * @param requests the loan simulation requests to evaluate
+   * @return a response entity containing the per-item results, in submission order
+   */
+  @PostMapping("/simulate/batch")
+  @Operation(summary = "Simulate a batch of loans", description = "This endpoint simulates several loans at once, reporting per-item errors next to the successful simulations.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Batch processed, see each item for its outcome", content = @Content(mediaType = "application/json", schema = @Schema(implementation = LoanSimulationBatchResponse.class))),
+      @ApiResponse(responseCode = "400", description = "Empty, oversized or malformed batch", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+      @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+  })
+  public ResponseEntity<LoanSimulationBatchResponse> simulateBatch(
+      @RequestBody final List<LoanSimulationRequest> requests) {
+    return ResponseEntity.ok(loanBatchService.simulateBatch(requests));
   }
 }
@@ -0,0 +1,45 @@
+package com.creditas.loan.simulator.controller;
+
+import com.creditas.loan.simulator.dto.LoanOfferGridRequest;
+import com.creditas.loan.simulator.dto.LoanOfferGridResponse;
+import com.creditas.loan.simulator.dto.error.ErrorResponse;
+import com.creditas.loan.simulator.service.LoanOfferGridService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequestMapping("/v1/loans")
+@RestController
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class LoanOfferGridController {
+
+  private final LoanOfferGridService loanOfferGridService;
+
+  /**
+   * Simulates every combination of the given amounts and terms for one client in a single call.
+   *
+   * @param request the grid request containing the client's birth date, the amounts and the terms
+   * @return a response entity containing the monthly installments indexed by term and then by amount
+   */
+  @PostMapping("/simulate/grid")
+  @Operation(summary = "Simulate a grid of loan offers", description = "This endpoint returns the monthly installment of every requested amount for every requested term, at the client's rate.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Loan offer grid successful", content = @Content(mediaType = "application/json", schema = @Schema(implementation = LoanOfferGridResponse.class))),
+      @ApiResponse(responseCode = "400", description = "Invalid request parameters", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+      @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+  })
+  public ResponseEntity<LoanOfferGridResponse> simulateGrid(@Valid @RequestBody final LoanOfferGridRequest request) {
+    return ResponseEntity.ok(loanOfferGridService.calculateOfferGrid(request));
+  }
+}
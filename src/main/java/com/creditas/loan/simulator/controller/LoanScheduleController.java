@@ -0,0 +1,59 @@
+package com.creditas.loan.simulator.controller;
+
+import com.creditas.loan.simulator.dto.AmortizationScheduleResponse;
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.creditas.loan.simulator.dto.error.ErrorResponse;
+import com.creditas.loan.simulator.service.LoanService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequestMapping("/v1/loans")
+@RestController
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class LoanScheduleController {
+
+  private static final int MAX_PAGE_SIZE = 600;
+
+  private final LoanService loanService;
+
+  /**
+   * Simulates a loan and returns one page of its month-by-month amortization schedule.
+   *
+   * @param request the loan simulation request containing the necessary parameters
+   * @param page    the zero-based page of the schedule
+   * @param size    the maximum number of installments per page
+   * @return a response entity containing the rounded simulation and the installments of the page
+   */
+  @PostMapping("/simulate/schedule")
+  @Operation(summary = "Simulate a loan with its amortization schedule", description = "This endpoint simulates a loan and returns a page of its installments with principal, interest, balance and due date.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Loan simulation successful", content = @Content(mediaType = "application/json", schema = @Schema(implementation = AmortizationScheduleResponse.class))),
+      @ApiResponse(responseCode = "400", description = "Invalid request parameters", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+      @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+  })
+  public ResponseEntity<AmortizationScheduleResponse> simulateSchedule(
+      @Valid @RequestBody final LoanSimulationRequest request,
+      @RequestParam(defaultValue = "0")
+      @PositiveOrZero(message = "Page must not be negative") final int page,
+      @RequestParam(defaultValue = "120")
+      @Positive(message = "Page size must be positive")
+      @Max(value = MAX_PAGE_SIZE, message = "Page size must not exceed 600") final int size) {
+    return ResponseEntity.ok(loanService.calculateAmortizationSchedule(request, page, size));
+  }
+}
@@ -0,0 +1,43 @@
+package com.creditas.loan.simulator.controller;
+
+import com.creditas.loan.simulator.dto.LoanSimulationResponse;
+import com.creditas.loan.simulator.dto.error.ErrorResponse;
+import com.creditas.loan.simulator.service.LoanService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequestMapping("/v1/loans/simulations")
+@RestController
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class LoanSimulationController {
+
+  private final LoanService loanService;
+
+  /**
+   * Retrieves a simulation issued earlier from the simulation journal.
+   *
+   * @param id the id of the simulation
+   * @return a response entity containing the rounded simulation
+   */
+  @GetMapping("/{id}")
+  @Operation(summary = "Retrieve a loan simulation", description = "This endpoint returns a simulation issued earlier, when the simulation journal is enabled.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Loan simulation found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = LoanSimulationResponse.class))),
+      @ApiResponse(responseCode = "404", description = "No simulation with this id was recorded", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+      @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+  })
+  public ResponseEntity<LoanSimulationResponse> findSimulation(@PathVariable final String id) {
+    return ResponseEntity.ok(loanService.findSimulation(id).withRoundedValues());
+  }
+}
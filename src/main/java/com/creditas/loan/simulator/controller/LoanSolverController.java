@@ -0,0 +1,66 @@
+package com.creditas.loan.simulator.controller;
+
+import com.creditas.loan.simulator.dto.LoanSimulationResponse;
+import com.creditas.loan.simulator.dto.MaxLoanAmountRequest;
+import com.creditas.loan.simulator.dto.MinLoanTermRequest;
+import com.creditas.loan.simulator.dto.error.ErrorResponse;
+import com.creditas.loan.simulator.service.LoanService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequestMapping("/v1/loans/solve")
+@RestController
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class LoanSolverController {
+
+  private final LoanService loanService;
+
+  /**
+   * Finds the largest loan a monthly installment affords over the requested term.
+   *
+   * @param request the request containing the client's birth date, the budget and the term
+   * @return a response entity containing the rounded simulation of the largest affordable loan
+   */
+  @PostMapping("/max-amount")
+  @Operation(summary = "Solve the largest affordable loan amount", description = "This endpoint returns the simulation of the largest loan whose monthly installment does not exceed the given one.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Loan amount solved", content = @Content(mediaType = "application/json", schema = @Schema(implementation = LoanSimulationResponse.class))),
+      @ApiResponse(responseCode = "400", description = "Invalid request parameters", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+      @ApiResponse(responseCode = "422", description = "No accepted loan amount fits the installment", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+      @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+  })
+  public ResponseEntity<LoanSimulationResponse> solveMaxAmount(
+      @Valid @RequestBody final MaxLoanAmountRequest request) {
+    return ResponseEntity.ok(loanService.calculateMaxLoanAmount(request).withRoundedValues());
+  }
+
+  /**
+   * Finds the shortest term over which a loan is repaid within a monthly installment.
+   *
+   * @param request the request containing the client's birth date, the amount and the budget
+   * @return a response entity containing the rounded simulation over the shortest affordable term
+   */
+  @PostMapping("/min-term")
+  @Operation(summary = "Solve the shortest affordable loan term", description = "This endpoint returns the simulation of the loan over the fewest months whose monthly installment does not exceed the given one.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Loan term solved", content = @Content(mediaType = "application/json", schema = @Schema(implementation = LoanSimulationResponse.class))),
+      @ApiResponse(responseCode = "400", description = "Invalid request parameters", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+      @ApiResponse(responseCode = "422", description = "No term up to 600 months fits the installment", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+      @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+  })
+  public ResponseEntity<LoanSimulationResponse> solveMinTerm(@Valid @RequestBody final MinLoanTermRequest request) {
+    return ResponseEntity.ok(loanService.calculateMinLoanTerm(request).withRoundedValues());
+  }
+}
@@ -0,0 +1,47 @@
+package com.creditas.loan.simulator.controller;
+
+import com.creditas.loan.simulator.dto.LoanSimulationBatchItem;
+import com.creditas.loan.simulator.service.LoanStreamService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequestMapping("/v1/loans")
+@RestController
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class LoanStreamController {
+
+  private final LoanStreamService loanStreamService;
+
+  /**
+   * Simulates a newline-delimited JSON stream of loans. Each input line is answered with one output line
+   * as soon as it is computed, so arbitrarily large inputs are processed with constant memory.
+   *
+   * @param request  the servlet request carrying the NDJSON stream of loan simulation requests
+   * @param response the servlet response receiving one NDJSON result line per request line
+   * @throws IOException if reading the request or writing the response fails
+   */
+  @PostMapping(value = "/simulate/stream", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+      produces = MediaType.APPLICATION_NDJSON_VALUE)
+  @Operation(summary = "Simulate a stream of loans", description = "This endpoint reads one loan simulation request per line and writes one result per line, in the same order.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Stream processed, see each line for its outcome", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = LoanSimulationBatchItem.class)))
+  })
+  public void simulateStream(final HttpServletRequest request,
+                             final HttpServletResponse response) throws IOException {
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    loanStreamService.simulateStream(request.getInputStream(), response.getOutputStream());
+  }
+}
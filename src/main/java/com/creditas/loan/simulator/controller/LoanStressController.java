@@ -0,0 +1,46 @@
+package com.creditas.loan.simulator.controller;
+
+import com.creditas.loan.simulator.dto.RateShockStressRequest;
+import com.creditas.loan.simulator.dto.RateShockStressResponse;
+import com.creditas.loan.simulator.dto.error.ErrorResponse;
+import com.creditas.loan.simulator.service.RateShockStressService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequestMapping("/v1/loans/stress")
+@RestController
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class LoanStressController {
+
+  private final RateShockStressService rateShockStressService;
+
+  /**
+   * Stresses a loan portfolio under random shocks to the rate of each age band.
+   *
+   * @param request the portfolio, the number of scenarios and the distribution of the shocks
+   * @return a response entity containing the distributions of total interest and monthly installments
+   */
+  @PostMapping("/rate-shock")
+  @Operation(summary = "Stress a portfolio under rate shocks", description = "This endpoint runs a Monte Carlo simulation of normally distributed shocks to each age band's rate and returns percentiles of the portfolio's total interest and monthly installments.")
+  @ApiResponses(value = {
+      @ApiResponse(responseCode = "200", description = "Stress test successful", content = @Content(mediaType = "application/json", schema = @Schema(implementation = RateShockStressResponse.class))),
+      @ApiResponse(responseCode = "400", description = "Invalid request parameters", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+      @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+  })
+  public ResponseEntity<RateShockStressResponse> stressRateShock(
+      @Valid @RequestBody final RateShockStressRequest request) {
+    return ResponseEntity.ok(rateShockStressService.simulate(request));
+  }
+}
@@ -0,0 +1,81 @@
+package com.creditas.loan.simulator.controller;
+
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.creditas.loan.simulator.dto.error.ErrorResponse;
+import com.creditas.loan.simulator.exception.ErrorResponses;
+import com.creditas.loan.simulator.service.LoanService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Reactive counterpart of {@link LoanController#simulateLoan}, served by Netty under the {@code reactive}
+ * profile. The request is read and validated on the event loop, while the CPU-bound simulation runs on the
+ * bounded simulation scheduler so event-loop threads only ever do I/O. Errors are reported with the same
+ * bodies as the servlet stack.
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveLoanHandler {
+
+  private final LoanService loanService;
+  private final Validator validator;
+  private final Scheduler simulationScheduler;
+  private final ErrorResponses errorResponses;
+
+  /**
+   * Simulates a loan based on the request body.
+   *
+   * @param request the server request carrying a loan simulation request
+   * @return the rounded simulation, or the error body explaining why it could not be computed
+   */
+  public Mono<ServerResponse> simulateLoan(final ServerRequest request) {
+    return request.bodyToMono(LoanSimulationRequest.class)
+        .flatMap(this::simulate)
+        .switchIfEmpty(Mono.defer(() -> respond(HttpStatus.BAD_REQUEST, errorResponses.parseError(null))))
+        .onErrorResume(ServerWebInputException.class,
+            ex -> respond(HttpStatus.BAD_REQUEST, errorResponses.parseError(decodingCause(ex))))
+        .onErrorResume(ex -> !(ex instanceof ServerWebInputException),
+            ex -> respond(HttpStatus.INTERNAL_SERVER_ERROR, errorResponses.internalError()));
+  }
+
+  private Mono<ServerResponse> simulate(final LoanSimulationRequest simulationRequest) {
+    Set<ConstraintViolation<LoanSimulationRequest>> violations = validator.validate(simulationRequest);
+    if (!violations.isEmpty()) {
+      Map<String, String> errors = new HashMap<>();
+      violations.forEach(violation ->
+          errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+      return respond(HttpStatus.BAD_REQUEST, errorResponses.validationError(errors));
+    }
+
+    return Mono.fromCallable(() -> loanService.calculateLoanSimulation(simulationRequest).withRoundedValues())
+        .subscribeOn(simulationScheduler)
+        .flatMap(response -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(response));
+  }
+
+  private static Throwable decodingCause(final ServerWebInputException ex) {
+    Throwable cause = ex.getCause();
+    if (cause instanceof DecodingException) {
+      return cause.getCause();
+    }
+    return cause;
+  }
+
+  private static Mono<ServerResponse> respond(final HttpStatus status, final ErrorResponse body) {
+    return ServerResponse.status(status).contentType(MediaType.APPLICATION_JSON).bodyValue(body);
+  }
+}
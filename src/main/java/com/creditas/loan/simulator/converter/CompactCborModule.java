@@ -0,0 +1,73 @@
+package com.creditas.loan.simulator.converter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Jackson module for the binary wire format, carrying dates as epoch days instead of ISO text.
+ *
+ * <p>Amounts need nothing here: CBOR writes a {@link java.math.BigDecimal} as a decimal fraction (tag 4), the
+ * pair of its negated scale and its unscaled value, which is a plain long for every amount this API handles.
+ */
+public final class CompactCborModule extends SimpleModule {
+
+  private static final long serialVersionUID = 1L;
+
+  public CompactCborModule() {
+    super("CompactCborModule");
+    addSerializer(LocalDate.class, new EpochDaySerializer());
+    addDeserializer(LocalDate.class, new EpochDayDeserializer());
+  }
+
+  private static final class EpochDaySerializer extends StdScalarSerializer<LocalDate> {
+
+    private static final long serialVersionUID = 1L;
+
+    EpochDaySerializer() {
+      super(LocalDate.class);
+    }
+
+    @Override
+    public void serialize(final LocalDate value, final JsonGenerator generator, final SerializerProvider provider)
+        throws IOException {
+      generator.writeNumber(value.toEpochDay());
+    }
+  }
+
+  /**
+   * Reads epoch days, and ISO dates too so callers can move to the compact form at their own pace.
+   */
+  private static final class EpochDayDeserializer extends StdScalarDeserializer<LocalDate> {
+
+    private static final long serialVersionUID = 1L;
+
+    EpochDayDeserializer() {
+      super(LocalDate.class);
+    }
+
+    @Override
+    public LocalDate deserialize(final JsonParser parser, final DeserializationContext context) throws IOException {
+      if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+        return LocalDate.ofEpochDay(parser.getLongValue());
+      }
+      if (parser.currentToken() == JsonToken.VALUE_STRING) {
+        String text = parser.getText();
+        try {
+          return LocalDate.parse(text);
+        } catch (DateTimeParseException ex) {
+          return (LocalDate) context.handleWeirdStringValue(LocalDate.class, text, ex.getMessage());
+        }
+      }
+      return (LocalDate) context.handleUnexpectedToken(LocalDate.class, parser);
+    }
+  }
+}
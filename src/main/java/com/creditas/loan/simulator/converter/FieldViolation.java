@@ -0,0 +1,11 @@
+package com.creditas.loan.simulator.converter;
+
+/**
+ * A constraint a request field does not satisfy, as Bean Validation would report it.
+ *
+ * @param field      the name of the invalid property
+ * @param constraint the simple name of the violated constraint annotation, used as error code
+ * @param message    the message of the violated constraint
+ */
+public record FieldViolation(String field, String constraint, String message) {
+}
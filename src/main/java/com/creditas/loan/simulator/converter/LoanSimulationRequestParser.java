@@ -0,0 +1,243 @@
+package com.creditas.loan.simulator.converter;
+
+import com.creditas.loan.simulator.dto.ClientIdSizeValidator;
+import com.creditas.loan.simulator.service.DailyClock;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a loan simulation request straight from the token stream and checks the constraints declared on
+ * {@link com.creditas.loan.simulator.dto.LoanSimulationRequest} inline, without reflective binding nor a Bean
+ * Validation pass.
+ *
+ * <p>Only the plain shape clients send is handled: an object holding the four snake_case fields, with numbers as
+ * JSON numbers and the birth date as an ISO date. Anything else, including malformed JSON, makes {@link #parse}
+ * return {@code null} so the caller can hand the body to Jackson, which reports it the way it always has.
+ */
+public final class LoanSimulationRequestParser {
+
+  private static final BigDecimal MIN_LOAN_AMOUNT = new BigDecimal("1.00");
+  private static final BigDecimal MAX_LOAN_AMOUNT = new BigDecimal("1000000.00");
+
+  private static final int LOAN_AMOUNT_NULL = 1;
+  private static final int LOAN_AMOUNT_NOT_POSITIVE = LOAN_AMOUNT_NULL << 1;
+  private static final int LOAN_AMOUNT_TOO_LOW = LOAN_AMOUNT_NOT_POSITIVE << 1;
+  private static final int LOAN_AMOUNT_TOO_HIGH = LOAN_AMOUNT_TOO_LOW << 1;
+  private static final int BIRTH_DATE_NULL = LOAN_AMOUNT_TOO_HIGH << 1;
+  private static final int BIRTH_DATE_NOT_PAST = BIRTH_DATE_NULL << 1;
+  private static final int LOAN_TERM_NULL = BIRTH_DATE_NOT_PAST << 1;
+  private static final int LOAN_TERM_NOT_POSITIVE = LOAN_TERM_NULL << 1;
+  private static final int CLIENT_ID_TOO_LONG = LOAN_TERM_NOT_POSITIVE << 1;
+
+  /**
+   * Every violation but the client id one, whose message names the limit, at the index of its bit in the masks
+   * above.
+   */
+  private static final List<FieldViolation> FIXED_VIOLATIONS = List.of(
+      new FieldViolation("loanAmount", "NotNull", "Loan amount must not be null"),
+      new FieldViolation("loanAmount", "Positive", "Loan amount must be positive"),
+      new FieldViolation("loanAmount", "DecimalMin", "Loan amount must be at least 1.00"),
+      new FieldViolation("loanAmount", "DecimalMax", "Loan amount must not exceed 1,000,000.00"),
+      new FieldViolation("clientBirthDate", "NotNull", "Client birth date must not be null"),
+      new FieldViolation("clientBirthDate", "Past", "Client birth date must be in the past"),
+      new FieldViolation("loanTermInMonths", "NotNull", "Loan term in months must not be null"),
+      new FieldViolation("loanTermInMonths", "Positive", "Loan term in months must be positive"));
+
+  private final JsonFactory jsonFactory;
+  private final DailyClock dailyClock;
+  private final int maxClientIdBytes;
+
+  /**
+   * The violation list of every combination of violations, so validating a request never allocates.
+   */
+  private final List<List<FieldViolation>> violationsByMask;
+
+  /**
+   * Creates a parser.
+   *
+   * @param jsonFactory      the factory of the token stream
+   * @param dailyClock       the clock telling whether the birth date is in the past
+   * @param maxClientIdBytes the longest valid client id in bytes of UTF-8, as checked by
+   *                         {@link com.creditas.loan.simulator.dto.ClientIdSize}
+   */
+  public LoanSimulationRequestParser(final JsonFactory jsonFactory, final DailyClock dailyClock,
+                                     final int maxClientIdBytes) {
+    this.jsonFactory = jsonFactory;
+    this.dailyClock = dailyClock;
+    this.maxClientIdBytes = maxClientIdBytes;
+    this.violationsByMask = violationsByMask(maxClientIdBytes);
+  }
+
+  /**
+   * Parses and validates a request body.
+   *
+   * @param body the request body
+   * @return the request with its constraint violations, or {@code null} when the body has to be read by Jackson
+   */
+  public ValidatedLoanSimulationRequest parse(final byte[] body) {
+    try (JsonParser parser = jsonFactory.createParser(body)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return null;
+      }
+      return readFields(parser);
+    } catch (IOException | DateTimeParseException | UnsupportedInputException ex) {
+      return null;
+    }
+  }
+
+  private ValidatedLoanSimulationRequest readFields(final JsonParser parser) throws IOException {
+    String clientId = null;
+    BigDecimal loanAmount = null;
+    LocalDate clientBirthDate = null;
+    Integer loanTermInMonths = null;
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.currentName();
+      JsonToken value = parser.nextToken();
+      switch (fieldName) {
+        case "client_id" -> clientId = readString(parser, value);
+        case "loan_amount" -> loanAmount = readDecimal(parser, value);
+        case "client_birth_date" -> clientBirthDate = readDate(parser, value);
+        case "loan_term_in_months" -> loanTermInMonths = readInteger(parser, value);
+        default -> throw UnsupportedInputException.INSTANCE;
+      }
+    }
+    if (parser.currentToken() != JsonToken.END_OBJECT) {
+      throw UnsupportedInputException.INSTANCE;
+    }
+
+    return new ValidatedLoanSimulationRequest(clientId, loanAmount, clientBirthDate, loanTermInMonths,
+        validate(clientId, loanAmount, clientBirthDate, loanTermInMonths));
+  }
+
+  private List<FieldViolation> validate(final String clientId,
+                                        final BigDecimal loanAmount,
+                                        final LocalDate clientBirthDate,
+                                        final Integer loanTermInMonths) {
+    return violationsByMask.get(clientIdViolations(clientId)
+        | loanAmountViolations(loanAmount)
+        | birthDateViolations(clientBirthDate)
+        | loanTermViolations(loanTermInMonths));
+  }
+
+  private int clientIdViolations(final String clientId) {
+    if (ClientIdSizeValidator.fits(clientId, maxClientIdBytes)) {
+      return 0;
+    }
+    return CLIENT_ID_TOO_LONG;
+  }
+
+  private static int loanAmountViolations(final BigDecimal loanAmount) {
+    if (loanAmount == null) {
+      return LOAN_AMOUNT_NULL;
+    }
+    int mask = 0;
+    if (loanAmount.signum() <= 0) {
+      mask |= LOAN_AMOUNT_NOT_POSITIVE;
+    }
+    if (loanAmount.compareTo(MIN_LOAN_AMOUNT) < 0) {
+      mask |= LOAN_AMOUNT_TOO_LOW;
+    }
+    if (loanAmount.compareTo(MAX_LOAN_AMOUNT) > 0) {
+      mask |= LOAN_AMOUNT_TOO_HIGH;
+    }
+    return mask;
+  }
+
+  private int birthDateViolations(final LocalDate clientBirthDate) {
+    if (clientBirthDate == null) {
+      return BIRTH_DATE_NULL;
+    }
+    if (!clientBirthDate.isBefore(dailyClock.today())) {
+      return BIRTH_DATE_NOT_PAST;
+    }
+    return 0;
+  }
+
+  private static int loanTermViolations(final Integer loanTermInMonths) {
+    if (loanTermInMonths == null) {
+      return LOAN_TERM_NULL;
+    }
+    if (loanTermInMonths <= 0) {
+      return LOAN_TERM_NOT_POSITIVE;
+    }
+    return 0;
+  }
+
+  private static List<List<FieldViolation>> violationsByMask(final int maxClientIdBytes) {
+    List<FieldViolation> allViolations = new ArrayList<>(FIXED_VIOLATIONS);
+    allViolations.add(new FieldViolation("clientId", "ClientIdSize", ClientIdSizeValidator.message(maxClientIdBytes)));
+    List<List<FieldViolation>> violationsByMask = new ArrayList<>(1 << allViolations.size());
+    for (int mask = 0; mask < 1 << allViolations.size(); mask++) {
+      List<FieldViolation> violations = new ArrayList<>();
+      for (int bit = 0; bit < allViolations.size(); bit++) {
+        if ((mask & (1 << bit)) != 0) {
+          violations.add(allViolations.get(bit));
+        }
+      }
+      violationsByMask.add(List.copyOf(violations));
+    }
+    return List.copyOf(violationsByMask);
+  }
+
+  private static String readString(final JsonParser parser, final JsonToken value) throws IOException {
+    if (value == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    if (value != JsonToken.VALUE_STRING) {
+      throw UnsupportedInputException.INSTANCE;
+    }
+    return parser.getText();
+  }
+
+  private static BigDecimal readDecimal(final JsonParser parser, final JsonToken value) throws IOException {
+    if (value == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    if (value != JsonToken.VALUE_NUMBER_INT && value != JsonToken.VALUE_NUMBER_FLOAT) {
+      throw UnsupportedInputException.INSTANCE;
+    }
+    return parser.getDecimalValue();
+  }
+
+  private static LocalDate readDate(final JsonParser parser, final JsonToken value) throws IOException {
+    if (value == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    if (value != JsonToken.VALUE_STRING) {
+      throw UnsupportedInputException.INSTANCE;
+    }
+    return LocalDate.parse(parser.getText());
+  }
+
+  private static Integer readInteger(final JsonParser parser, final JsonToken value) throws IOException {
+    if (value == JsonToken.VALUE_NULL) {
+      return null;
+    }
+    if (value != JsonToken.VALUE_NUMBER_INT || parser.getNumberType() != JsonParser.NumberType.INT) {
+      throw UnsupportedInputException.INSTANCE;
+    }
+    return parser.getIntValue();
+  }
+
+  /**
+   * Signals a body outside the shape handled here. Shared and without stack trace, as it only unwinds to
+   * {@link #parse}.
+   */
+  private static final class UnsupportedInputException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+    private static final UnsupportedInputException INSTANCE = new UnsupportedInputException();
+
+    private UnsupportedInputException() {
+      super(null, null, false, false);
+    }
+  }
+}
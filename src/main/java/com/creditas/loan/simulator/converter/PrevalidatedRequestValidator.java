@@ -0,0 +1,58 @@
+package com.creditas.loan.simulator.converter;
+
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * Validator skipping Bean Validation for requests read by {@link LoanSimulationRequestParser}: their violations,
+ * already found while parsing, are reported as field errors with the same messages. Every other target goes to
+ * the delegate.
+ */
+public final class PrevalidatedRequestValidator implements SmartValidator {
+
+  private final SmartValidator delegate;
+
+  public PrevalidatedRequestValidator(final SmartValidator delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public boolean supports(final Class<?> clazz) {
+    return ValidatedLoanSimulationRequest.class == clazz || delegate.supports(clazz);
+  }
+
+  @Override
+  public void validate(final Object target, final Errors errors) {
+    if (target instanceof ValidatedLoanSimulationRequest request) {
+      reject(request, errors);
+    } else {
+      delegate.validate(target, errors);
+    }
+  }
+
+  @Override
+  public void validate(final Object target, final Errors errors, final Object... validationHints) {
+    if (target instanceof ValidatedLoanSimulationRequest request) {
+      reject(request, errors);
+    } else {
+      delegate.validate(target, errors, validationHints);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Unwraps the delegate, so Spring MVC still finds the Bean Validation validator it needs to validate
+   * constrained handler method parameters.
+   */
+  @Override
+  public <T> T unwrap(final Class<T> type) {
+    return delegate.unwrap(type);
+  }
+
+  private static void reject(final ValidatedLoanSimulationRequest request, final Errors errors) {
+    for (FieldViolation violation : request.violations()) {
+      errors.rejectValue(violation.field(), violation.constraint(), violation.message());
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package com.creditas.loan.simulator.converter;
+
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Reads {@link LoanSimulationRequest} bodies with {@link LoanSimulationRequestParser}, handing the bodies it does
+ * not handle to the regular Jackson converter so they are bound and rejected exactly as before. Never writes.
+ */
+public final class StreamingLoanSimulationRequestConverter extends AbstractHttpMessageConverter<LoanSimulationRequest> {
+
+  private final LoanSimulationRequestParser parser;
+  private final HttpMessageConverter<Object> fallback;
+
+  public StreamingLoanSimulationRequestConverter(final LoanSimulationRequestParser parser,
+                                                 final HttpMessageConverter<Object> fallback) {
+    super(MediaType.APPLICATION_JSON);
+    this.parser = parser;
+    this.fallback = fallback;
+  }
+
+  @Override
+  protected boolean supports(final Class<?> clazz) {
+    return LoanSimulationRequest.class == clazz;
+  }
+
+  @Override
+  public boolean canWrite(final Class<?> clazz, final MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected LoanSimulationRequest readInternal(final Class<? extends LoanSimulationRequest> clazz,
+                                               final HttpInputMessage inputMessage)
+      throws IOException, HttpMessageNotReadableException {
+    byte[] body = StreamUtils.copyToByteArray(inputMessage.getBody());
+    LoanSimulationRequest request = parser.parse(body);
+    if (request != null) {
+      return request;
+    }
+    return (LoanSimulationRequest) fallback.read(clazz, new BufferedInputMessage(body, inputMessage.getHeaders()));
+  }
+
+  @Override
+  protected void writeInternal(final LoanSimulationRequest request, final HttpOutputMessage outputMessage) {
+    throw new UnsupportedOperationException("Loan simulation requests are never written");
+  }
+
+  private record BufferedInputMessage(byte[] body, HttpHeaders headers) implements HttpInputMessage {
+
+    @Override
+    public InputStream getBody() {
+      return new ByteArrayInputStream(body);
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return headers;
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package com.creditas.loan.simulator.converter;
+
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Loan simulation request read by {@link LoanSimulationRequestParser}, carrying the constraint violations found
+ * while it was parsed so Bean Validation does not have to walk it again.
+ */
+public final class ValidatedLoanSimulationRequest extends LoanSimulationRequest {
+
+  private final List<FieldViolation> violations;
+
+  public ValidatedLoanSimulationRequest(final String clientId,
+                                        final BigDecimal loanAmount,
+                                        final LocalDate clientBirthDate,
+                                        final Integer loanTermInMonths,
+                                        final List<FieldViolation> violations) {
+    super(clientId, loanAmount, clientBirthDate, loanTermInMonths);
+    this.violations = violations;
+  }
+
+  /**
+   * Returns the constraints this request violates, empty when it is valid.
+   *
+   * @return the constraint violations
+   */
+  public List<FieldViolation> violations() {
+    return violations;
+  }
+}
@@ -32,4 +32,13 @@ public class Client {
     this.birthDate = birthDate;
   }
 
+  public Client(final String id,
+                final String name,
+                final String email,
+                final LocalDate birthDate,
+                final List<Contract> contracts) {
+    this(id, name, email, birthDate);
+    this.contracts = List.copyOf(contracts);
+  }
+
 }
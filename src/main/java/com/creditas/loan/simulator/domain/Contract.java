@@ -12,14 +12,21 @@ import lombok.Setter;
 public class Contract {
 
   private String number;
-  private Double totalValue;
+  private Money totalValue;
 
   @Setter(AccessLevel.NONE)
   private List<Installment> installments = List.of();
 
   public Contract(final String number,
-                  final Double totalValue) {
+                  final Money totalValue) {
     this.number = number;
     this.totalValue = totalValue;
   }
+
+  public Contract(final String number,
+                  final Money totalValue,
+                  final List<Installment> installments) {
+    this(number, totalValue);
+    this.installments = List.copyOf(installments);
+  }
 }
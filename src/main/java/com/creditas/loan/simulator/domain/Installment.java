@@ -1,5 +1,8 @@
 package com.creditas.loan.simulator.domain;
 
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDate;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -10,8 +13,25 @@ import lombok.ToString;
 @Setter
 @ToString
 @AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Schema(description = "Installment of an amortization schedule", title = "Installment")
 public class Installment {
+
+  @Schema(description = "Installment number, starting at 1", example = "1")
   private String number;
+
+  @Schema(description = "Due date of the installment - ISO 8601 format", example = "2025-07-15")
   private LocalDate date;
-  private Double value;
+
+  @Schema(description = "Amount due", example = "1693.87", format = "decimal")
+  private Money value;
+
+  @Schema(description = "Part of the amount due that repays principal", example = "1643.87", format = "decimal")
+  private Money principal;
+
+  @Schema(description = "Part of the amount due that pays interest", example = "50.00", format = "decimal")
+  private Money interest;
+
+  @Schema(description = "Principal still owed after this installment", example = "18356.13", format = "decimal")
+  private Money balance;
 }
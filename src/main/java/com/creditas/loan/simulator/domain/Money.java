@@ -0,0 +1,168 @@
+package com.creditas.loan.simulator.domain;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An amount of money held as a whole number of cents. Arithmetic fails with an {@link ArithmeticException} instead
+ * of overflowing, and converting from {@link BigDecimal} always rounds half up to the cent.
+ *
+ * <p>Written to JSON as a plain decimal number with two fraction digits, formatted straight from the cents; binary
+ * formats get the equivalent {@link BigDecimal}, which they encode as a scaled long.
+ *
+ * @param cents the amount in cents
+ */
+@JsonSerialize(using = Money.Serializer.class)
+@JsonDeserialize(using = Money.Deserializer.class)
+@Schema(type = "number", format = "decimal", example = "10000.22")
+public record Money(long cents) implements Comparable<Money> {
+
+  public static final Money ZERO = new Money(0);
+
+  private static final int SCALE = 2;
+  private static final int RADIX = 10;
+  private static final int MAX_CHARS = 22;
+
+  /**
+   * Returns the given number of cents.
+   *
+   * @param cents the amount in cents
+   * @return the amount
+   */
+  public static Money ofCents(final long cents) {
+    return new Money(cents);
+  }
+
+  /**
+   * Rounds an amount half up to the cent.
+   *
+   * @param amount the amount
+   * @return the rounded amount
+   * @throws ArithmeticException when the amount does not fit in a long number of cents
+   */
+  public static Money of(final BigDecimal amount) {
+    return new Money(amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+  }
+
+  /**
+   * Adds an amount to this one.
+   *
+   * @param other the amount to add
+   * @return the sum
+   * @throws ArithmeticException when the sum overflows
+   */
+  public Money plus(final Money other) {
+    return new Money(Math.addExact(cents, other.cents));
+  }
+
+  /**
+   * Subtracts an amount from this one.
+   *
+   * @param other the amount to subtract
+   * @return the difference
+   * @throws ArithmeticException when the difference overflows
+   */
+  public Money minus(final Money other) {
+    return new Money(Math.subtractExact(cents, other.cents));
+  }
+
+  /**
+   * Multiplies this amount by a whole factor.
+   *
+   * @param factor the factor
+   * @return the product
+   * @throws ArithmeticException when the product overflows
+   */
+  public Money times(final long factor) {
+    return new Money(Math.multiplyExact(cents, factor));
+  }
+
+  /**
+   * Returns this amount as a {@link BigDecimal} with two fraction digits.
+   *
+   * @return the amount
+   */
+  public BigDecimal toBigDecimal() {
+    return BigDecimal.valueOf(cents, SCALE);
+  }
+
+  @Override
+  public int compareTo(final Money other) {
+    return Long.compare(cents, other.cents);
+  }
+
+  @Override
+  public String toString() {
+    char[] buffer = new char[MAX_CHARS];
+    int start = format(cents, buffer);
+    return new String(buffer, start, buffer.length - start);
+  }
+
+  /**
+   * Writes the amount right-aligned into the buffer, as digits with two fraction digits.
+   *
+   * @return the index of the first character written
+   */
+  private static int format(final long cents, final char[] buffer) {
+    long remaining = Math.abs(cents);
+    int position = buffer.length;
+    for (int digit = 0; digit < SCALE; digit++) {
+      buffer[--position] = (char) ('0' + Math.abs(remaining % RADIX));
+      remaining /= RADIX;
+    }
+    buffer[--position] = '.';
+    do {
+      buffer[--position] = (char) ('0' + Math.abs(remaining % RADIX));
+      remaining /= RADIX;
+    } while (remaining != 0);
+    if (cents < 0) {
+      buffer[--position] = '-';
+    }
+    return position;
+  }
+
+  static final class Serializer extends StdScalarSerializer<Money> {
+
+    private static final long serialVersionUID = 1L;
+
+    Serializer() {
+      super(Money.class);
+    }
+
+    @Override
+    public void serialize(final Money value, final JsonGenerator generator, final SerializerProvider provider)
+        throws IOException {
+      if (generator.canWriteFormattedNumbers()) {
+        char[] buffer = new char[MAX_CHARS];
+        int start = format(value.cents, buffer);
+        generator.writeNumber(buffer, start, buffer.length - start);
+      } else {
+        generator.writeNumber(value.toBigDecimal());
+      }
+    }
+  }
+
+  static final class Deserializer extends StdScalarDeserializer<Money> {
+
+    private static final long serialVersionUID = 1L;
+
+    Deserializer() {
+      super(Money.class);
+    }
+
+    @Override
+    public Money deserialize(final JsonParser parser, final DeserializationContext context) throws IOException {
+      return of(parser.getDecimalValue());
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package com.creditas.loan.simulator.dto;
+
+import com.creditas.loan.simulator.domain.Installment;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+@Getter
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Schema(description = "Response object for a page of a loan amortization schedule", title = "Amortization Schedule Response")
+public final class AmortizationScheduleResponse {
+
+  @Schema(description = "Simulation the schedule amortizes")
+  private final LoanSimulationResponse simulation;
+
+  @Schema(description = "Zero-based page number", example = "0")
+  private final int page;
+
+  @Schema(description = "Maximum number of installments per page", example = "120")
+  private final int size;
+
+  @Schema(description = "Number of installments of the whole schedule", example = "420")
+  private final int totalInstallments;
+
+  @Schema(description = "Number of pages of the whole schedule", example = "4")
+  private final int totalPages;
+
+  @Getter(AccessLevel.NONE)
+  @Schema(description = "Installments of this page, in due order")
+  private final List<Installment> installments;
+
+  public AmortizationScheduleResponse(final LoanSimulationResponse simulation,
+                                      final int page,
+                                      final int size,
+                                      final List<Installment> installments) {
+    this.simulation = simulation;
+    this.page = page;
+    this.size = size;
+    this.totalInstallments = simulation.getLoanTermInMonths();
+    this.totalPages = Math.ceilDiv(totalInstallments, size);
+    this.installments = installments;
+  }
+
+  public List<Installment> getInstallments() {
+    return installments;
+  }
+}
@@ -0,0 +1,46 @@
+package com.creditas.loan.simulator.dto;
+
+import com.creditas.loan.simulator.domain.Installment;
+import com.creditas.loan.simulator.domain.Money;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Schema(description = "Response object for the exposure of a client across all its contracts",
+    title = "Client Exposure Response")
+public final class ClientExposureResponse {
+
+  @Schema(description = "Client identifier", example = "123e4567-e89b-12d3-a456-426614178000")
+  private final String clientId;
+
+  @Schema(description = "Client email", example = "client@example.com")
+  private final String email;
+
+  @Schema(description = "Day the exposure was computed for; installments due from this day on are outstanding",
+      example = "2025-07-01")
+  private final LocalDate asOf;
+
+  @Schema(description = "Number of contracts of the client", example = "2")
+  private final int contracts;
+
+  @Schema(description = "Principal of the outstanding installments", example = "18356.13", format = "decimal")
+  private final Money outstandingBalance;
+
+  @Schema(description = "Interest of the outstanding installments", example = "412.50", format = "decimal")
+  private final Money totalInterestRemaining;
+
+  @Schema(description = "Contract of the next installment due, absent when nothing is outstanding",
+      example = "CT-0001")
+  private final String nextDueContract;
+
+  @Schema(description = "Next installment due across all contracts, absent when nothing is outstanding")
+  private final Installment nextDueInstallment;
+}
@@ -0,0 +1,31 @@
+package com.creditas.loan.simulator.dto;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The annotated client id must fit the client id field of the simulation store, counted in bytes of UTF-8.
+ * Without a store limiting it, as while the simulation journal is disabled, any client id is valid.
+ */
+@Documented
+@Constraint(validatedBy = ClientIdSizeValidator.class)
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ClientIdSize {
+
+  /**
+   * Replaced by the message naming the limit of the simulation store.
+   *
+   * @return the message template
+   */
+  String message() default "Client id is too long";
+
+  Class<?>[] groups() default {};
+
+  Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,81 @@
+package com.creditas.loan.simulator.dto;
+
+import com.creditas.loan.simulator.service.SimulationStore;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import java.nio.charset.StandardCharsets;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Checks a {@link ClientIdSize} client id against the limit of the simulation store in use, so a client id is
+ * only rejected when it could not be recorded with the simulation.
+ */
+public final class ClientIdSizeValidator implements ConstraintValidator<ClientIdSize, String> {
+
+  private final int maxBytes;
+
+  /**
+   * Creates a validator setting no limit, used when Bean Validation runs outside of the application context.
+   */
+  public ClientIdSizeValidator() {
+    this(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a validator with the limit of the simulation store of the application context, if any.
+   *
+   * @param simulationStore the simulation store
+   */
+  @Autowired
+  public ClientIdSizeValidator(final ObjectProvider<SimulationStore> simulationStore) {
+    this(maxBytes(simulationStore.getIfAvailable()));
+  }
+
+  /**
+   * Creates a validator with the given limit.
+   *
+   * @param maxBytes the longest valid client id, in bytes of UTF-8
+   */
+  public ClientIdSizeValidator(final int maxBytes) {
+    this.maxBytes = maxBytes;
+  }
+
+  @Override
+  public boolean isValid(final String clientId, final ConstraintValidatorContext context) {
+    if (fits(clientId, maxBytes)) {
+      return true;
+    }
+    context.disableDefaultConstraintViolation();
+    context.buildConstraintViolationWithTemplate(message(maxBytes)).addConstraintViolation();
+    return false;
+  }
+
+  /**
+   * Tells whether a client id fits a limit.
+   *
+   * @param clientId the client id, possibly {@code null}
+   * @param maxBytes the longest valid client id, in bytes of UTF-8
+   * @return {@code true} if the client id is {@code null} or fits
+   */
+  public static boolean fits(final String clientId, final int maxBytes) {
+    return clientId == null || clientId.getBytes(StandardCharsets.UTF_8).length <= maxBytes;
+  }
+
+  /**
+   * Returns the message of a client id that does not fit a limit.
+   *
+   * @param maxBytes the longest valid client id, in bytes of UTF-8
+   * @return the message
+   */
+  public static String message(final int maxBytes) {
+    return "Client id must not exceed " + maxBytes + " bytes";
+  }
+
+  private static int maxBytes(final SimulationStore simulationStore) {
+    if (simulationStore == null) {
+      return Integer.MAX_VALUE;
+    }
+    return simulationStore.maxClientIdBytes();
+  }
+}
@@ -0,0 +1,37 @@
+package com.creditas.loan.simulator.dto;
+
+import com.creditas.loan.simulator.domain.Money;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Schema(description = "Distribution of an amount across the simulated scenarios; percentiles are within 0.5% of "
+    + "the exact ones", title = "Distribution Summary")
+public final class DistributionSummary {
+
+  @Schema(description = "Smallest amount of any scenario", example = "151234.56")
+  private final Money min;
+
+  @Schema(description = "Mean amount", example = "163456.78")
+  private final Money mean;
+
+  @Schema(description = "Median amount", example = "163012.34")
+  private final Money p50;
+
+  @Schema(description = "Amount not exceeded by 90% of the scenarios", example = "170123.45")
+  private final Money p90;
+
+  @Schema(description = "Amount not exceeded by 95% of the scenarios", example = "172345.67")
+  private final Money p95;
+
+  @Schema(description = "Amount not exceeded by 99% of the scenarios", example = "176543.21")
+  private final Money p99;
+
+  @Schema(description = "Largest amount of any scenario", example = "184321.09")
+  private final Money max;
+}
@@ -0,0 +1,54 @@
+package com.creditas.loan.simulator.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Schema(description = "Request object for a grid of loan offers", title = "Loan Offer Grid Request")
+public class LoanOfferGridRequest {
+
+  private static final int MAX_AMOUNTS = 20;
+  private static final int MAX_TERMS = 120;
+
+  @Schema(description = "Unique identifier for the client - Optional", example = "123e4567-e89b-12d3-a456-426614174000")
+  private String clientId;
+
+  @Schema(description = "Birth date of the client - ISO 8601 format", example = "1990-01-01")
+  @Past(message = "Client birth date must be in the past")
+  @NotNull(message = "Client birth date must not be null")
+  private LocalDate clientBirthDate;
+
+  @Schema(description = "Loan amounts, the columns of the grid", example = "[5000.00, 10000.00, 20000.00]")
+  @NotEmpty(message = "Loan amounts must not be empty")
+  @Size(max = MAX_AMOUNTS, message = "Loan amounts must not exceed 20 values")
+  private List<
+      @NotNull(message = "Loan amount must not be null")
+      @DecimalMin(value = "1.00", message = "Loan amount must be at least 1.00")
+      @DecimalMax(value = "1000000.00", message = "Loan amount must not exceed 1,000,000.00") BigDecimal> loanAmounts;
+
+  @Schema(description = "Loan terms in months, the rows of the grid", example = "[12, 24, 36, 48, 60, 72]")
+  @NotEmpty(message = "Loan terms must not be empty")
+  @Size(max = MAX_TERMS, message = "Loan terms must not exceed 120 values")
+  private List<
+      @NotNull(message = "Loan term in months must not be null")
+      @Positive(message = "Loan term in months must be positive") Integer> loanTermsInMonths;
+}
@@ -0,0 +1,36 @@
+package com.creditas.loan.simulator.dto;
+
+import com.creditas.loan.simulator.domain.Money;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Schema(description = "Response object for a grid of loan offers: one row of monthly installments per term, "
+    + "one column per amount", title = "Loan Offer Grid Response")
+public final class LoanOfferGridResponse {
+
+  @Schema(description = "Unique identifier for the client", example = "123e4567-e89b-12d3-a456-426614174000")
+  private final String clientId;
+
+  @Schema(description = "Interest rate applied to every offer of the grid", example = "3.00", format = "decimal")
+  private final BigDecimal interestRate;
+
+  @Schema(description = "Version of the rate policy that produced the interest rate", example = "application")
+  private final String ratePolicyVersion;
+
+  @Schema(description = "Loan amounts, the columns of the grid, rounded to the cent", example = "[5000.00, 10000.00]")
+  private final Money[] loanAmounts;
+
+  @Schema(description = "Loan terms in months, the rows of the grid", example = "[12, 24]")
+  private final int[] loanTermsInMonths;
+
+  @Schema(description = "Monthly installments, indexed by term and then by amount",
+      example = "[[423.47, 846.94], [214.91, 429.81]]")
+  private final Money[][] monthlyInstallments;
+}
@@ -0,0 +1,83 @@
+package com.creditas.loan.simulator.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
+import java.util.Optional;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Schema(description = "Outcome of a single simulation inside a batch", title = "Loan Simulation Batch Item")
+public final class LoanSimulationBatchItem {
+
+  @Schema(description = "Position of the simulation in the submitted batch", example = "0")
+  private int index;
+
+  @Schema(description = "Simulation result, present when the item was processed successfully")
+  private LoanSimulationResponse simulation;
+
+  @Schema(description = "Error type, present when the item could not be processed", example = "Validation Error")
+  private String error;
+
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  @Schema(description = "Map of validation errors for the item", example = "{\"loanAmount\": \"Loan amount must be positive\"}")
+  private Map<String, String> validationErrors;
+
+  /**
+   * Builds a successful batch item.
+   *
+   * @param index      the position of the item in the batch
+   * @param simulation the simulation result
+   * @return the batch item holding the simulation
+   */
+  public static LoanSimulationBatchItem success(final int index, final LoanSimulationResponse simulation) {
+    LoanSimulationBatchItem item = new LoanSimulationBatchItem();
+    item.index = index;
+    item.simulation = simulation;
+    return item;
+  }
+
+  /**
+   * Builds a failed batch item.
+   *
+   * @param index            the position of the item in the batch
+   * @param error            the error type
+   * @param validationErrors the validation errors keyed by field name
+   * @return the batch item holding the error details
+   */
+  public static LoanSimulationBatchItem failure(final int index,
+                                                final String error,
+                                                final Map<String, String> validationErrors) {
+    LoanSimulationBatchItem item = new LoanSimulationBatchItem();
+    item.index = index;
+    item.error = error;
+    item.validationErrors = Map.copyOf(validationErrors);
+    return item;
+  }
+
+  public Map<String, String> getValidationErrors() {
+    return validationErrors;
+  }
+
+  public void setValidationErrors(final Map<String, String> validationErrors) {
+    this.validationErrors = Optional.ofNullable(validationErrors)
+        .map(Map::copyOf)
+        .orElse(null);
+  }
+
+  @JsonIgnore
+  public boolean isSuccessful() {
+    return simulation != null;
+  }
+}
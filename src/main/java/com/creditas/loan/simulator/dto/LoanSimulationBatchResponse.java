@@ -0,0 +1,47 @@
+package com.creditas.loan.simulator.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Schema(description = "Response object for a batch of loan simulations", title = "Loan Simulation Batch Response")
+public final class LoanSimulationBatchResponse {
+
+  @Schema(description = "Number of simulations submitted in the batch", example = "3")
+  private int total;
+
+  @Schema(description = "Number of simulations processed successfully", example = "2")
+  private int succeeded;
+
+  @Schema(description = "Number of simulations rejected", example = "1")
+  private int failed;
+
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  @Schema(description = "Per-item results, in the same order as the submitted batch")
+  private List<LoanSimulationBatchItem> results = List.of();
+
+  public LoanSimulationBatchResponse(final List<LoanSimulationBatchItem> results) {
+    this.results = List.copyOf(results);
+    this.total = results.size();
+    this.succeeded = (int) results.stream().filter(LoanSimulationBatchItem::isSuccessful).count();
+    this.failed = total - succeeded;
+  }
+
+  public List<LoanSimulationBatchItem> getResults() {
+    return results;
+  }
+
+  public void setResults(final List<LoanSimulationBatchItem> results) {
+    this.results = List.copyOf(results);
+  }
+}
@@ -24,6 +24,7 @@ import lombok.Setter;
 public class LoanSimulationRequest {
 
   @Schema(description = "Unique identifier for the client - Optional", example = "123e4567-e89b-12d3-a456-426614174000")
+  @ClientIdSize
   private String clientId;
 
   @Schema(description = "Requested loan amount", example = "10000.22", format = "decimal")
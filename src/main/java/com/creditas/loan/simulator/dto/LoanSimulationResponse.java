@@ -1,5 +1,6 @@
 package com.creditas.loan.simulator.dto;
 
+import com.creditas.loan.simulator.domain.Money;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
@@ -27,7 +28,7 @@ public class LoanSimulationResponse {
   private String clientId;
 
   @Schema(description = "Loan amount requested", example = "10000.22", format = "decimal")
-  private BigDecimal loanAmount;
+  private Money loanAmount;
 
   @Schema(description = "Interest rate applied to the loan", example = "5.55", format = "decimal")
   private BigDecimal interestRate;
@@ -36,26 +37,25 @@ public class LoanSimulationResponse {
   private Integer loanTermInMonths;
 
   @Schema(description = "Total amount payable over the loan term", example = "11000.11", format = "decimal")
-  private BigDecimal totalAmountPayable;
+  private Money totalAmountPayable;
 
   @Schema(description = "Monthly installment amount", example = "458.33", format = "decimal")
-  private BigDecimal monthlyInstallment;
+  private Money monthlyInstallment;
 
   @Schema(description = "Total interest paid over the loan term", example = "1000.33", format = "decimal")
-  private BigDecimal totalInterestPaid;
+  private Money totalInterestPaid;
+
+  @Schema(description = "Version of the rate policy the interest rate was taken from", example = "2025-10")
+  private String ratePolicyVersion;
 
   /**
-   * Method to round all monetary values in the response to two decimal places.
-   * This is useful for ensuring consistent formatting in financial applications.
+   * Method to round the interest rate in the response to two decimal places. Monetary values are already held
+   * in cents, so they need no rounding.
    *
    * @return the current instance of LoanSimulationResponse with rounded values
    */
   public LoanSimulationResponse withRoundedValues() {
-    this.loanAmount = this.loanAmount.setScale(2, RoundingMode.HALF_UP);
     this.interestRate = this.interestRate.setScale(2, RoundingMode.HALF_UP);
-    this.totalAmountPayable = this.totalAmountPayable.setScale(2, RoundingMode.HALF_UP);
-    this.monthlyInstallment = this.monthlyInstallment.setScale(2, RoundingMode.HALF_UP);
-    this.totalInterestPaid = this.totalInterestPaid.setScale(2, RoundingMode.HALF_UP);
     return this;
   }
 }
@@ -0,0 +1,44 @@
+package com.creditas.loan.simulator.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Past;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Schema(description = "Request object for the shortest term that fits a monthly installment", title = "Min Loan Term Request")
+public class MinLoanTermRequest {
+
+  @Schema(description = "Unique identifier for the client - Optional", example = "123e4567-e89b-12d3-a456-426614174000")
+  private String clientId;
+
+  @Schema(description = "Birth date of the client - ISO 8601 format", example = "1990-01-01")
+  @Past(message = "Client birth date must be in the past")
+  @NotNull(message = "Client birth date must not be null")
+  private LocalDate clientBirthDate;
+
+  @Schema(description = "Requested loan amount", example = "10000.22", format = "decimal")
+  @NotNull(message = "Loan amount must not be null")
+  @DecimalMin(value = "1.00", message = "Loan amount must be at least 1.00")
+  @DecimalMax(value = "1000000.00", message = "Loan amount must not exceed 1,000,000.00")
+  private BigDecimal loanAmount;
+
+  @Schema(description = "Largest monthly installment the client can afford", example = "500.00", format = "decimal")
+  @NotNull(message = "Monthly installment must not be null")
+  @DecimalMin(value = "1.00", message = "Monthly installment must be at least 1.00")
+  @DecimalMax(value = "1000000.00", message = "Monthly installment must not exceed 1,000,000.00")
+  private BigDecimal monthlyInstallment;
+}
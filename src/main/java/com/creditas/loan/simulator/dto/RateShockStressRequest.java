@@ -0,0 +1,59 @@
+package com.creditas.loan.simulator.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Schema(description = "Request object for a Monte Carlo stress test of a loan portfolio under age-band rate shocks",
+    title = "Rate Shock Stress Request")
+public class RateShockStressRequest {
+
+  private static final int MAX_LOANS = 10_000;
+  private static final int MAX_SCENARIOS = 1_000_000;
+
+  @Schema(description = "Loans of the portfolio, each priced at the rate of its client's age band")
+  @NotEmpty(message = "Loans must not be empty")
+  @Size(max = MAX_LOANS, message = "Loans must not exceed 10000 simulations")
+  private List<@Valid @NotNull(message = "Loan must not be null") LoanSimulationRequest> loans;
+
+  @Schema(description = "Number of scenarios to simulate", example = "100000")
+  @NotNull(message = "Scenarios must not be null")
+  @Positive(message = "Scenarios must be positive")
+  @Max(value = MAX_SCENARIOS, message = "Scenarios must not exceed 1000000")
+  private Integer scenarios;
+
+  @Schema(description = "Mean of the normally distributed shock added to each band's annual rate, in percentage "
+      + "points", example = "0.50", format = "decimal")
+  @NotNull(message = "Rate shock mean must not be null")
+  @DecimalMin(value = "-100.00", message = "Rate shock mean must be at least -100.00")
+  @DecimalMax(value = "100.00", message = "Rate shock mean must not exceed 100.00")
+  private BigDecimal rateShockMean;
+
+  @Schema(description = "Standard deviation of the shock, in percentage points", example = "1.00", format = "decimal")
+  @NotNull(message = "Rate shock standard deviation must not be null")
+  @DecimalMin(value = "0.00", message = "Rate shock standard deviation must not be negative")
+  @DecimalMax(value = "100.00", message = "Rate shock standard deviation must not exceed 100.00")
+  private BigDecimal rateShockStandardDeviation;
+
+  @Schema(description = "Seed of the random shocks, to repeat a run - Optional", example = "42")
+  private Long seed;
+}
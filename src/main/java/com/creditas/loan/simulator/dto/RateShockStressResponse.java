@@ -0,0 +1,33 @@
+package com.creditas.loan.simulator.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Schema(description = "Response object for a rate shock stress test, aggregated over every scenario",
+    title = "Rate Shock Stress Response")
+public final class RateShockStressResponse {
+
+  @Schema(description = "Number of scenarios simulated", example = "100000")
+  private final long scenarios;
+
+  @Schema(description = "Number of loans in the portfolio", example = "250")
+  private final int loans;
+
+  @Schema(description = "Seed of the random shocks, to repeat the run", example = "42")
+  private final long seed;
+
+  @Schema(description = "Version of the rate policy whose bands were shocked", example = "application")
+  private final String ratePolicyVersion;
+
+  @Schema(description = "Total interest paid by the portfolio, per scenario")
+  private final DistributionSummary totalInterestPaid;
+
+  @Schema(description = "Sum of the monthly installments of the portfolio, per scenario")
+  private final DistributionSummary monthlyInstallments;
+}
@@ -5,9 +5,7 @@ import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 import lombok.Getter;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -43,14 +41,15 @@ public final class ErrorResponse {
     this.message = message;
     this.status = status;
     this.timestamp = timestamp;
-    this.validationErrors = Optional.ofNullable(validationErrors)
-        .map(HashMap::new)
-        .orElse(null);
+    if (validationErrors == null) {
+      this.validationErrors = null;
+    } else {
+      // No copy when the map is already immutable, as the precomputed error templates are
+      this.validationErrors = Map.copyOf(validationErrors);
+    }
   }
 
   public Map<String, String> getValidationErrors() {
-    return Optional.ofNullable(validationErrors)
-        .map(Map::copyOf)
-        .orElse(null);
+    return validationErrors;
   }
 }
@@ -0,0 +1,16 @@
+package com.creditas.loan.simulator.exception;
+
+import java.io.Serial;
+
+/**
+ * Thrown when no client of the portfolio has the requested id or email.
+ */
+public final class ClientNotFoundException extends RuntimeException {
+
+  @Serial
+  private static final long serialVersionUID = 1L;
+
+  public ClientNotFoundException(final String idOrEmail) {
+    super("No client with id or email " + idOrEmail);
+  }
+}
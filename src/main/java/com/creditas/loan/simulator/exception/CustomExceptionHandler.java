@@ -1,24 +1,37 @@
 package com.creditas.loan.simulator.exception;
 
 import com.creditas.loan.simulator.dto.error.ErrorResponse;
-import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.exc.InvalidFormatException;
-import java.time.LocalDateTime;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.HashMap;
-import java.util.Locale;
 import java.util.Map;
-import org.springframework.boot.json.JsonParseException;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
+import org.springframework.validation.method.ParameterErrors;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 @RestControllerAdvice
+@Profile("!reactive")
 public final class CustomExceptionHandler {
 
+  private static final String LOAN_TERM_FIELD = "loanTermInMonths";
+
+  private final MeterRegistry meterRegistry;
+  private final ErrorResponses errorResponses;
+  private final Map<String, Counter> validationFailureCounters = new ConcurrentHashMap<>();
+
+  public CustomExceptionHandler(final MeterRegistry meterRegistry, final ErrorResponses errorResponses) {
+    this.meterRegistry = meterRegistry;
+    this.errorResponses = errorResponses;
+  }
+
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<ErrorResponse> handleValidationExceptions(final MethodArgumentNotValidException ex) {
     final Map<String, String> errors = new HashMap<>();
@@ -28,86 +41,83 @@ public final class CustomExceptionHandler {
       final String errorMessage = error.getDefaultMessage();
       errors.put(fieldName, errorMessage);
     });
+    errors.keySet().forEach(this::countValidationFailure);
+
+    return new ResponseEntity<>(errorResponses.validationError(errors), HttpStatus.BAD_REQUEST);
+  }
+
+  @ExceptionHandler(HandlerMethodValidationException.class)
+  public ResponseEntity<ErrorResponse> handleParameterValidationExceptions(
+      final HandlerMethodValidationException ex) {
+    final Map<String, String> errors = new HashMap<>();
 
-    final ErrorResponse errorResponse = new ErrorResponse(
-        "Validation Error",
-        "One or more validation errors occurred",
-        HttpStatus.BAD_REQUEST.value(),
-        LocalDateTime.now(),
-        errors
-    );
+    ex.getParameterValidationResults().forEach(result -> {
+      // A validated request body next to a constrained parameter reports its own fields, as it would alone
+      if (result instanceof ParameterErrors bodyErrors) {
+        bodyErrors.getFieldErrors().forEach(error -> errors.put(error.getField(), error.getDefaultMessage()));
+      } else {
+        final String parameterName = result.getMethodParameter().getParameterName();
+        result.getResolvableErrors().forEach(error -> errors.put(parameterName, error.getDefaultMessage()));
+      }
+    });
+    errors.keySet().forEach(this::countValidationFailure);
 
-    return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    return new ResponseEntity<>(errorResponses.validationError(errors), HttpStatus.BAD_REQUEST);
   }
 
   @ExceptionHandler(HttpMessageNotReadableException.class)
   public ResponseEntity<ErrorResponse> handleJsonParseException(final HttpMessageNotReadableException ex) {
+    return new ResponseEntity<>(errorResponses.parseError(ex.getCause()), HttpStatus.BAD_REQUEST);
+  }
 
-    String message = "Invalid JSON format";
-    final Map<String, String> errors = new HashMap<>();
-
-    final Throwable cause = ex.getCause();
-
-    if (cause instanceof JsonParseException) {
-      message = "JSON malformed";
-      errors.put("json", "Malformed JSON request");
-    } else if (cause instanceof InvalidFormatException formatEx) {
-      message = "Invalid data format";
+  @ExceptionHandler(InvalidBatchException.class)
+  public ResponseEntity<ErrorResponse> handleInvalidBatchException(final InvalidBatchException ex) {
+    return new ResponseEntity<>(errorResponses.invalidBatch(ex.getMessage()), HttpStatus.BAD_REQUEST);
+  }
 
-      if (!formatEx.getPath().isEmpty()) {
-        final String fieldName = formatEx.getPath().getFirst().getFieldName();
-        final String targetType = formatEx.getTargetType().getSimpleName();
-        errors.put(fieldName, String.format("Value '%s' is invalid for field '%s'. Expected: %s",
-            formatEx.getValue(), fieldName, getReadableTypeName(targetType)));
-      } else {
-        errors.put("format", "Invalid data format in JSON");
-      }
-    } else if (cause instanceof JsonMappingException mappingEx) {
-      message = "Error mapping JSON to object";
+  @ExceptionHandler(ScheduleTooLongException.class)
+  public ResponseEntity<ErrorResponse> handleScheduleTooLongException(final ScheduleTooLongException ex) {
+    countValidationFailure(LOAN_TERM_FIELD);
+    return new ResponseEntity<>(errorResponses.validationError(Map.of(LOAN_TERM_FIELD, ex.getMessage())),
+        HttpStatus.BAD_REQUEST);
+  }
 
-      if (!mappingEx.getPath().isEmpty()) {
-        final String fieldName = mappingEx.getPath().getFirst().getFieldName();
-        errors.put(fieldName, "Error processing field: " + fieldName);
-      } else {
-        errors.put("mapping", "Error mapping JSON to object");
-      }
-    } else {
-      errors.put("request", "Not possible to process the request due to malformed JSON");
-    }
+  @ExceptionHandler(UnaffordableLoanException.class)
+  public ResponseEntity<ErrorResponse> handleUnaffordableLoanException(final UnaffordableLoanException ex) {
+    return new ResponseEntity<>(errorResponses.unaffordableLoan(ex.getMessage()), HttpStatus.UNPROCESSABLE_ENTITY);
+  }
 
-    final ErrorResponse errorResponse = new ErrorResponse(
-        "Parse Error",
-        message,
-        HttpStatus.BAD_REQUEST.value(),
-        LocalDateTime.now(),
-        errors
-    );
+  @ExceptionHandler(IdempotencyKeyMismatchException.class)
+  public ResponseEntity<ErrorResponse> handleIdempotencyKeyMismatchException(
+      final IdempotencyKeyMismatchException ex) {
+    return new ResponseEntity<>(errorResponses.idempotencyKeyMismatch(ex.getMessage()),
+        HttpStatus.UNPROCESSABLE_ENTITY);
+  }
 
-    return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+  @ExceptionHandler(SimulationNotFoundException.class)
+  public ResponseEntity<ErrorResponse> handleSimulationNotFoundException(final SimulationNotFoundException ex) {
+    return new ResponseEntity<>(errorResponses.simulationNotFound(ex.getMessage()), HttpStatus.NOT_FOUND);
   }
 
-  private String getReadableTypeName(final String javaTypeName) {
-    return switch (javaTypeName) {
-      case "BigDecimal" -> "decimal (e.g., 10000.22)";
-      case "LocalDate" -> "Date (yyyy-MM-dd, e.g., 1990-01-01)";
-      case "Integer" -> "integer (e.g., 24)";
-      case "String" -> "uuid (e.g., 123e4567-e89b-12d3-a456-426614174000)";
-      case "Boolean" -> "boolean (true/false)";
-      default -> javaTypeName.toLowerCase(Locale.ROOT);
-    };
+  @ExceptionHandler(ClientNotFoundException.class)
+  public ResponseEntity<ErrorResponse> handleClientNotFoundException(final ClientNotFoundException ex) {
+    return new ResponseEntity<>(errorResponses.clientNotFound(ex.getMessage()), HttpStatus.NOT_FOUND);
   }
 
   @ExceptionHandler(Exception.class)
   public ResponseEntity<ErrorResponse> handleGenericException(final Exception ex) {
+    return new ResponseEntity<>(errorResponses.internalError(), HttpStatus.INTERNAL_SERVER_ERROR);
+  }
 
-    final ErrorResponse errorResponse = new ErrorResponse(
-        "Internal Server Error",
-        "An unexpected error occurred",
-        HttpStatus.INTERNAL_SERVER_ERROR.value(),
-        LocalDateTime.now(),
-        null
-    );
-
-    return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+  private void countValidationFailure(final String field) {
+    Counter counter = validationFailureCounters.get(field);
+    if (counter == null) {
+      counter = validationFailureCounters.computeIfAbsent(field, name -> Counter
+          .builder("loan.simulation.validation.failures")
+          .description("Requests rejected by validation, per invalid field")
+          .tag("field", name)
+          .register(meterRegistry));
+    }
+    counter.increment();
   }
 }
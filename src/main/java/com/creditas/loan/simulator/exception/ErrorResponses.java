@@ -0,0 +1,230 @@
+package com.creditas.loan.simulator.exception;
+
+import com.creditas.loan.simulator.dto.error.ErrorResponse;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.boot.json.JsonParseException;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Builds the error bodies shared by the servlet and reactive entry points, so both report the same errors,
+ * stamped with the time of the application clock.
+ *
+ * <p>Every error type is an immutable template, and the messages depending on the offending field are built
+ * once per field and type, so answering a rejected request only allocates the body itself.
+ */
+public final class ErrorResponses {
+
+  private static final String PARSE_ERROR = "Parse Error";
+  private static final String INVALID_DATA_FORMAT = "Invalid data format";
+  private static final String MAPPING_ERROR = "Error mapping JSON to object";
+  private static final int MAX_CACHED_FIELDS = 256;
+
+  private static final ErrorTemplate VALIDATION = new ErrorTemplate("Validation Error",
+      "One or more validation errors occurred", HttpStatus.BAD_REQUEST, null);
+  private static final ErrorTemplate INVALID_BATCH = new ErrorTemplate("Validation Error",
+      "The batch could not be accepted", HttpStatus.BAD_REQUEST, null);
+  private static final ErrorTemplate UNAFFORDABLE = new ErrorTemplate("Unaffordable Loan",
+      "No loan fits the requested monthly installment", HttpStatus.UNPROCESSABLE_ENTITY, null);
+  private static final ErrorTemplate IDEMPOTENCY_KEY_MISMATCH = new ErrorTemplate("Idempotency Key Reused",
+      "The idempotency key was already used for a different request", HttpStatus.UNPROCESSABLE_ENTITY, null);
+  private static final ErrorTemplate SIMULATION_NOT_FOUND = new ErrorTemplate("Not Found",
+      "The simulation was not found", HttpStatus.NOT_FOUND, null);
+  private static final ErrorTemplate CLIENT_NOT_FOUND = new ErrorTemplate("Not Found",
+      "The client was not found", HttpStatus.NOT_FOUND, null);
+  private static final ErrorTemplate MALFORMED_JSON = new ErrorTemplate(PARSE_ERROR, "JSON malformed",
+      HttpStatus.BAD_REQUEST, Map.of("json", "Malformed JSON request"));
+  private static final ErrorTemplate INVALID_FORMAT = new ErrorTemplate(PARSE_ERROR, INVALID_DATA_FORMAT,
+      HttpStatus.BAD_REQUEST, Map.of("format", "Invalid data format in JSON"));
+  private static final ErrorTemplate MAPPING = new ErrorTemplate(PARSE_ERROR, MAPPING_ERROR,
+      HttpStatus.BAD_REQUEST, Map.of("mapping", MAPPING_ERROR));
+  private static final ErrorTemplate UNREADABLE = new ErrorTemplate(PARSE_ERROR, "Invalid JSON format",
+      HttpStatus.BAD_REQUEST, Map.of("request", "Not possible to process the request due to malformed JSON"));
+  private static final ErrorTemplate INTERNAL = new ErrorTemplate("Internal Server Error",
+      "An unexpected error occurred", HttpStatus.INTERNAL_SERVER_ERROR, null);
+
+  private static final Map<String, Map<String, String>> MAPPING_ERRORS = new ConcurrentHashMap<>();
+  private static final ClassValue<Map<String, String>> INVALID_VALUE_SUFFIXES = new ClassValue<>() {
+    @Override
+    protected Map<String, String> computeValue(final Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  private final ErrorTimestamps timestamps;
+
+  public ErrorResponses(final Clock clock) {
+    this.timestamps = new ErrorTimestamps(clock);
+  }
+
+  /**
+   * Builds the body reporting invalid fields of a request.
+   *
+   * @param errors the error message of each invalid field
+   * @return the validation error body
+   */
+  public ErrorResponse validationError(final Map<String, String> errors) {
+    return VALIDATION.at(timestamps.now(), errors);
+  }
+
+  /**
+   * Builds the body reporting a batch that was rejected as a whole.
+   *
+   * @param reason why the batch was rejected
+   * @return the validation error body
+   */
+  public ErrorResponse invalidBatch(final String reason) {
+    return INVALID_BATCH.at(timestamps.now(), Map.of("requests", reason));
+  }
+
+  /**
+   * Builds the body reporting a monthly installment that no accepted loan fits.
+   *
+   * @param reason why no loan fits the installment
+   * @return the unaffordable loan body
+   */
+  public ErrorResponse unaffordableLoan(final String reason) {
+    return UNAFFORDABLE.at(timestamps.now(), Map.of("monthlyInstallment", reason));
+  }
+
+  /**
+   * Builds the body reporting an idempotency key sent again with a different request.
+   *
+   * @param reason which key was reused
+   * @return the idempotency key mismatch body
+   */
+  public ErrorResponse idempotencyKeyMismatch(final String reason) {
+    return IDEMPOTENCY_KEY_MISMATCH.at(timestamps.now(), Map.of("idempotencyKey", reason));
+  }
+
+  /**
+   * Builds the body reporting a simulation id that was never recorded.
+   *
+   * @param reason which simulation was not found
+   * @return the not found body
+   */
+  public ErrorResponse simulationNotFound(final String reason) {
+    return SIMULATION_NOT_FOUND.at(timestamps.now(), Map.of("id", reason));
+  }
+
+  /**
+   * Builds the body reporting a client missing from the portfolio.
+   *
+   * @param reason which client was not found
+   * @return the not found body
+   */
+  public ErrorResponse clientNotFound(final String reason) {
+    return CLIENT_NOT_FOUND.at(timestamps.now(), Map.of("client", reason));
+  }
+
+  /**
+   * Builds the body reporting a request body that could not be read, detailing the offending field when the
+   * cause tells which one it is.
+   *
+   * @param cause the exception raised while reading the body, possibly {@code null}
+   * @return the parse error body
+   */
+  public ErrorResponse parseError(final Throwable cause) {
+    if (cause instanceof JsonParseException) {
+      return MALFORMED_JSON.at(timestamps.now());
+    }
+    if (cause instanceof InvalidFormatException formatEx) {
+      final String fieldName = fieldName(formatEx);
+      if (fieldName == null) {
+        return INVALID_FORMAT.at(timestamps.now());
+      }
+      final String message = "Value '" + formatEx.getValue() + invalidValueSuffix(formatEx.getTargetType(), fieldName);
+      return INVALID_FORMAT.at(timestamps.now(), Map.of(fieldName, message));
+    }
+    if (cause instanceof JsonMappingException mappingEx) {
+      final String fieldName = fieldName(mappingEx);
+      if (fieldName == null) {
+        return MAPPING.at(timestamps.now());
+      }
+      return MAPPING.at(timestamps.now(), mappingErrors(fieldName));
+    }
+    return UNREADABLE.at(timestamps.now());
+  }
+
+  /**
+   * Builds the body reporting an unexpected failure.
+   *
+   * @return the internal server error body
+   */
+  public ErrorResponse internalError() {
+    return INTERNAL.at(timestamps.now());
+  }
+
+  /**
+   * Finds the offending field, skipping the array indexes in front of it when the body is a list, such as a
+   * batch of requests.
+   *
+   * @return the name of the first field on the exception's path, or {@code null} when it names none
+   */
+  private static String fieldName(final JsonMappingException ex) {
+    for (JsonMappingException.Reference reference : ex.getPath()) {
+      if (reference.getFieldName() != null) {
+        return reference.getFieldName();
+      }
+    }
+    return null;
+  }
+
+  private static String invalidValueSuffix(final Class<?> targetType, final String fieldName) {
+    final Map<String, String> suffixes = INVALID_VALUE_SUFFIXES.get(targetType);
+    final String suffix = suffixes.get(fieldName);
+    if (suffix != null) {
+      return suffix;
+    }
+    if (suffixes.size() < MAX_CACHED_FIELDS) {
+      return suffixes.computeIfAbsent(fieldName, name -> newInvalidValueSuffix(targetType, name));
+    }
+    return newInvalidValueSuffix(targetType, fieldName);
+  }
+
+  private static String newInvalidValueSuffix(final Class<?> targetType, final String fieldName) {
+    return "' is invalid for field '" + fieldName + "'. Expected: " + getReadableTypeName(targetType.getSimpleName());
+  }
+
+  private static Map<String, String> mappingErrors(final String fieldName) {
+    final Map<String, String> errors = MAPPING_ERRORS.get(fieldName);
+    if (errors != null) {
+      return errors;
+    }
+    if (MAPPING_ERRORS.size() < MAX_CACHED_FIELDS) {
+      return MAPPING_ERRORS.computeIfAbsent(fieldName, ErrorResponses::newMappingErrors);
+    }
+    return newMappingErrors(fieldName);
+  }
+
+  private static Map<String, String> newMappingErrors(final String fieldName) {
+    return Map.of(fieldName, "Error processing field: " + fieldName);
+  }
+
+  private static String getReadableTypeName(final String javaTypeName) {
+    return switch (javaTypeName) {
+      case "BigDecimal" -> "decimal (e.g., 10000.22)";
+      case "LocalDate" -> "Date (yyyy-MM-dd, e.g., 1990-01-01)";
+      case "Integer" -> "integer (e.g., 24)";
+      case "String" -> "uuid (e.g., 123e4567-e89b-12d3-a456-426614174000)";
+      case "Boolean" -> "boolean (true/false)";
+      default -> javaTypeName.toLowerCase(Locale.ROOT);
+    };
+  }
+
+  private record ErrorTemplate(String error, String message, HttpStatus status, Map<String, String> errors) {
+
+    ErrorResponse at(final LocalDateTime timestamp) {
+      return at(timestamp, errors);
+    }
+
+    ErrorResponse at(final LocalDateTime timestamp, final Map<String, String> validationErrors) {
+      return new ErrorResponse(error, message, status.value(), timestamp, validationErrors);
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package com.creditas.loan.simulator.exception;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Timestamp source for error bodies, precise to the millisecond. Rejected requests tend to arrive in bursts, so
+ * instead of resolving the zone offset and building a {@link LocalDateTime} for each of them, the timestamp is
+ * built once per millisecond and shared by every error answered within it.
+ */
+public final class ErrorTimestamps {
+
+  private final Clock clock;
+  private volatile Snapshot last = new Snapshot(Long.MIN_VALUE, null);
+
+  public ErrorTimestamps(final Clock clock) {
+    this.clock = clock;
+  }
+
+  /**
+   * Returns the current date-time in the clock's zone, truncated to the millisecond.
+   *
+   * @return the current timestamp
+   */
+  public LocalDateTime now() {
+    long millis = clock.millis();
+    Snapshot snapshot = last;
+    if (snapshot.epochMillis() != millis) {
+      snapshot = new Snapshot(millis, LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), clock.getZone()));
+      last = snapshot;
+    }
+    return snapshot.timestamp();
+  }
+
+  private record Snapshot(long epochMillis, LocalDateTime timestamp) {
+  }
+}
@@ -0,0 +1,16 @@
+package com.creditas.loan.simulator.exception;
+
+import java.io.Serial;
+
+/**
+ * Thrown when an idempotency key is sent again with a request different from the one it was first used for.
+ */
+public final class IdempotencyKeyMismatchException extends RuntimeException {
+
+  @Serial
+  private static final long serialVersionUID = 1L;
+
+  public IdempotencyKeyMismatchException(final String message) {
+    super(message);
+  }
+}
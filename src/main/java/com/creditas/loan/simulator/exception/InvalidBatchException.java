@@ -0,0 +1,17 @@
+package com.creditas.loan.simulator.exception;
+
+import java.io.Serial;
+
+/**
+ * Thrown when a batch of simulations cannot be accepted as a whole, e.g. when it is empty
+ * or exceeds the configured maximum size.
+ */
+public final class InvalidBatchException extends RuntimeException {
+
+  @Serial
+  private static final long serialVersionUID = 1L;
+
+  public InvalidBatchException(final String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,16 @@
+package com.creditas.loan.simulator.exception;
+
+import java.io.Serial;
+
+/**
+ * Thrown when the amortization schedule of a loan is requested for a term longer than schedules are computed for.
+ */
+public final class ScheduleTooLongException extends RuntimeException {
+
+  @Serial
+  private static final long serialVersionUID = 1L;
+
+  public ScheduleTooLongException(final String message) {
+    super(message);
+  }
+}
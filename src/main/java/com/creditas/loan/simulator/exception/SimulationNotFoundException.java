@@ -0,0 +1,16 @@
+package com.creditas.loan.simulator.exception;
+
+import java.io.Serial;
+
+/**
+ * Thrown when no simulation with the requested id was recorded.
+ */
+public final class SimulationNotFoundException extends RuntimeException {
+
+  @Serial
+  private static final long serialVersionUID = 1L;
+
+  public SimulationNotFoundException(final String id) {
+    super("No simulation with id " + id);
+  }
+}
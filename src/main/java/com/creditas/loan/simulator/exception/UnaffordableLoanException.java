@@ -0,0 +1,16 @@
+package com.creditas.loan.simulator.exception;
+
+import java.io.Serial;
+
+/**
+ * Thrown when no loan within the accepted amounts and terms fits the monthly installment a client can afford.
+ */
+public final class UnaffordableLoanException extends RuntimeException {
+
+  @Serial
+  private static final long serialVersionUID = 1L;
+
+  public UnaffordableLoanException(final String message) {
+    super(message);
+  }
+}
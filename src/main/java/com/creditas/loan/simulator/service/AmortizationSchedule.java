@@ -0,0 +1,155 @@
+package com.creditas.loan.simulator.service;
+
+import com.creditas.loan.simulator.domain.Installment;
+import com.creditas.loan.simulator.domain.Money;
+import com.creditas.loan.simulator.exception.ScheduleTooLongException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * A window of the month-by-month amortization schedule of a loan, stored column by column in cents.
+ *
+ * <p>The schedule is computed in a single pass over the installments up to the end of the window, keeping only
+ * the running balance and the columns of the requested installments, so a page of a long schedule costs memory
+ * for that page only. Interest is charged on the outstanding balance with the monthly rate used by the payment
+ * calculators, rounded half up to the cent with integer arithmetic. The last installment settles whatever
+ * balance is left after rounding, so the principal paid always adds up to the loan amount. As every page runs the
+ * schedule from its first installment, schedules are only computed for terms of up to {@value #MAX_TERM_IN_MONTHS}
+ * months, which bounds the cost of any page.
+ *
+ * <p>{@link Installment} objects are only created when the schedule is read, one per accessed element.
+ */
+public final class AmortizationSchedule {
+
+  /**
+   * The longest term a schedule is computed for.
+   */
+  public static final int MAX_TERM_IN_MONTHS = 1200;
+
+  private static final long RATE_UNIT = BigDecimal.ONE.movePointRight(BigDecimalPaymentCalculator.SCALE)
+      .longValueExact();
+
+  private final LocalDate startDate;
+  private final int firstNumber;
+  private final long[] payments;
+  private final long[] principals;
+  private final long[] interests;
+  private final long[] balances;
+
+  private AmortizationSchedule(final LocalDate startDate, final int firstNumber, final int size) {
+    this.startDate = startDate;
+    this.firstNumber = firstNumber;
+    this.payments = new long[size];
+    this.principals = new long[size];
+    this.interests = new long[size];
+    this.balances = new long[size];
+  }
+
+  /**
+   * Computes the installments {@code from} (inclusive) to {@code to} (exclusive) of a schedule.
+   *
+   * @param loanAmount         the loan amount
+   * @param monthlyInstallment the monthly installment
+   * @param annualInterestRate the annual interest rate, in percent
+   * @param loanTermInMonths   the number of installments of the loan
+   * @param startDate          the date the loan starts; installment {@code n} is due {@code n} months later
+   * @param from               the zero-based index of the first installment of the window
+   * @param to                 the zero-based index after the last installment of the window
+   * @return the requested window of the schedule
+   */
+  public static AmortizationSchedule window(final Money loanAmount,
+                                            final Money monthlyInstallment,
+                                            final BigDecimal annualInterestRate,
+                                            final int loanTermInMonths,
+                                            final LocalDate startDate,
+                                            final int from,
+                                            final int to) {
+    if (from < 0 || to < from || to > loanTermInMonths) {
+      throw new IllegalArgumentException("Invalid schedule window [" + from + ", " + to + ") for a term of "
+          + loanTermInMonths + " months");
+    }
+    long monthlyRate = BigDecimalPaymentCalculator.toMonthlyRate(annualInterestRate)
+        .movePointRight(BigDecimalPaymentCalculator.SCALE)
+        .longValueExact();
+    long payment = monthlyInstallment.cents();
+    long balance = loanAmount.cents();
+
+    AmortizationSchedule schedule = new AmortizationSchedule(startDate, from + 1, to - from);
+    for (int index = 0; index < to; index++) {
+      long interest = Math.addExact(Math.multiplyExact(balance, monthlyRate), RATE_UNIT / 2) / RATE_UNIT;
+      long principal = Math.min(payment - interest, balance);
+      if (index == loanTermInMonths - 1) {
+        principal = balance;
+      }
+      balance -= principal;
+      if (index >= from) {
+        schedule.set(index - from, principal, interest, balance);
+      }
+    }
+    return schedule;
+  }
+
+  /**
+   * Checks that a schedule can be computed for a term.
+   *
+   * @param loanTermInMonths the number of installments of the loan
+   * @throws ScheduleTooLongException when the term is longer than {@value #MAX_TERM_IN_MONTHS} months
+   */
+  public static void requireSchedulableTerm(final int loanTermInMonths) {
+    if (loanTermInMonths > MAX_TERM_IN_MONTHS) {
+      throw new ScheduleTooLongException("Loan term in months must not exceed " + MAX_TERM_IN_MONTHS
+          + " for an amortization schedule");
+    }
+  }
+
+  private void set(final int position, final long principal, final long interest, final long balance) {
+    payments[position] = principal + interest;
+    principals[position] = principal;
+    interests[position] = interest;
+    balances[position] = balance;
+  }
+
+  public int size() {
+    return payments.length;
+  }
+
+  public long paymentCents(final int position) {
+    return payments[position];
+  }
+
+  public long principalCents(final int position) {
+    return principals[position];
+  }
+
+  public long interestCents(final int position) {
+    return interests[position];
+  }
+
+  public long balanceCents(final int position) {
+    return balances[position];
+  }
+
+  /**
+   * Returns a read-only view of the window that creates each {@link Installment} when it is accessed.
+   *
+   * @return the installments of the window, in due order
+   */
+  public List<Installment> installments() {
+    return new AbstractList<>() {
+      @Override
+      public Installment get(final int position) {
+        int number = firstNumber + position;
+        return new Installment(String.valueOf(number), startDate.plusMonths(number),
+            Money.ofCents(payments[position]), Money.ofCents(principals[position]),
+            Money.ofCents(interests[position]), Money.ofCents(balances[position]));
+      }
+
+      @Override
+      public int size() {
+        return payments.length;
+      }
+    };
+  }
+}
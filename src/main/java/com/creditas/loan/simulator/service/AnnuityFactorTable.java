@@ -0,0 +1,157 @@
+package com.creditas.loan.simulator.service;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Payment calculation backed by a lazily populated table of annuity factors {@code i(1+i)^n / ((1+i)^n - 1)},
+ * indexed by annual rate and term. Rates come from a handful of age bands and terms are small integers,
+ * so once warmed up a simulation is a single multiplication of the loan amount by a cached factor.
+ *
+ * <p>Factors are kept with 34 significant digits, so payments match {@link BigDecimalPaymentCalculator}
+ * at its {@value BigDecimalPaymentCalculator#SCALE}-digit scale. Lookups never lock: rows live in a
+ * {@link ConcurrentHashMap} and factors are published through an {@link AtomicReferenceArray}; two threads
+ * racing on the same empty slot simply compute the same factor. Terms above {@code maxCachedTerm} are
+ * computed on every call to keep the table bounded.
+ */
+public final class AnnuityFactorTable implements PaymentCalculator {
+
+  private static final MathContext FACTOR_PRECISION = MathContext.DECIMAL128;
+  private static final int INDEX_BITS = Integer.SIZE;
+  private static final long INDEX_MASK = 0xFFFF_FFFFL;
+
+  private final int maxCachedTerm;
+  private final Map<BigDecimal, Row> rows = new ConcurrentHashMap<>();
+
+  public AnnuityFactorTable(final int maxCachedTerm) {
+    this.maxCachedTerm = maxCachedTerm;
+  }
+
+  @Override
+  public BigDecimal calculateMonthlyPayment(final BigDecimal amount,
+                                            final int loanTermInMonths,
+                                            final BigDecimal annualInterestRate) {
+    if (annualInterestRate.signum() == 0) {
+      return amount.divide(BigDecimal.valueOf(loanTermInMonths), BigDecimalPaymentCalculator.SCALE,
+          RoundingMode.HALF_UP);
+    }
+    return amount.multiply(factor(annualInterestRate, loanTermInMonths))
+        .setScale(BigDecimalPaymentCalculator.SCALE, RoundingMode.HALF_UP);
+  }
+
+  /**
+   * Calculates the monthly payment of every amount for every term at a single rate. Terms are visited in ascending
+   * order, so a power factor {@code (1+i)^n} missing from the table is built from the previous one, and since the
+   * payment is linear in the principal each annuity factor is looked up once and applied to all amounts.
+   *
+   * @param amounts            the loan amounts
+   * @param loanTermsInMonths  the numbers of monthly payments, in any order
+   * @param annualInterestRate the annual interest rate, in percent
+   * @return the payments indexed by term and then by amount, in the order they were given
+   */
+  public BigDecimal[][] calculateMonthlyPayments(final BigDecimal[] amounts,
+                                                 final int[] loanTermsInMonths,
+                                                 final BigDecimal annualInterestRate) {
+    BigDecimal[][] payments = new BigDecimal[loanTermsInMonths.length][amounts.length];
+    if (annualInterestRate.signum() == 0) {
+      for (int term = 0; term < loanTermsInMonths.length; term++) {
+        for (int amount = 0; amount < amounts.length; amount++) {
+          payments[term][amount] =
+              calculateMonthlyPayment(amounts[amount], loanTermsInMonths[term], annualInterestRate);
+        }
+      }
+      return payments;
+    }
+
+    Row row = rows.computeIfAbsent(annualInterestRate, rate -> new Row(rate, maxCachedTerm));
+    BigDecimal powerFactor = BigDecimal.ONE;
+    int poweredTerm = 0;
+    for (long termAndIndex : ascendingTerms(loanTermsInMonths)) {
+      int term = (int) (termAndIndex >>> INDEX_BITS);
+      BigDecimal factor = cachedFactor(row, term);
+      if (factor == null) {
+        // Only missing factors need the power, advanced from the last term that needed one
+        powerFactor = powerFactor.multiply(row.onePlusRate.pow(term - poweredTerm, FACTOR_PRECISION),
+            FACTOR_PRECISION);
+        poweredTerm = term;
+        factor = row.factorOf(powerFactor);
+        if (term <= maxCachedTerm) {
+          row.factors.set(term, factor);
+        }
+      }
+      BigDecimal[] termPayments = payments[(int) (termAndIndex & INDEX_MASK)];
+      for (int amount = 0; amount < amounts.length; amount++) {
+        termPayments[amount] = amounts[amount].multiply(factor)
+            .setScale(BigDecimalPaymentCalculator.SCALE, RoundingMode.HALF_UP);
+      }
+    }
+    return payments;
+  }
+
+  /**
+   * Returns the annuity factor for a positive annual rate, computing and caching it on first use.
+   *
+   * @param annualInterestRate the annual interest rate, in percent
+   * @param loanTermInMonths   the number of monthly payments
+   * @return the factor that turns a principal into its monthly payment
+   */
+  public BigDecimal factor(final BigDecimal annualInterestRate, final int loanTermInMonths) {
+    Row row = rows.computeIfAbsent(annualInterestRate, rate -> new Row(rate, maxCachedTerm));
+    if (loanTermInMonths > maxCachedTerm) {
+      return row.computeFactor(loanTermInMonths);
+    }
+
+    BigDecimal factor = row.factors.get(loanTermInMonths);
+    if (factor == null) {
+      factor = row.computeFactor(loanTermInMonths);
+      row.factors.set(loanTermInMonths, factor);
+    }
+    return factor;
+  }
+
+  private BigDecimal cachedFactor(final Row row, final int loanTermInMonths) {
+    if (loanTermInMonths > maxCachedTerm) {
+      return null;
+    }
+    return row.factors.get(loanTermInMonths);
+  }
+
+  /**
+   * Sorts the terms without boxing, each one packed with its original position in the low bits.
+   */
+  private static long[] ascendingTerms(final int[] loanTermsInMonths) {
+    long[] termsAndIndexes = new long[loanTermsInMonths.length];
+    for (int index = 0; index < loanTermsInMonths.length; index++) {
+      termsAndIndexes[index] = (long) loanTermsInMonths[index] << INDEX_BITS | index;
+    }
+    Arrays.sort(termsAndIndexes);
+    return termsAndIndexes;
+  }
+
+  private static final class Row {
+
+    private final BigDecimal monthlyRate;
+    private final BigDecimal onePlusRate;
+    private final AtomicReferenceArray<BigDecimal> factors;
+
+    Row(final BigDecimal annualInterestRate, final int maxCachedTerm) {
+      this.monthlyRate = BigDecimalPaymentCalculator.toMonthlyRate(annualInterestRate);
+      this.onePlusRate = BigDecimal.ONE.add(monthlyRate);
+      this.factors = new AtomicReferenceArray<>(maxCachedTerm + 1);
+    }
+
+    BigDecimal computeFactor(final int loanTermInMonths) {
+      return factorOf(onePlusRate.pow(loanTermInMonths, FACTOR_PRECISION));
+    }
+
+    BigDecimal factorOf(final BigDecimal powerFactor) {
+      return monthlyRate.multiply(powerFactor)
+          .divide(powerFactor.subtract(BigDecimal.ONE), FACTOR_PRECISION);
+    }
+  }
+}
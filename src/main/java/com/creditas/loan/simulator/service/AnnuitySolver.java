@@ -0,0 +1,65 @@
+package com.creditas.loan.simulator.service;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Closed-form inverses of the annuity payment {@code PMT = PV * i(1+i)^n / ((1+i)^n - 1)}, at the monthly rate
+ * every calculation engine uses. Engines round differently, so callers confirm the results against their own.
+ */
+final class AnnuitySolver {
+
+  private static final MathContext PRECISION = MathContext.DECIMAL128;
+
+  private AnnuitySolver() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Returns the principal whose monthly payment over the term is exactly the given installment.
+   *
+   * @param monthlyInstallment the monthly installment
+   * @param loanTermInMonths   the number of monthly payments
+   * @param annualInterestRate the annual interest rate, in percent
+   * @return the present value of the installments, unrounded
+   */
+  static BigDecimal presentValue(final BigDecimal monthlyInstallment,
+                                 final int loanTermInMonths,
+                                 final BigDecimal annualInterestRate) {
+    if (annualInterestRate.signum() == 0) {
+      return monthlyInstallment.multiply(BigDecimal.valueOf(loanTermInMonths));
+    }
+    BigDecimal monthlyRate = BigDecimalPaymentCalculator.toMonthlyRate(annualInterestRate);
+    BigDecimal powerFactor = BigDecimal.ONE.add(monthlyRate).pow(loanTermInMonths, PRECISION);
+
+    // PV = PMT * [(1+i)^n - 1] / [i(1+i)^n]
+    return monthlyInstallment.multiply(powerFactor.subtract(BigDecimal.ONE))
+        .divide(monthlyRate.multiply(powerFactor), PRECISION);
+  }
+
+  /**
+   * Estimates the fewest monthly payments of at most the given installment that repay the principal. The estimate
+   * is computed in {@code double} and may be one payment off either way.
+   *
+   * @param loanAmount         the principal
+   * @param monthlyInstallment the largest monthly installment
+   * @param annualInterestRate the annual interest rate, in percent
+   * @return the estimated term, or {@code 0} when the installment does not exceed the monthly interest
+   */
+  static long minimumTerm(final BigDecimal loanAmount,
+                          final BigDecimal monthlyInstallment,
+                          final BigDecimal annualInterestRate) {
+    if (annualInterestRate.signum() == 0) {
+      return loanAmount.divide(monthlyInstallment, 0, RoundingMode.CEILING).longValue();
+    }
+    double monthlyRate = BigDecimalPaymentCalculator.toMonthlyRate(annualInterestRate).doubleValue();
+    double interestShare = loanAmount.doubleValue() * monthlyRate / monthlyInstallment.doubleValue();
+    if (interestShare >= 1) {
+      return 0;
+    }
+
+    // n = -ln(1 - PV*i/PMT) / ln(1+i)
+    return Math.max(1, (long) Math.ceil(-Math.log1p(-interestShare) / Math.log1p(monthlyRate)));
+  }
+}
@@ -0,0 +1,47 @@
+package com.creditas.loan.simulator.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Reference annuity calculation, carried out entirely in {@link BigDecimal}.
+ * The monthly rate is rounded to {@value #SCALE} decimal places and {@code (1+i)^n} is computed exactly.
+ */
+public final class BigDecimalPaymentCalculator implements PaymentCalculator {
+
+  static final int SCALE = 10;
+
+  private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+  private static final BigDecimal MONTHS_IN_YEAR = BigDecimal.valueOf(12);
+
+  @Override
+  public BigDecimal calculateMonthlyPayment(final BigDecimal amount,
+                                            final int loanTermInMonths,
+                                            final BigDecimal annualInterestRate) {
+    if (annualInterestRate.signum() == 0) {
+      return amount.divide(BigDecimal.valueOf(loanTermInMonths), SCALE, RoundingMode.HALF_UP);
+    }
+    BigDecimal monthlyInterestRate = toMonthlyRate(annualInterestRate);
+
+    // PMT = PV * [i(1+i)^n] / [(1+i)^n - 1]
+    BigDecimal onePlusRate = BigDecimal.ONE.add(monthlyInterestRate);
+    BigDecimal powerFactor = onePlusRate.pow(loanTermInMonths);
+
+    return amount
+        .multiply(monthlyInterestRate)
+        .multiply(powerFactor)
+        .divide(powerFactor.subtract(BigDecimal.ONE), SCALE, RoundingMode.HALF_UP);
+  }
+
+  /**
+   * Converts an annual percentage rate into the monthly rate used by every calculation engine.
+   *
+   * @param annualInterestRate the annual interest rate, in percent
+   * @return the monthly interest rate as a fraction, rounded to {@value #SCALE} decimal places
+   */
+  static BigDecimal toMonthlyRate(final BigDecimal annualInterestRate) {
+    return annualInterestRate
+        .divide(ONE_HUNDRED, SCALE, RoundingMode.HALF_UP)
+        .divide(MONTHS_IN_YEAR, SCALE, RoundingMode.HALF_UP);
+  }
+}
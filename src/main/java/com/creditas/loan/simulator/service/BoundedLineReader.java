@@ -0,0 +1,102 @@
+package com.creditas.loan.simulator.service;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads newline-terminated lines from a character stream, keeping at most {@code maxLineLength} characters of a line
+ * in memory. The rest of a longer line is skipped up to its line break, so a single unterminated line cannot grow
+ * without bound, and the line is flagged as {@link #tooLong() too long}.
+ */
+final class BoundedLineReader {
+
+  private static final char NEWLINE = '\n';
+  private static final char CARRIAGE_RETURN = '\r';
+
+  private final Reader in;
+  private final char[] buffer;
+  private final int maxLineLength;
+  private final StringBuilder line = new StringBuilder();
+  private int position;
+  private int limit;
+  private boolean overflow;
+
+  BoundedLineReader(final Reader in, final int bufferSize, final int maxLineLength) {
+    this.in = in;
+    this.buffer = new char[bufferSize];
+    this.maxLineLength = maxLineLength;
+  }
+
+  /**
+   * Reads the next line, without its {@code \n} or {@code \r\n} terminator.
+   *
+   * @return the line, cut to the maximum length when {@link #tooLong()}, or {@code null} once the input is exhausted
+   * @throws IOException when the input cannot be read
+   */
+  String readLine() throws IOException {
+    line.setLength(0);
+    overflow = false;
+    boolean started = false;
+    while (true) {
+      if (position == limit && !fill()) {
+        if (!started) {
+          return null;
+        }
+        return finish();
+      }
+      started = true;
+      int start = position;
+      while (position < limit && buffer[position] != NEWLINE) {
+        position++;
+      }
+      append(start, position);
+      if (position < limit) {
+        position++;
+        return finish();
+      }
+    }
+  }
+
+  /**
+   * Tells whether the line last returned by {@link #readLine()} was longer than the maximum length.
+   */
+  boolean tooLong() {
+    return overflow || line.length() > maxLineLength;
+  }
+
+  /**
+   * Tells whether another read can start without blocking.
+   */
+  boolean ready() throws IOException {
+    return position < limit || in.ready();
+  }
+
+  private void append(final int from, final int to) {
+    // One character past the limit is kept so that a line of exactly the limit followed by \r\n still fits
+    int room = maxLineLength + 1 - line.length();
+    if (to - from > room) {
+      line.append(buffer, from, room);
+      overflow = true;
+    } else {
+      line.append(buffer, from, to - from);
+    }
+  }
+
+  private String finish() {
+    int length = line.length();
+    if (!overflow && length > 0 && line.charAt(length - 1) == CARRIAGE_RETURN) {
+      line.setLength(length - 1);
+    }
+    return line.substring(0, Math.min(line.length(), maxLineLength));
+  }
+
+  private boolean fill() throws IOException {
+    int read = in.read(buffer);
+    if (read < 0) {
+      return false;
+    }
+    position = 0;
+    limit = read;
+    return true;
+  }
+}
@@ -0,0 +1,154 @@
+package com.creditas.loan.simulator.service;
+
+import com.creditas.loan.simulator.dto.LoanSimulationBatchItem;
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.creditas.loan.simulator.service.LineChunkReader.Chunk;
+import com.creditas.loan.simulator.service.OrderedChunkWriter.RepricedChunk;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import org.springframework.stereotype.Service;
+
+/**
+ * Reprices a whole file of loan simulation requests offline, one request per line, as NDJSON or as CSV with a
+ * header row.
+ *
+ * <p>The input is read through a file channel in chunks of whole lines, which are simulated in parallel on the
+ * simulation pool while the next chunks are read. Their results are written to the output channel in input
+ * order, one {@link LoanSimulationBatchItem} per line whose {@code index} is the zero-based line of the row,
+ * header excluded. Blank lines are skipped. At most {@code maxChunksInFlight} chunks are read ahead of the one
+ * being written, so memory use depends on the chunk size, not on the size of the file.
+ */
+@Service
+public class BulkRepricingService {
+
+  private static final byte CARRIAGE_RETURN = '\r';
+  private static final String PARSE_ERROR = "Parse Error";
+  private static final Map<String, String> UNREADABLE_ROW = Map.of("request", "Not possible to read the row");
+
+  private final LoanBatchService loanBatchService;
+  private final ForkJoinPool simulationPool;
+  private final ObjectReader requestReader;
+  private final ObjectWriter itemWriter;
+
+  public BulkRepricingService(final LoanBatchService loanBatchService,
+                              final ObjectMapper objectMapper,
+                              final ForkJoinPool simulationPool) {
+    this.loanBatchService = loanBatchService;
+    this.simulationPool = simulationPool;
+    this.requestReader = objectMapper.readerFor(LoanSimulationRequest.class);
+    this.itemWriter = objectMapper.writerFor(LoanSimulationBatchItem.class);
+  }
+
+  /**
+   * Reprices every row of the input file into the output file. A file whose name ends with {@code .csv} is read
+   * as CSV, any other as NDJSON.
+   *
+   * @param input             the file of requests
+   * @param output            the file of results, replaced if it exists
+   * @param chunkSize         the size of the chunks the input is read in, at least the length of its longest line
+   * @param maxChunksInFlight the number of chunks read ahead of the one being written
+   * @return the number of rows and failures, and the time taken
+   * @throws IOException when a file cannot be read or written, or a line is longer than the chunk size
+   */
+  public RepricingReport reprice(final Path input, final Path output, final int chunkSize,
+                                 final int maxChunksInFlight) throws IOException {
+    long start = System.nanoTime();
+    try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+         FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+             StandardOpenOption.TRUNCATE_EXISTING)) {
+      LineChunkReader chunks = new LineChunkReader(in, chunkSize);
+      OrderedChunkWriter writer = new OrderedChunkWriter(out, maxChunksInFlight);
+      try {
+        RowReader rowReader = rowReader(input, chunks);
+        for (Chunk chunk = chunks.next(); chunk != null; chunk = chunks.next()) {
+          Chunk current = chunk;
+          writer.submit(CompletableFuture.supplyAsync(() -> reprice(current, rowReader), simulationPool));
+        }
+        writer.finish();
+      } catch (IOException | RuntimeException e) {
+        writer.abort();
+        throw e;
+      }
+      return new RepricingReport(writer.rows(), writer.failures(), chunks.bytesRead(),
+          Duration.ofNanos(System.nanoTime() - start));
+    }
+  }
+
+  private RowReader rowReader(final Path input, final LineChunkReader chunks) throws IOException {
+    if (!input.toString().endsWith(".csv")) {
+      return (data, from, to) -> requestReader.readValue(data, from, to - from);
+    }
+    CsvRowReader csvRowReader = CsvRowReader.ofHeader(chunks.header());
+    return csvRowReader::read;
+  }
+
+  private RepricedChunk reprice(final Chunk chunk, final RowReader rowReader) {
+    byte[] data = chunk.data();
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(data.length * 2);
+    long rows = 0;
+    long failures = 0;
+    int index = chunk.firstRow();
+    try {
+      int from = 0;
+      while (from < data.length) {
+        int end = LineChunkReader.lineEnd(data, from, data.length);
+        int to = end;
+        if (to > from && data[to - 1] == CARRIAGE_RETURN) {
+          to--;
+        }
+        if (!isBlank(data, from, to)) {
+          LoanSimulationBatchItem item = repriceRow(index, data, from, to, rowReader);
+          rows++;
+          if (!item.isSuccessful()) {
+            failures++;
+          }
+          // Closing a ByteArrayOutputStream has no effect, so the row is appended to the same buffer
+          itemWriter.writeValue(buffer, item);
+          buffer.write('\n');
+        }
+        index++;
+        from = end + 1;
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return new RepricedChunk(buffer.toByteArray(), rows, failures);
+  }
+
+  private LoanSimulationBatchItem repriceRow(final int index, final byte[] data, final int from, final int to,
+                                             final RowReader rowReader) {
+    LoanSimulationRequest request;
+    try {
+      request = rowReader.read(data, from, to);
+    } catch (IOException | RuntimeException e) {
+      return LoanSimulationBatchItem.failure(index, PARSE_ERROR, UNREADABLE_ROW);
+    }
+    return loanBatchService.simulateItem(index, request);
+  }
+
+  private static boolean isBlank(final byte[] data, final int from, final int to) {
+    for (int i = from; i < to; i++) {
+      if (!Character.isWhitespace(data[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @FunctionalInterface
+  private interface RowReader {
+
+    LoanSimulationRequest read(byte[] data, int from, int to) throws IOException;
+  }
+}
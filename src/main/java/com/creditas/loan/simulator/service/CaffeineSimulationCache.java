@@ -0,0 +1,53 @@
+package com.creditas.loan.simulator.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Bounded quote cache backed by Caffeine, which evicts with W-TinyLFU and expires entries after a fixed time
+ * to live. Lookups and loads lock only the entry being computed, so concurrent quotes for different inputs never
+ * wait on each other and concurrent quotes for the same inputs are calculated once.
+ *
+ * <p>Amounts and rates are keyed without trailing zeros, so {@code 10000} and {@code 10000.00} share an entry.
+ */
+public final class CaffeineSimulationCache implements SimulationCache {
+
+  private final Cache<Key, LoanQuote> cache;
+
+  public CaffeineSimulationCache(final long maximumSize, final Duration timeToLive, final Ticker ticker) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(timeToLive)
+        .ticker(ticker)
+        .recordStats()
+        .build();
+  }
+
+  @Override
+  public LoanQuote get(final BigDecimal loanAmount, final BigDecimal annualInterestRate,
+                       final int loanTermInMonths, final Supplier<LoanQuote> calculation) {
+    Key key = new Key(loanAmount.stripTrailingZeros(), annualInterestRate.stripTrailingZeros(), loanTermInMonths);
+    return cache.get(key, ignored -> calculation.get());
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Pending evictions are processed first so the eviction count is up to date.
+   */
+  @Override
+  public SimulationCacheStats stats() {
+    cache.cleanUp();
+    CacheStats stats = cache.stats();
+    return new SimulationCacheStats(stats.hitCount(), stats.missCount(), stats.evictionCount(),
+        cache.estimatedSize());
+  }
+
+  private record Key(BigDecimal loanAmount, BigDecimal annualInterestRate, int loanTermInMonths) {
+  }
+}
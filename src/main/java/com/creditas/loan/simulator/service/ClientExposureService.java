@@ -0,0 +1,78 @@
+package com.creditas.loan.simulator.service;
+
+import com.creditas.loan.simulator.domain.Installment;
+import com.creditas.loan.simulator.domain.Money;
+import com.creditas.loan.simulator.dto.ClientExposureResponse;
+import com.creditas.loan.simulator.exception.ClientNotFoundException;
+import java.time.LocalDate;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.stereotype.Service;
+
+/**
+ * Serves the exposure of each client of the portfolio. The exposure of every client is aggregated at once on the
+ * simulation pool, and kept until the day changes, so a lookup costs two index probes.
+ */
+@Service
+public class ClientExposureService {
+
+  private final ClientPortfolio portfolio;
+  private final DailyClock dailyClock;
+  private final ForkJoinPool simulationPool;
+  private final ReentrantLock aggregationLock = new ReentrantLock();
+
+  private volatile PortfolioExposure exposure;
+
+  public ClientExposureService(final ClientPortfolio portfolio,
+                               final DailyClock dailyClock,
+                               final ForkJoinPool simulationPool) {
+    this.portfolio = portfolio;
+    this.dailyClock = dailyClock;
+    this.simulationPool = simulationPool;
+  }
+
+  /**
+   * Returns the exposure of a client today.
+   *
+   * @param idOrEmail the id or the email of the client
+   * @return the client's outstanding balance, remaining interest and next due installment
+   * @throws ClientNotFoundException when no client has that id or email
+   */
+  public ClientExposureResponse exposureOf(final String idOrEmail) {
+    int client = portfolio.find(idOrEmail);
+    if (client < 0) {
+      throw new ClientNotFoundException(idOrEmail);
+    }
+    PortfolioExposure current = exposureAsOf(dailyClock.today());
+
+    String nextDueContract = null;
+    Installment nextDueInstallment = null;
+    int nextDue = current.nextDueInstallment(client);
+    if (nextDue >= 0) {
+      nextDueContract = portfolio.contractNumber(current.nextDueContract(client));
+      nextDueInstallment = portfolio.installment(nextDue);
+    }
+    return new ClientExposureResponse(portfolio.clientId(client), portfolio.clientEmail(client), current.asOf(),
+        portfolio.endContract(client) - portfolio.firstContract(client),
+        Money.ofCents(current.outstandingBalanceCents(client)), Money.ofCents(current.interestRemainingCents(client)),
+        nextDueContract, nextDueInstallment);
+  }
+
+  private PortfolioExposure exposureAsOf(final LocalDate today) {
+    PortfolioExposure current = exposure;
+    if (current != null && current.asOf().equals(today)) {
+      return current;
+    }
+    aggregationLock.lock();
+    try {
+      current = exposure;
+      if (current == null || !current.asOf().equals(today)) {
+        current = PortfolioExposure.aggregate(portfolio, today, simulationPool);
+        exposure = current;
+      }
+      return current;
+    } finally {
+      aggregationLock.unlock();
+    }
+  }
+}
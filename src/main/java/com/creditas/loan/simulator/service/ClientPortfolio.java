@@ -0,0 +1,314 @@
+package com.creditas.loan.simulator.service;
+
+import com.creditas.loan.simulator.domain.Client;
+import com.creditas.loan.simulator.domain.Contract;
+import com.creditas.loan.simulator.domain.Installment;
+import com.creditas.loan.simulator.domain.Money;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Clients with their contracts and installments, laid out in columns of primitives rather than as a graph of
+ * {@link Client}, {@link Contract} and {@link Installment} objects, so millions of installments are scanned
+ * without chasing references.
+ *
+ * <p>Clients, contracts and installments are numbered in load order. The contracts of client {@code c} are
+ * {@code firstContract[c]} to {@code firstContract[c + 1] - 1}, and the installments of contract {@code k} are
+ * {@code firstInstallment[k]} to {@code firstInstallment[k + 1] - 1}. Due dates are held as epoch days and amounts
+ * in cents.
+ *
+ * <p>Clients are found by id or by email. As {@link Client} equality is defined by email, two clients sharing an
+ * email are the same client, and are rejected.
+ */
+public final class ClientPortfolio {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final String[] clientIds;
+  private final String[] clientEmails;
+  private final int[] firstContract;
+  private final String[] contractNumbers;
+  private final int[] firstInstallment;
+  private final int[] installmentNumbers;
+  private final int[] dueDays;
+  private final long[] values;
+  private final long[] principals;
+  private final long[] interests;
+  private final long[] balances;
+  private final Map<String, Integer> clientsById;
+  private final Map<String, Integer> clientsByEmail;
+
+  private ClientPortfolio(final Builder builder) {
+    this.clientIds = Arrays.copyOf(builder.clientIds, builder.clients);
+    this.clientEmails = Arrays.copyOf(builder.clientEmails, builder.clients);
+    this.firstContract = Arrays.copyOf(builder.firstContract, builder.clients + 1);
+    this.firstContract[builder.clients] = builder.contracts;
+    this.contractNumbers = Arrays.copyOf(builder.contractNumbers, builder.contracts);
+    this.firstInstallment = Arrays.copyOf(builder.firstInstallment, builder.contracts + 1);
+    this.firstInstallment[builder.contracts] = builder.installments;
+    this.installmentNumbers = Arrays.copyOf(builder.installmentNumbers, builder.installments);
+    this.dueDays = Arrays.copyOf(builder.dueDays, builder.installments);
+    this.values = Arrays.copyOf(builder.values, builder.installments);
+    this.principals = Arrays.copyOf(builder.principals, builder.installments);
+    this.interests = Arrays.copyOf(builder.interests, builder.installments);
+    this.balances = Arrays.copyOf(builder.balances, builder.installments);
+    this.clientsById = Map.copyOf(builder.clientsById);
+    this.clientsByEmail = Map.copyOf(builder.clientsByEmail);
+  }
+
+  /**
+   * Lays out clients of the domain model in columns.
+   *
+   * @param clients the clients, with their contracts and installments
+   * @return the portfolio
+   * @throws IllegalArgumentException when two clients share an id or an email, or an installment number is not
+   *                                  an integer
+   */
+  public static ClientPortfolio of(final Collection<Client> clients) {
+    Builder builder = builder();
+    for (Client client : clients) {
+      builder.addClient(client.getId(), client.getEmail());
+      for (Contract contract : client.getContracts()) {
+        builder.addContract(contract.getNumber());
+        for (Installment installment : contract.getInstallments()) {
+          builder.addInstallment(Integer.parseInt(installment.getNumber()), installment.getDate(),
+              installment.getValue(), installment.getPrincipal(), installment.getInterest(),
+              installment.getBalance());
+        }
+      }
+    }
+    return builder.build();
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Finds a client by id, or else by email.
+   *
+   * @param idOrEmail the id or the email of the client
+   * @return the number of the client, or {@code -1} when no client has that id or email
+   */
+  public int find(final String idOrEmail) {
+    Integer client = clientsById.get(idOrEmail);
+    if (client == null) {
+      client = clientsByEmail.get(idOrEmail);
+    }
+    if (client == null) {
+      return -1;
+    }
+    return client;
+  }
+
+  public int clientCount() {
+    return clientIds.length;
+  }
+
+  public int contractCount() {
+    return contractNumbers.length;
+  }
+
+  public int installmentCount() {
+    return dueDays.length;
+  }
+
+  public String clientId(final int client) {
+    return clientIds[client];
+  }
+
+  public String clientEmail(final int client) {
+    return clientEmails[client];
+  }
+
+  public int firstContract(final int client) {
+    return firstContract[client];
+  }
+
+  public int endContract(final int client) {
+    return firstContract[client + 1];
+  }
+
+  public String contractNumber(final int contract) {
+    return contractNumbers[contract];
+  }
+
+  public int firstInstallment(final int contract) {
+    return firstInstallment[contract];
+  }
+
+  public int endInstallment(final int contract) {
+    return firstInstallment[contract + 1];
+  }
+
+  public int dueDay(final int installment) {
+    return dueDays[installment];
+  }
+
+  public long principalCents(final int installment) {
+    return principals[installment];
+  }
+
+  public long interestCents(final int installment) {
+    return interests[installment];
+  }
+
+  /**
+   * Rebuilds an installment of the domain model from its columns.
+   *
+   * @param installment the number of the installment in the portfolio
+   * @return the installment
+   */
+  public Installment installment(final int installment) {
+    return new Installment(String.valueOf(installmentNumbers[installment]),
+        LocalDate.ofEpochDay(dueDays[installment]), Money.ofCents(values[installment]),
+        Money.ofCents(principals[installment]), Money.ofCents(interests[installment]),
+        Money.ofCents(balances[installment]));
+  }
+
+  /**
+   * Appends clients, contracts and installments in order: each contract belongs to the last client added and
+   * each installment to the last contract added.
+   */
+  public static final class Builder {
+
+    private String[] clientIds = new String[INITIAL_CAPACITY];
+    private String[] clientEmails = new String[INITIAL_CAPACITY];
+    private int[] firstContract = new int[INITIAL_CAPACITY];
+    private String[] contractNumbers = new String[INITIAL_CAPACITY];
+    private int[] firstInstallment = new int[INITIAL_CAPACITY];
+    private int[] installmentNumbers = new int[INITIAL_CAPACITY];
+    private int[] dueDays = new int[INITIAL_CAPACITY];
+    private long[] values = new long[INITIAL_CAPACITY];
+    private long[] principals = new long[INITIAL_CAPACITY];
+    private long[] interests = new long[INITIAL_CAPACITY];
+    private long[] balances = new long[INITIAL_CAPACITY];
+    private final Map<String, Integer> clientsById = new HashMap<>();
+    private final Map<String, Integer> clientsByEmail = new HashMap<>();
+    private int clients;
+    private int contracts;
+    private int installments;
+
+    private Builder() {
+    }
+
+    /**
+     * Starts a client.
+     *
+     * @param id    the id of the client, possibly {@code null}
+     * @param email the email of the client, possibly {@code null}
+     * @return this builder
+     * @throws IllegalArgumentException when another client has the same id or email
+     */
+    public Builder addClient(final String id, final String email) {
+      startClient();
+      identifyClient(id, email);
+      return this;
+    }
+
+    /**
+     * Starts a client whose id and email are not known yet, for readers meeting them after its contracts.
+     */
+    void startClient() {
+      if (clients + 1 >= firstContract.length) {
+        clientIds = Arrays.copyOf(clientIds, clientIds.length * 2);
+        clientEmails = Arrays.copyOf(clientEmails, clientEmails.length * 2);
+        firstContract = Arrays.copyOf(firstContract, firstContract.length * 2);
+      }
+      firstContract[clients] = contracts;
+      clients++;
+    }
+
+    /**
+     * Sets the id and email of the last client added.
+     */
+    void identifyClient(final String id, final String email) {
+      index(clientsById, id, "id");
+      index(clientsByEmail, email, "email");
+      clientIds[clients - 1] = id;
+      clientEmails[clients - 1] = email;
+    }
+
+    /**
+     * Starts a contract of the last client added.
+     *
+     * @param number the number of the contract
+     * @return this builder
+     */
+    public Builder addContract(final String number) {
+      startContract();
+      numberContract(number);
+      return this;
+    }
+
+    /**
+     * Starts a contract whose number is not known yet, for readers meeting it after its installments.
+     */
+    void startContract() {
+      if (clients == 0) {
+        throw new IllegalStateException("A contract must follow its client");
+      }
+      if (contracts + 1 >= firstInstallment.length) {
+        contractNumbers = Arrays.copyOf(contractNumbers, contractNumbers.length * 2);
+        firstInstallment = Arrays.copyOf(firstInstallment, firstInstallment.length * 2);
+      }
+      firstInstallment[contracts] = installments;
+      contracts++;
+    }
+
+    /**
+     * Sets the number of the last contract added.
+     */
+    void numberContract(final String number) {
+      contractNumbers[contracts - 1] = number;
+    }
+
+    /**
+     * Adds an installment to the last contract added.
+     *
+     * @param number    the number of the installment
+     * @param date      the due date
+     * @param value     the amount due
+     * @param principal the part of the amount repaying principal
+     * @param interest  the part of the amount paying interest
+     * @param balance   the principal still owed after the installment
+     * @return this builder
+     */
+    public Builder addInstallment(final int number, final LocalDate date, final Money value, final Money principal,
+                                  final Money interest, final Money balance) {
+      if (contracts == 0) {
+        throw new IllegalStateException("An installment must follow its contract");
+      }
+      if (installments == dueDays.length) {
+        int capacity = dueDays.length * 2;
+        installmentNumbers = Arrays.copyOf(installmentNumbers, capacity);
+        dueDays = Arrays.copyOf(dueDays, capacity);
+        values = Arrays.copyOf(values, capacity);
+        principals = Arrays.copyOf(principals, capacity);
+        interests = Arrays.copyOf(interests, capacity);
+        balances = Arrays.copyOf(balances, capacity);
+      }
+      installmentNumbers[installments] = number;
+      dueDays[installments] = Math.toIntExact(date.toEpochDay());
+      values[installments] = value.cents();
+      principals[installments] = principal.cents();
+      interests[installments] = interest.cents();
+      balances[installments] = balance.cents();
+      installments++;
+      return this;
+    }
+
+    public ClientPortfolio build() {
+      return new ClientPortfolio(this);
+    }
+
+    private void index(final Map<String, Integer> index, final String key, final String name) {
+      if (key != null && index.putIfAbsent(key, clients - 1) != null) {
+        throw new IllegalArgumentException("Duplicate client " + name + " " + key);
+      }
+    }
+  }
+}
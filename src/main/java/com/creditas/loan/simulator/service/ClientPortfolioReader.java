@@ -0,0 +1,151 @@
+package com.creditas.loan.simulator.service;
+
+import com.creditas.loan.simulator.domain.Money;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads a portfolio file straight from the token stream into a {@link ClientPortfolio}, so no object is kept per
+ * contract or installment while loading.
+ *
+ * <p>The file is a JSON document shaped like the domain model, such as
+ * {@code {"clients": [{"id": "...", "email": "...", "contracts": [{"number": "...", "installments": [{"number": "1",
+ * "date": "2025-07-15", "value": 1693.87, "principal": 1643.87, "interest": 50.00, "balance": 18356.13}]}]}]}}.
+ * Fields may come in any order, and fields exposure does not depend on, such as a client's name, are skipped.
+ */
+@Slf4j
+public final class ClientPortfolioReader {
+
+  private static final int VALUE = 0;
+  private static final int PRINCIPAL = 1;
+  private static final int INTEREST = 2;
+  private static final int BALANCE = 3;
+  private static final Map<String, Integer> AMOUNT_FIELDS =
+      Map.of("value", VALUE, "principal", PRINCIPAL, "interest", INTEREST, "balance", BALANCE);
+
+  private final JsonFactory jsonFactory;
+
+  public ClientPortfolioReader(final JsonFactory jsonFactory) {
+    this.jsonFactory = jsonFactory;
+  }
+
+  /**
+   * Reads a portfolio file.
+   *
+   * @param file the portfolio file
+   * @return the portfolio
+   * @throws IOException              when the file cannot be read or is not a portfolio document
+   * @throws IllegalArgumentException when two clients share an id or an email, or an installment is incomplete
+   */
+  public ClientPortfolio read(final Path file) throws IOException {
+    long start = System.nanoTime();
+    ClientPortfolio.Builder builder = ClientPortfolio.builder();
+    try (JsonParser parser = jsonFactory.createParser(file.toFile())) {
+      expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        parser.nextToken();
+        if ("clients".equals(field)) {
+          readArray(parser, () -> readClient(parser, builder));
+        } else {
+          parser.skipChildren();
+        }
+      }
+    }
+    ClientPortfolio portfolio = builder.build();
+
+    log.info("Loaded {} clients, {} contracts and {} installments from {} in {} ms", portfolio.clientCount(),
+        portfolio.contractCount(), portfolio.installmentCount(), file,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    return portfolio;
+  }
+
+  private void readClient(final JsonParser parser, final ClientPortfolio.Builder builder) throws IOException {
+    expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+    builder.startClient();
+    String id = null;
+    String email = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      parser.nextToken();
+      switch (field) {
+        case "id" -> id = parser.getValueAsString();
+        case "email" -> email = parser.getValueAsString();
+        case "contracts" -> readArray(parser, () -> readContract(parser, builder));
+        default -> parser.skipChildren();
+      }
+    }
+    builder.identifyClient(id, email);
+  }
+
+  private void readContract(final JsonParser parser, final ClientPortfolio.Builder builder) throws IOException {
+    expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+    builder.startContract();
+    String number = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      parser.nextToken();
+      switch (field) {
+        case "number" -> number = parser.getValueAsString();
+        case "installments" -> readArray(parser, () -> readInstallment(parser, builder));
+        default -> parser.skipChildren();
+      }
+    }
+    builder.numberContract(number);
+  }
+
+  private void readInstallment(final JsonParser parser, final ClientPortfolio.Builder builder) throws IOException {
+    expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+    int number = -1;
+    LocalDate date = null;
+    Money[] amounts = new Money[AMOUNT_FIELDS.size()];
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      parser.nextToken();
+      Integer amount = AMOUNT_FIELDS.get(field);
+      if (amount != null) {
+        amounts[amount] = Money.of(parser.getDecimalValue());
+      } else if ("number".equals(field)) {
+        number = Integer.parseInt(parser.getText());
+      } else if ("date".equals(field)) {
+        date = LocalDate.parse(parser.getText());
+      } else {
+        parser.skipChildren();
+      }
+    }
+    if (number < 0 || date == null || Arrays.asList(amounts).contains(null)) {
+      throw new IllegalArgumentException("Installment " + parser.currentLocation().offsetDescription()
+          + " must have a number, date, value, principal, interest and balance");
+    }
+    builder.addInstallment(number, date, amounts[VALUE], amounts[PRINCIPAL], amounts[INTEREST], amounts[BALANCE]);
+  }
+
+  private static void readArray(final JsonParser parser, final ElementReader elementReader) throws IOException {
+    expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      elementReader.read();
+    }
+  }
+
+  private static void expect(final JsonParser parser, final JsonToken token, final JsonToken expected)
+      throws JsonParseException {
+    if (token != expected) {
+      throw new JsonParseException(parser, "Expected " + expected + " but found " + token);
+    }
+  }
+
+  @FunctionalInterface
+  private interface ElementReader {
+
+    void read() throws IOException;
+  }
+}
@@ -0,0 +1,87 @@
+package com.creditas.loan.simulator.service;
+
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads loan simulation requests from CSV rows whose columns are named by a header row, in any order:
+ * {@code client_id}, {@code loan_amount}, {@code client_birth_date} and {@code loan_term_in_months}. Fields are
+ * plain, without quotes, and an empty field is a missing value. Unknown columns are ignored.
+ */
+final class CsvRowReader {
+
+  private static final List<String> COLUMNS =
+      List.of("client_id", "loan_amount", "client_birth_date", "loan_term_in_months");
+  private static final int CLIENT_ID = 0;
+  private static final int LOAN_AMOUNT = 1;
+  private static final int BIRTH_DATE = 2;
+  private static final int TERM = 3;
+
+  /**
+   * The field of each column, at the index of the column in {@link #COLUMNS}; {@code -1} for a missing column.
+   */
+  private final int[] fieldOfColumn;
+
+  private CsvRowReader(final int[] fieldOfColumn) {
+    this.fieldOfColumn = fieldOfColumn;
+  }
+
+  /**
+   * Maps the columns named by a header row.
+   *
+   * @param header the header row
+   * @return the reader of the rows below it
+   */
+  static CsvRowReader ofHeader(final String header) {
+    int[] fieldOfColumn = new int[COLUMNS.size()];
+    Arrays.fill(fieldOfColumn, -1);
+    String[] names = header.strip().split(",", -1);
+    for (int field = 0; field < names.length; field++) {
+      int column = COLUMNS.indexOf(names[field].strip());
+      if (column >= 0) {
+        fieldOfColumn[column] = field;
+      }
+    }
+    return new CsvRowReader(fieldOfColumn);
+  }
+
+  /**
+   * Reads a row.
+   *
+   * @param data the bytes holding the row
+   * @param from the offset of the row
+   * @param to   the offset just past the row
+   * @return the request, with {@code null} for every missing value
+   * @throws RuntimeException when a value cannot be parsed
+   */
+  LoanSimulationRequest read(final byte[] data, final int from, final int to) {
+    String[] fields = new String(data, from, to - from, StandardCharsets.UTF_8).split(",", -1);
+    LoanSimulationRequest request = new LoanSimulationRequest();
+    request.setClientId(field(fields, CLIENT_ID));
+    String loanAmount = field(fields, LOAN_AMOUNT);
+    if (loanAmount != null) {
+      request.setLoanAmount(new BigDecimal(loanAmount));
+    }
+    String birthDate = field(fields, BIRTH_DATE);
+    if (birthDate != null) {
+      request.setClientBirthDate(LocalDate.parse(birthDate));
+    }
+    String term = field(fields, TERM);
+    if (term != null) {
+      request.setLoanTermInMonths(Integer.valueOf(term));
+    }
+    return request;
+  }
+
+  private String field(final String[] fields, final int column) {
+    int field = fieldOfColumn[column];
+    if (field < 0 || field >= fields.length || fields[field].isBlank()) {
+      return null;
+    }
+    return fields[field].strip();
+  }
+}
@@ -0,0 +1,79 @@
+package com.creditas.loan.simulator.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * Keeps today's date, as an epoch day plus a {@code month * 100 + day} encoding, so that ages can be computed
+ * with plain integer math instead of {@link java.time.Period}. The date is read from the underlying
+ * {@link Clock} once and refreshed lazily by the first call made after the next midnight in the clock's zone,
+ * which leaves a single {@code clock.millis()} call on the hot path.
+ */
+public final class DailyClock {
+
+  private static final int MONTH_DAY_SHIFT = 100;
+
+  private final Clock clock;
+  private volatile Today today;
+
+  public DailyClock(final Clock clock) {
+    this.clock = clock;
+    this.today = Today.of(clock);
+  }
+
+  /**
+   * Returns today's date as a count of days since 1970-01-01.
+   *
+   * @return the current epoch day
+   */
+  public long todayEpochDay() {
+    return current().epochDay();
+  }
+
+  /**
+   * Returns today's date.
+   *
+   * @return the current date in the clock's zone
+   */
+  public LocalDate today() {
+    return LocalDate.ofEpochDay(current().epochDay());
+  }
+
+  /**
+   * Computes the number of full years between a birth date and today, with the same result as
+   * {@code Period.between(birthDate, today).getYears()}.
+   *
+   * @param birthDate the date of birth
+   * @return the age in full years
+   */
+  public int ageInYears(final LocalDate birthDate) {
+    Today current = current();
+    int age = current.year() - birthDate.getYear();
+    if (current.monthDay() < monthDay(birthDate)) {
+      age--;
+    }
+    return age;
+  }
+
+  private Today current() {
+    Today current = today;
+    if (clock.millis() >= current.nextMidnightMillis()) {
+      current = Today.of(clock);
+      today = current;
+    }
+    return current;
+  }
+
+  private static int monthDay(final LocalDate date) {
+    return date.getMonthValue() * MONTH_DAY_SHIFT + date.getDayOfMonth();
+  }
+
+  private record Today(long epochDay, int year, int monthDay, long nextMidnightMillis) {
+
+    static Today of(final Clock clock) {
+      LocalDate date = LocalDate.now(clock);
+      long nextMidnight = date.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+      return new Today(date.toEpochDay(), date.getYear(), DailyClock.monthDay(date), nextMidnight);
+    }
+  }
+}
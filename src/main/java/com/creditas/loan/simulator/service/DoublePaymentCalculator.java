@@ -0,0 +1,56 @@
+package com.creditas.loan.simulator.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Annuity calculation carried out in primitive {@code double}, converted to {@link BigDecimal} only once
+ * the monthly payment is known.
+ *
+ * <p>The monthly rate is the same {@value BigDecimalPaymentCalculator#SCALE}-digit rate used by
+ * {@link BigDecimalPaymentCalculator}, and the payment is evaluated as {@code i / -expm1(-n * log1p(i))}, which
+ * avoids cancellation for small rates and short terms and, unlike {@code (1+i)^n}, cannot overflow for long ones.
+ * For loan amounts up to 1,000,000.00 and any term the relative error against the exact annuity stays below
+ * {@value #RELATIVE_ERROR_BOUND}, i.e. under 0.000001 in absolute terms. Rounded to cents, both engines agree unless the exact payment lies
+ * within that distance of a half-cent boundary.
+ */
+public final class DoublePaymentCalculator implements PaymentCalculator {
+
+  /**
+   * Documented upper bound for the relative difference between this engine and the {@code BigDecimal} one.
+   */
+  public static final double RELATIVE_ERROR_BOUND = 1e-12;
+
+  private final Map<BigDecimal, Double> monthlyRates = new ConcurrentHashMap<>();
+
+  @Override
+  public BigDecimal calculateMonthlyPayment(final BigDecimal amount,
+                                            final int loanTermInMonths,
+                                            final BigDecimal annualInterestRate) {
+    if (annualInterestRate.signum() == 0) {
+      return amount.divide(BigDecimal.valueOf(loanTermInMonths), BigDecimalPaymentCalculator.SCALE,
+          RoundingMode.HALF_UP);
+    }
+    double monthlyRate = monthlyRates.computeIfAbsent(annualInterestRate,
+        rate -> BigDecimalPaymentCalculator.toMonthlyRate(rate).doubleValue());
+
+    double payment = monthlyPayment(amount.doubleValue(), loanTermInMonths, monthlyRate);
+
+    return BigDecimal.valueOf(payment).setScale(BigDecimalPaymentCalculator.SCALE, RoundingMode.HALF_UP);
+  }
+
+  /**
+   * Computes the annuity payment for a positive monthly rate.
+   *
+   * @param amount           the principal
+   * @param loanTermInMonths the number of monthly payments
+   * @param monthlyRate      the monthly interest rate as a fraction
+   * @return the monthly payment
+   */
+  static double monthlyPayment(final double amount, final int loanTermInMonths, final double monthlyRate) {
+    // PMT = PV * i / [1 - (1+i)^-n], with 1 - (1+i)^-n = -expm1(-n * ln(1+i))
+    return amount * monthlyRate / -Math.expm1(-loanTermInMonths * Math.log1p(monthlyRate));
+  }
+}
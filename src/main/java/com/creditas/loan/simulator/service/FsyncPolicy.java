@@ -0,0 +1,20 @@
+package com.creditas.loan.simulator.service;
+
+/**
+ * When the simulation journal forces its records to disk.
+ */
+public enum FsyncPolicy {
+  /**
+   * Never forces; the operating system writes the mapped pages back on its own schedule.
+   */
+  NONE,
+  /**
+   * Forces every record written during an interval together, in the background, so writers never wait.
+   */
+  GROUP,
+  /**
+   * Forces records like {@link #GROUP}, but every writer waits for the next force covering its record, which is
+   * shared by all writers waiting at the same time.
+   */
+  SYNC
+}
@@ -0,0 +1,100 @@
+package com.creditas.loan.simulator.service;
+
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.creditas.loan.simulator.dto.LoanSimulationResponse;
+import com.creditas.loan.simulator.exception.IdempotencyKeyMismatchException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Bounded store of the simulations issued for each idempotency key, backed by Caffeine, so a client retrying a
+ * request gets back the original simulation, id included, instead of a new one.
+ *
+ * <p>A key maps to the future of its simulation, placed before the simulation starts: concurrent requests with
+ * the same key wait for the first one and share its result, so the simulation runs once. A simulation that
+ * fails is forgotten, and the next request with its key runs it again. Responses are shared by every request
+ * with their key, so they must not be modified once cached. Amounts are compared without trailing
+ * zeros, so {@code 10000} and {@code 10000.00} are the same request.
+ */
+public final class IdempotentSimulationCache {
+
+  private final Cache<String, Entry> cache;
+
+  public IdempotentSimulationCache(final long maximumSize, final Duration timeToLive, final Ticker ticker) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(timeToLive)
+        .ticker(ticker)
+        .build();
+  }
+
+  /**
+   * Returns the simulation issued for the key, running the simulation if the key is new.
+   *
+   * @param key        the idempotency key sent by the client
+   * @param request    the request sent with the key
+   * @param simulation the simulation of the request, run at most once per key
+   * @return the simulation first issued for the key
+   * @throws IdempotencyKeyMismatchException when the key was first sent with a different request
+   */
+  public LoanSimulationResponse get(final String key, final LoanSimulationRequest request,
+                                    final Supplier<LoanSimulationResponse> simulation) {
+    Entry entry = new Entry(Fingerprint.of(request), new CompletableFuture<>());
+    Entry existing = cache.asMap().putIfAbsent(key, entry);
+    if (existing == null) {
+      return run(key, entry, simulation);
+    }
+    if (!existing.fingerprint.equals(entry.fingerprint)) {
+      throw new IdempotencyKeyMismatchException(
+          "Idempotency key " + key + " was already used for a different request");
+    }
+    try {
+      return existing.response.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
+  private LoanSimulationResponse run(final String key, final Entry entry,
+                                     final Supplier<LoanSimulationResponse> simulation) {
+    try {
+      LoanSimulationResponse response = simulation.get();
+      entry.response.complete(response);
+      return response;
+    } catch (Throwable e) {
+      // Errors too, or requests waiting on the key would block until it expires
+      cache.asMap().remove(key, entry);
+      entry.response.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private record Entry(Fingerprint fingerprint, CompletableFuture<LoanSimulationResponse> response) {
+  }
+
+  private record Fingerprint(String clientId, BigDecimal loanAmount, LocalDate clientBirthDate,
+                             Integer loanTermInMonths) {
+
+    static Fingerprint of(final LoanSimulationRequest request) {
+      BigDecimal loanAmount = request.getLoanAmount();
+      if (loanAmount != null) {
+        loanAmount = loanAmount.stripTrailingZeros();
+      }
+      return new Fingerprint(request.getClientId(), loanAmount,
+          request.getClientBirthDate(), request.getLoanTermInMonths());
+    }
+  }
+}
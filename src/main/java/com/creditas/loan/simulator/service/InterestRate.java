@@ -0,0 +1,13 @@
+package com.creditas.loan.simulator.service;
+
+import java.math.BigDecimal;
+
+/**
+ * Annual interest rate resolved for a simulation, together with the version of the rate policy that produced it.
+ *
+ * @param annualRate    the annual interest rate, in percent
+ * @param policyVersion the version of the rate policy the rate was taken from
+ * @param band          the age range of the band the rate belongs to, such as {@code 26-40} or {@code 61+}
+ */
+public record InterestRate(BigDecimal annualRate, String policyVersion, String band) {
+}
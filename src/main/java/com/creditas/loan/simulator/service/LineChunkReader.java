@@ -0,0 +1,127 @@
+package com.creditas.loan.simulator.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads a file channel in chunks ending at a line break, carrying the partial line left over into the next chunk,
+ * so only one chunk of the file is buffered at a time.
+ */
+final class LineChunkReader {
+
+  static final byte NEWLINE = '\n';
+
+  private final FileChannel in;
+  private final ByteBuffer buffer;
+  private int nextRow;
+  private long bytesRead;
+  private boolean endOfInput;
+
+  LineChunkReader(final FileChannel in, final int chunkSize) {
+    this.in = in;
+    this.buffer = ByteBuffer.allocate(chunkSize);
+  }
+
+  /**
+   * Consumes the first line of the input, which is not counted as a row.
+   *
+   * @return the first line, empty for an empty input
+   * @throws IOException when the input cannot be read or the line is longer than the chunk size
+   */
+  String header() throws IOException {
+    fill();
+    int end = lineEnd(buffer.array(), 0, buffer.position());
+    if (end == buffer.position() && !endOfInput) {
+      throw new IOException("Header is longer than the chunk size of " + buffer.capacity() + " bytes");
+    }
+    String header = new String(buffer.array(), 0, end, StandardCharsets.UTF_8);
+    buffer.flip().position(Math.min(end + 1, buffer.limit()));
+    buffer.compact();
+    return header;
+  }
+
+  /**
+   * Reads the next chunk.
+   *
+   * @return the next chunk, or {@code null} once the input is exhausted
+   * @throws IOException when the input cannot be read or a line is longer than the chunk size
+   */
+  Chunk next() throws IOException {
+    fill();
+    if (buffer.position() == 0) {
+      return null;
+    }
+    int length = buffer.position();
+    if (!endOfInput) {
+      length = lastLineBreak() + 1;
+    }
+    byte[] data = Arrays.copyOf(buffer.array(), length);
+    Chunk chunk = new Chunk(data, nextRow);
+    nextRow += lineCount(data);
+    buffer.flip().position(length);
+    buffer.compact();
+    return chunk;
+  }
+
+  long bytesRead() {
+    return bytesRead;
+  }
+
+  /**
+   * Finds the end of the line starting at {@code from}.
+   *
+   * @return the position of the line break, or {@code to} for a last line without one
+   */
+  static int lineEnd(final byte[] data, final int from, final int to) {
+    for (int i = from; i < to; i++) {
+      if (data[i] == NEWLINE) {
+        return i;
+      }
+    }
+    return to;
+  }
+
+  private void fill() throws IOException {
+    while (buffer.hasRemaining() && !endOfInput) {
+      int read = in.read(buffer);
+      if (read < 0) {
+        endOfInput = true;
+      } else {
+        bytesRead += read;
+      }
+    }
+  }
+
+  private int lastLineBreak() throws IOException {
+    byte[] data = buffer.array();
+    for (int i = buffer.position() - 1; i >= 0; i--) {
+      if (data[i] == NEWLINE) {
+        return i;
+      }
+    }
+    throw new IOException("Line " + (nextRow + 1) + " is longer than the chunk size of " + buffer.capacity()
+        + " bytes");
+  }
+
+  private static int lineCount(final byte[] data) {
+    int lines = 0;
+    for (byte b : data) {
+      if (b == NEWLINE) {
+        lines++;
+      }
+    }
+    if (data.length > 0 && data[data.length - 1] != NEWLINE) {
+      lines++;
+    }
+    return lines;
+  }
+
+  /**
+   * Whole lines of the input, the first of them being line {@code firstRow}, header excluded.
+   */
+  record Chunk(byte[] data, int firstRow) {
+  }
+}
@@ -0,0 +1,84 @@
+package com.creditas.loan.simulator.service;
+
+import com.creditas.loan.simulator.config.BatchProperties;
+import com.creditas.loan.simulator.dto.LoanSimulationBatchItem;
+import com.creditas.loan.simulator.dto.LoanSimulationBatchResponse;
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.creditas.loan.simulator.exception.InvalidBatchException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class LoanBatchService {
+
+  private static final String VALIDATION_ERROR = "Validation Error";
+  private static final String PROCESSING_ERROR = "Processing Error";
+
+  private final LoanService loanService;
+  private final Validator validator;
+  private final ForkJoinPool simulationPool;
+  private final BatchProperties batchProperties;
+
+  /**
+   * Simulates every request of the batch on the simulation pool. Each request is validated on its own,
+   * so invalid items are reported next to the successful ones instead of failing the whole batch.
+   *
+   * @param requests the loan simulation requests to evaluate
+   * @return the per-item results, in the same order as the requests
+   */
+  public LoanSimulationBatchResponse simulateBatch(final List<LoanSimulationRequest> requests) {
+    if (requests == null || requests.isEmpty() || requests.size() > batchProperties.maxSize()) {
+      throw new InvalidBatchException(
+          "Batch must contain between 1 and " + batchProperties.maxSize() + " simulations");
+    }
+
+    LoanSimulationBatchItem[] results = new LoanSimulationBatchItem[requests.size()];
+    // A parallel stream started from inside the pool is split across that pool's workers
+    simulationPool.submit(() -> IntStream.range(0, results.length)
+            .parallel()
+            .forEach(i -> results[i] = simulateItem(i, requests.get(i))))
+        .join();
+
+    return new LoanSimulationBatchResponse(Arrays.asList(results));
+  }
+
+  /**
+   * Validates and simulates a single request, turning any failure into an error item.
+   *
+   * @param index   the position of the request in the batch
+   * @param request the loan simulation request
+   * @return the outcome of the simulation
+   */
+  public LoanSimulationBatchItem simulateItem(final int index, final LoanSimulationRequest request) {
+    if (request == null) {
+      return LoanSimulationBatchItem.failure(index, VALIDATION_ERROR,
+          Map.of("request", "Simulation request must not be null"));
+    }
+
+    Set<ConstraintViolation<LoanSimulationRequest>> violations = validator.validate(request);
+    if (!violations.isEmpty()) {
+      Map<String, String> errors = new HashMap<>();
+      violations.forEach(violation ->
+          errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+      return LoanSimulationBatchItem.failure(index, VALIDATION_ERROR, errors);
+    }
+
+    try {
+      return LoanSimulationBatchItem.success(index,
+          loanService.calculateLoanSimulation(request).withRoundedValues());
+    } catch (RuntimeException ex) {
+      return LoanSimulationBatchItem.failure(index, PROCESSING_ERROR,
+          Map.of("request", "Not possible to simulate the loan with the given parameters"));
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package com.creditas.loan.simulator.service;
+
+import com.creditas.loan.simulator.config.CalculationProperties;
+import com.creditas.loan.simulator.domain.Money;
+import com.creditas.loan.simulator.dto.LoanOfferGridRequest;
+import com.creditas.loan.simulator.dto.LoanOfferGridResponse;
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+@Service
+public class LoanOfferGridService {
+
+  private final InterestRateCalculator interestRateCalculator;
+  private final AnnuityFactorTable annuityFactorTable;
+
+  /**
+   * Creates the service on the annuity table of the loan service when that is the configured engine, so both share
+   * the cached factors, and on a table of its own otherwise. Either way the grid matches the
+   * {@code big-decimal} engine exactly.
+   *
+   * @param interestRateCalculator the calculator resolving the client's rate
+   * @param paymentCalculator      the payment calculator of the loan service
+   * @param calculationProperties  the calculation properties holding the longest cached term
+   */
+  public LoanOfferGridService(final InterestRateCalculator interestRateCalculator,
+                              final PaymentCalculator paymentCalculator,
+                              final CalculationProperties calculationProperties) {
+    this.interestRateCalculator = interestRateCalculator;
+    if (paymentCalculator instanceof AnnuityFactorTable table) {
+      this.annuityFactorTable = table;
+    } else {
+      this.annuityFactorTable = new AnnuityFactorTable(calculationProperties.maxCachedTerm());
+    }
+  }
+
+  /**
+   * Calculates the monthly installment of every amount for every term. The rate depends on the client only,
+   * so it is resolved once for the whole grid.
+   *
+   * @param request the grid request containing the client's birth date, the amounts and the terms
+   * @return the grid of monthly installments, rounded like a single simulation
+   */
+  public LoanOfferGridResponse calculateOfferGrid(final LoanOfferGridRequest request) {
+    InterestRate interestRate = interestRateCalculator.calculateInterestRate(
+        new LoanSimulationRequest(request.getClientId(), null, request.getClientBirthDate(), null));
+
+    BigDecimal[] amounts = request.getLoanAmounts().toArray(BigDecimal[]::new);
+    int[] terms = toIntArray(request.getLoanTermsInMonths());
+    BigDecimal[][] payments = annuityFactorTable.calculateMonthlyPayments(amounts, terms, interestRate.annualRate());
+
+    Money[][] installments = new Money[terms.length][amounts.length];
+    for (int term = 0; term < terms.length; term++) {
+      for (int amount = 0; amount < amounts.length; amount++) {
+        installments[term][amount] = Money.of(payments[term][amount]);
+      }
+    }
+    Money[] loanAmounts = new Money[amounts.length];
+    for (int amount = 0; amount < amounts.length; amount++) {
+      loanAmounts[amount] = Money.of(amounts[amount]);
+    }
+
+    return new LoanOfferGridResponse(request.getClientId(),
+        interestRate.annualRate().setScale(2, RoundingMode.HALF_UP), interestRate.policyVersion(),
+        loanAmounts, terms, installments);
+  }
+
+  private static int[] toIntArray(final List<Integer> values) {
+    int[] array = new int[values.size()];
+    for (int i = 0; i < array.length; i++) {
+      array[i] = values.get(i);
+    }
+    return array;
+  }
+}
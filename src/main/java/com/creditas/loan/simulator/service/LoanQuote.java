@@ -0,0 +1,16 @@
+package com.creditas.loan.simulator.service;
+
+import com.creditas.loan.simulator.domain.Money;
+
+/**
+ * Monetary outcome of a simulation, rounded to the cent, which only depends on the loan amount, the annual rate
+ * and the term.
+ *
+ * @param monthlyInstallment the monthly installment
+ * @param totalAmountPayable the total amount payable over the loan term
+ * @param totalInterestPaid  the total interest paid over the loan term
+ */
+public record LoanQuote(Money monthlyInstallment,
+                        Money totalAmountPayable,
+                        Money totalInterestPaid) {
+}
@@ -1,19 +1,53 @@
 package com.creditas.loan.simulator.service;
 
+import com.creditas.loan.simulator.domain.Money;
+import com.creditas.loan.simulator.dto.AmortizationScheduleResponse;
 import com.creditas.loan.simulator.dto.LoanSimulationRequest;
 import com.creditas.loan.simulator.dto.LoanSimulationResponse;
+import com.creditas.loan.simulator.dto.MaxLoanAmountRequest;
+import com.creditas.loan.simulator.dto.MinLoanTermRequest;
+import com.creditas.loan.simulator.exception.SimulationNotFoundException;
+import com.creditas.loan.simulator.exception.UnaffordableLoanException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.Objects;
-import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 public class LoanService {
 
+  private static final BigDecimal MIN_LOAN_AMOUNT = new BigDecimal("1.00");
+  private static final BigDecimal MAX_LOAN_AMOUNT = new BigDecimal("1000000.00");
+  private static final BigDecimal CENT = new BigDecimal("0.01");
+  private static final int MAX_SOLVED_TERM_IN_MONTHS = 600;
+
   private final InterestRateCalculator interestRateCalculator;
+  private final PaymentCalculator paymentCalculator;
+  private final SimulationCache simulationCache;
+  private final DailyClock dailyClock;
+  private final SimulationStore simulationStore;
+  private final SimulationIdGenerator simulationIdGenerator;
+  private final Timer simulationTimer;
+
+  public LoanService(final InterestRateCalculator interestRateCalculator,
+                     final PaymentCalculator paymentCalculator,
+                     final SimulationCache simulationCache,
+                     final DailyClock dailyClock,
+                     final SimulationStore simulationStore,
+                     final SimulationIdGenerator simulationIdGenerator,
+                     final MeterRegistry meterRegistry) {
+    this.interestRateCalculator = interestRateCalculator;
+    this.paymentCalculator = paymentCalculator;
+    this.simulationCache = simulationCache;
+    this.dailyClock = dailyClock;
+    this.simulationStore = simulationStore;
+    this.simulationIdGenerator = simulationIdGenerator;
+    this.simulationTimer = LatencyTimers.register(meterRegistry, "loan.simulation.calculation",
+        "Time to calculate a loan simulation");
+  }
 
   /**
    * Calculates the loan simulation based on the provided request.
@@ -23,52 +57,164 @@ public class LoanService {
    * @return a LoanSimulationResponse containing the calculated values.
    */
   public LoanSimulationResponse calculateLoanSimulation(final LoanSimulationRequest request) {
-    BigDecimal annualInterestRate = interestRateCalculator.calculateInterestRate(request);
+    long start = System.nanoTime();
+    try {
+      return simulate(request);
+    } finally {
+      simulationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
 
-    BigDecimal monthlyPayment =
-        calculateMonthlyRate(request.getLoanAmount(), request.getLoanTermInMonths(),
-            annualInterestRate);
+  private LoanSimulationResponse simulate(final LoanSimulationRequest request) {
+    return simulate(request, interestRateCalculator.calculateInterestRate(request));
+  }
 
-    BigDecimal totalPayment =
-        monthlyPayment.multiply(BigDecimal.valueOf(request.getLoanTermInMonths()));
+  private LoanSimulationResponse simulate(final LoanSimulationRequest request, final InterestRate interestRate) {
+    BigDecimal annualInterestRate = interestRate.annualRate();
 
-    BigDecimal interestPaid;
-    if (annualInterestRate.compareTo(BigDecimal.ZERO) == 0) {
-      interestPaid = BigDecimal.ZERO;
-    } else {
-      interestPaid = totalPayment.subtract(request.getLoanAmount());
-    }
+    LoanQuote quote = simulationCache.get(request.getLoanAmount(), annualInterestRate,
+        request.getLoanTermInMonths(),
+        () -> calculateQuote(request.getLoanAmount(), request.getLoanTermInMonths(), annualInterestRate));
 
-    return new LoanSimulationResponse(
-        UUID.randomUUID().toString(),
+    LoanSimulationResponse simulation = new LoanSimulationResponse(
+        simulationIdGenerator.nextId(),
         request.getClientId(),
-        request.getLoanAmount(),
+        Money.of(request.getLoanAmount()),
         annualInterestRate,
         request.getLoanTermInMonths(),
-        totalPayment,
-        monthlyPayment,
-        interestPaid
+        quote.totalAmountPayable(),
+        quote.monthlyInstallment(),
+        quote.totalInterestPaid(),
+        interestRate.policyVersion()
     );
+    simulationStore.record(simulation);
+    return simulation;
+  }
+
+  /**
+   * Returns a simulation issued earlier, as it was recorded by the simulation store.
+   *
+   * @param id the id of the simulation
+   * @return the simulation, with its interest rate unrounded
+   * @throws SimulationNotFoundException when no simulation with that id was recorded
+   */
+  public LoanSimulationResponse findSimulation(final String id) {
+    return simulationStore.find(id).orElseThrow(() -> new SimulationNotFoundException(id));
+  }
+
+  /**
+   * Calculates the loan simulation and one page of its amortization schedule, starting today.
+   *
+   * @param request the loan simulation request
+   * @param page    the zero-based page of the schedule
+   * @param size    the maximum number of installments per page
+   * @return the rounded simulation together with the installments of the requested page
+   * @throws com.creditas.loan.simulator.exception.ScheduleTooLongException when the loan term is longer than
+   *                                   {@value AmortizationSchedule#MAX_TERM_IN_MONTHS} months
+   */
+  public AmortizationScheduleResponse calculateAmortizationSchedule(final LoanSimulationRequest request,
+                                                                    final int page,
+                                                                    final int size) {
+    AmortizationSchedule.requireSchedulableTerm(request.getLoanTermInMonths());
+    LoanSimulationResponse simulation = calculateLoanSimulation(request).withRoundedValues();
+
+    int term = simulation.getLoanTermInMonths();
+    int from = (int) Math.min((long) page * size, term);
+    int to = (int) Math.min((long) from + size, term);
+    return new AmortizationScheduleResponse(simulation, page, size,
+        AmortizationSchedule.window(simulation.getLoanAmount(), simulation.getMonthlyInstallment(),
+            simulation.getInterestRate(), term, dailyClock.today(), from, to).installments());
+  }
+
+  /**
+   * Finds the largest loan, in cents, whose monthly installment over the requested term does not exceed the
+   * client's budget. The amount is the present value of the budget, rounded down and confirmed against the
+   * configured engine, and at most the largest accepted loan amount.
+   *
+   * @param request the request containing the client's birth date, the budget and the term
+   * @return the simulation of the largest affordable loan
+   * @throws UnaffordableLoanException when the budget does not afford the smallest accepted loan amount
+   */
+  public LoanSimulationResponse calculateMaxLoanAmount(final MaxLoanAmountRequest request) {
+    InterestRate interestRate = rateFor(request.getClientId(), request.getClientBirthDate());
+    BigDecimal annualInterestRate = interestRate.annualRate();
+    BigDecimal budget = Money.of(request.getMonthlyInstallment()).toBigDecimal();
+    int term = request.getLoanTermInMonths();
+
+    BigDecimal amount = AnnuitySolver.presentValue(budget, term, annualInterestRate)
+        .setScale(2, RoundingMode.DOWN)
+        .min(MAX_LOAN_AMOUNT);
+    while (amount.compareTo(MIN_LOAN_AMOUNT) >= 0 && exceeds(budget, amount, term, annualInterestRate)) {
+      amount = amount.subtract(CENT);
+    }
+    if (amount.compareTo(MIN_LOAN_AMOUNT) < 0) {
+      throw new UnaffordableLoanException(
+          "Monthly installment does not afford a loan of " + MIN_LOAN_AMOUNT + " over " + term + " months");
+    }
+
+    return simulate(
+        new LoanSimulationRequest(request.getClientId(), amount, request.getClientBirthDate(), term), interestRate);
+  }
+
+  /**
+   * Finds the fewest months over which the requested amount is repaid with installments not exceeding the
+   * client's budget. The term is estimated in closed form, then confirmed against the configured engine.
+   *
+   * @param request the request containing the client's birth date, the amount and the budget
+   * @return the simulation of the loan over the shortest affordable term
+   * @throws UnaffordableLoanException when not even the longest solved term, 600 months, fits the budget
+   */
+  public LoanSimulationResponse calculateMinLoanTerm(final MinLoanTermRequest request) {
+    InterestRate interestRate = rateFor(request.getClientId(), request.getClientBirthDate());
+    BigDecimal annualInterestRate = interestRate.annualRate();
+    BigDecimal budget = Money.of(request.getMonthlyInstallment()).toBigDecimal();
+    BigDecimal amount = request.getLoanAmount();
+
+    if (exceeds(budget, amount, MAX_SOLVED_TERM_IN_MONTHS, annualInterestRate)) {
+      throw new UnaffordableLoanException("Monthly installment does not repay the loan within "
+          + MAX_SOLVED_TERM_IN_MONTHS + " months");
+    }
+    long estimate = AnnuitySolver.minimumTerm(amount, budget, annualInterestRate);
+    int term = MAX_SOLVED_TERM_IN_MONTHS;
+    if (estimate >= 1 && estimate < MAX_SOLVED_TERM_IN_MONTHS) {
+      term = (int) estimate;
+    }
+    while (exceeds(budget, amount, term, annualInterestRate)) {
+      term++;
+    }
+    while (term > 1 && !exceeds(budget, amount, term - 1, annualInterestRate)) {
+      term--;
+    }
+
+    return simulate(
+        new LoanSimulationRequest(request.getClientId(), amount, request.getClientBirthDate(), term), interestRate);
+  }
+
+  private InterestRate rateFor(final String clientId, final LocalDate clientBirthDate) {
+    return interestRateCalculator.calculateInterestRate(
+        new LoanSimulationRequest(clientId, null, clientBirthDate, null));
   }
 
-  private static BigDecimal calculateMonthlyRate(final BigDecimal amount,
-                                                 final int loanTermInMonths,
-                                                 final BigDecimal annualInterestRate) {
-    final int scale = 10;
-    if (Objects.equals(annualInterestRate, BigDecimal.ZERO)) {
-      return amount.divide(BigDecimal.valueOf(loanTermInMonths), scale, RoundingMode.HALF_UP);
+  private boolean exceeds(final BigDecimal budget, final BigDecimal loanAmount, final int loanTermInMonths,
+                          final BigDecimal annualInterestRate) {
+    return paymentCalculator.calculateMonthlyPayment(loanAmount, loanTermInMonths, annualInterestRate)
+        .compareTo(budget) > 0;
+  }
+
+  private LoanQuote calculateQuote(final BigDecimal loanAmount, final int loanTermInMonths,
+                                   final BigDecimal annualInterestRate) {
+    BigDecimal monthlyPayment =
+        paymentCalculator.calculateMonthlyPayment(loanAmount, loanTermInMonths, annualInterestRate);
+
+    BigDecimal totalPayment = monthlyPayment.multiply(BigDecimal.valueOf(loanTermInMonths));
+
+    BigDecimal interestPaid;
+    if (annualInterestRate.compareTo(BigDecimal.ZERO) == 0) {
+      interestPaid = BigDecimal.ZERO;
+    } else {
+      interestPaid = totalPayment.subtract(loanAmount);
     }
-    BigDecimal monthlyInterestRate = annualInterestRate
-        .divide(new BigDecimal("100"), scale, RoundingMode.HALF_UP)
-        .divide(new BigDecimal("12"), scale, RoundingMode.HALF_UP);
-
-    // PMT = PV * [i(1+i)^n] / [(1+i)^n - 1]
-    BigDecimal onePlusRate = BigDecimal.ONE.add(monthlyInterestRate);
-    BigDecimal powerFactor = onePlusRate.pow(loanTermInMonths);
-
-    return amount
-        .multiply(monthlyInterestRate)
-        .multiply(powerFactor)
-        .divide(powerFactor.subtract(BigDecimal.ONE), scale, RoundingMode.HALF_UP);
+
+    return new LoanQuote(Money.of(monthlyPayment), Money.of(totalPayment), Money.of(interestPaid));
   }
 }
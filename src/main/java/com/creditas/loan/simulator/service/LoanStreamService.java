@@ -0,0 +1,91 @@
+package com.creditas.loan.simulator.service;
+
+import com.creditas.loan.simulator.dto.LoanSimulationBatchItem;
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.springframework.stereotype.Service;
+
+@Service
+public class LoanStreamService {
+
+  static final int MAX_LINE_LENGTH = 64 * 1024;
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final String PARSE_ERROR = "Parse Error";
+  private static final int NEW_LINE = '\n';
+
+  private final LoanBatchService loanBatchService;
+  private final ObjectReader requestReader;
+  private final ObjectWriter itemWriter;
+
+  public LoanStreamService(final LoanBatchService loanBatchService, final ObjectMapper objectMapper) {
+    this.loanBatchService = loanBatchService;
+    this.requestReader = objectMapper.readerFor(LoanSimulationRequest.class);
+    this.itemWriter = objectMapper.writerFor(LoanSimulationBatchItem.class)
+        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+  }
+
+  /**
+   * Simulates a newline-delimited JSON stream of loan simulation requests. Lines are read, simulated and
+   * written back one at a time, so memory use does not depend on the size of the input, and a slow reader
+   * on the other end of the output naturally throttles how fast the input is consumed. A line longer than
+   * {@value #MAX_LINE_LENGTH} characters is not buffered whole; it is answered with a parse failure for its item.
+   *
+   * @param input  the NDJSON stream of loan simulation requests
+   * @param output the stream receiving one NDJSON result line per non-blank input line
+   * @return the number of lines processed
+   * @throws IOException if reading the input or writing the output fails
+   */
+  public long simulateStream(final InputStream input, final OutputStream output) throws IOException {
+    BoundedLineReader reader = new BoundedLineReader(new InputStreamReader(input, StandardCharsets.UTF_8),
+        BUFFER_SIZE, MAX_LINE_LENGTH);
+    OutputStream buffered = new BufferedOutputStream(output, BUFFER_SIZE);
+
+    int index = 0;
+    String line = reader.readLine();
+    while (line != null) {
+      boolean tooLong = reader.tooLong();
+      if (tooLong || !line.isBlank()) {
+        itemWriter.writeValue(buffered, simulateLine(index, line, tooLong));
+        buffered.write(NEW_LINE);
+        index++;
+      }
+      if (!reader.ready()) {
+        // Nothing else buffered on the input side: hand what we have to the client before blocking
+        buffered.flush();
+      }
+      line = reader.readLine();
+    }
+
+    buffered.flush();
+    return index;
+  }
+
+  private LoanSimulationBatchItem simulateLine(final int index, final String line, final boolean tooLong) {
+    if (tooLong) {
+      return LoanSimulationBatchItem.failure(index, PARSE_ERROR,
+          Map.of("request", "Line exceeds the maximum length of " + MAX_LINE_LENGTH + " characters"));
+    }
+    LoanSimulationRequest request;
+    try {
+      request = requestReader.readValue(line);
+    } catch (JsonProcessingException ex) {
+      return LoanSimulationBatchItem.failure(index, PARSE_ERROR,
+          Map.of("request", "Not possible to process the request due to malformed JSON"));
+    }
+    return loanBatchService.simulateItem(index, request);
+  }
+}
@@ -0,0 +1,335 @@
+package com.creditas.loan.simulator.service;
+
+import com.creditas.loan.simulator.dto.LoanSimulationResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append-only journal of every simulation issued, kept in memory-mapped segment files of fixed-size records.
+ *
+ * <p>A writer reserves the next slot with a single atomic add, encodes the simulation into it with one copy into
+ * the mapped segment and indexes its id, so recording costs no system call and no lock. Segments are named
+ * {@code journal-00000.dat}, {@code journal-00001.dat} and so on, and are mapped at their full size when the
+ * first record reaches them.
+ *
+ * <p>Records are forced to disk by a flusher thread according to the {@link FsyncPolicy}: every force covers
+ * all records written since the previous one, so writers share its cost.
+ *
+ * <p>On opening, every slot of every segment is scanned: records are checked against their CRC, torn ones are
+ * skipped, and the index from simulation id to journal position is rebuilt. Writing resumes after the last
+ * intact record.
+ */
+@Slf4j
+public final class MappedSimulationJournal implements SimulationStore, AutoCloseable {
+
+  private static final String SEGMENT_NAME = "journal-%05d.dat";
+  private static final int RECORD_SIZE = SimulationRecords.RECORD_SIZE;
+
+  private final Path directory;
+  private final int segmentSize;
+  private final FsyncPolicy fsyncPolicy;
+  private final long fsyncIntervalNanos;
+  private final Map<UUID, Long> index = new ConcurrentHashMap<>();
+  private final AtomicLong nextPosition = new AtomicLong();
+  private final LongAdder writes = new LongAdder();
+  private final ReentrantLock segmentLock = new ReentrantLock();
+  private final ReentrantLock flushLock = new ReentrantLock();
+  private final Condition flushRequested = flushLock.newCondition();
+  private final Condition flushCompleted = flushLock.newCondition();
+
+  private volatile List<MappedByteBuffer> segments = List.of();
+  private volatile boolean closed;
+  private Thread flusher;
+
+  // Guarded by flushLock
+  private long startedFlushes;
+  private long completedFlushes;
+  private boolean flushPending;
+
+  // Confined to the flusher thread
+  private long flushedWrites;
+  private int flushedSegment;
+
+  private MappedSimulationJournal(final Path directory, final int segmentSize, final FsyncPolicy fsyncPolicy,
+                                  final Duration fsyncInterval) {
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    this.fsyncPolicy = fsyncPolicy;
+    this.fsyncIntervalNanos = fsyncInterval.toNanos();
+  }
+
+  /**
+   * Opens the journal in a directory, recovering the records already in it.
+   *
+   * @param directory     the directory holding the segment files, created if missing
+   * @param segmentSize   the size of each segment file, a multiple of the record size
+   * @param fsyncPolicy   when records are forced to disk
+   * @param fsyncInterval the longest delay between two forces
+   * @param threadFactory the factory of the flusher thread
+   * @return the open journal
+   * @throws UncheckedIOException when the directory or a segment cannot be read
+   */
+  public static MappedSimulationJournal open(final Path directory, final int segmentSize,
+                                             final FsyncPolicy fsyncPolicy, final Duration fsyncInterval,
+                                             final ThreadFactory threadFactory) {
+    if (segmentSize <= 0 || segmentSize % RECORD_SIZE != 0) {
+      throw new IllegalArgumentException("Segment size must be a positive multiple of " + RECORD_SIZE + " bytes");
+    }
+    MappedSimulationJournal journal = new MappedSimulationJournal(directory, segmentSize, fsyncPolicy,
+        fsyncInterval);
+    journal.recover();
+    if (fsyncPolicy != FsyncPolicy.NONE) {
+      journal.flusher = threadFactory.newThread(journal::flushLoop);
+      journal.flusher.start();
+    }
+    return journal;
+  }
+
+  @Override
+  public void record(final LoanSimulationResponse simulation) {
+    if (closed) {
+      throw new IllegalStateException("Simulation journal is closed");
+    }
+    UUID id = UUID.fromString(simulation.getId());
+    byte[] record = SimulationRecords.encode(id, simulation);
+
+    long position = nextPosition.getAndAdd(RECORD_SIZE);
+    segment((int) (position / segmentSize)).put((int) (position % segmentSize), record);
+    index.put(id, position);
+    writes.increment();
+
+    if (fsyncPolicy == FsyncPolicy.SYNC) {
+      awaitFlush();
+    }
+  }
+
+  @Override
+  public int maxClientIdBytes() {
+    return SimulationRecords.CLIENT_ID_CAPACITY;
+  }
+
+  @Override
+  public Optional<LoanSimulationResponse> find(final String id) {
+    UUID uuid;
+    try {
+      uuid = UUID.fromString(id);
+    } catch (IllegalArgumentException e) {
+      return Optional.empty();
+    }
+    Long position = index.get(uuid);
+    if (position == null) {
+      return Optional.empty();
+    }
+    return Optional.of(SimulationRecords.decode(segment((int) (position / segmentSize)),
+        (int) (position % segmentSize)));
+  }
+
+  /**
+   * Returns the number of simulations in the journal.
+   *
+   * @return the number of indexed records
+   */
+  public int size() {
+    return index.size();
+  }
+
+  /**
+   * Stops the flusher and forces every segment to disk, unless the policy is {@link FsyncPolicy#NONE}.
+   */
+  @Override
+  public void close() {
+    flushLock.lock();
+    try {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      flushRequested.signalAll();
+      flushCompleted.signalAll();
+    } finally {
+      flushLock.unlock();
+    }
+    if (flusher == null) {
+      return;
+    }
+    try {
+      flusher.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    for (MappedByteBuffer segment : segments) {
+      segment.force();
+    }
+  }
+
+  private void recover() {
+    long start = System.nanoTime();
+    try {
+      Files.createDirectories(directory);
+      int count = 0;
+      while (Files.exists(segmentPath(count))) {
+        count++;
+      }
+      if (count > 0) {
+        segment(count - 1);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot open simulation journal in " + directory, e);
+    }
+
+    long end = 0;
+    int torn = 0;
+    List<MappedByteBuffer> recovered = segments;
+    for (int segment = 0; segment < recovered.size(); segment++) {
+      MappedByteBuffer buffer = recovered.get(segment);
+      for (int offset = 0; offset < segmentSize; offset += RECORD_SIZE) {
+        if (!SimulationRecords.isWritten(buffer, offset)) {
+          continue;
+        }
+        if (!SimulationRecords.isIntact(buffer, offset)) {
+          torn++;
+          continue;
+        }
+        long position = (long) segment * segmentSize + offset;
+        index.put(SimulationRecords.id(buffer, offset), position);
+        end = position + RECORD_SIZE;
+      }
+    }
+    nextPosition.set(end);
+
+    log.info("Recovered {} simulations from {} journal segments in {} ms, skipped {} torn records",
+        index.size(), recovered.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), torn);
+  }
+
+  private MappedByteBuffer segment(final int number) {
+    List<MappedByteBuffer> current = segments;
+    if (number < current.size()) {
+      return current.get(number);
+    }
+    segmentLock.lock();
+    try {
+      current = segments;
+      if (number >= current.size()) {
+        List<MappedByteBuffer> grown = new ArrayList<>(current);
+        for (int missing = current.size(); missing <= number; missing++) {
+          grown.add(map(missing));
+        }
+        current = List.copyOf(grown);
+        segments = current;
+      }
+      return current.get(number);
+    } finally {
+      segmentLock.unlock();
+    }
+  }
+
+  private MappedByteBuffer map(final int number) {
+    Path path = segmentPath(number);
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE)) {
+      long size = channel.size();
+      if (size != 0 && size != segmentSize) {
+        throw new IllegalStateException("Journal segment " + path + " is " + size
+            + " bytes, but the configured segment size is " + segmentSize + " bytes");
+      }
+      return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot map journal segment " + path, e);
+    }
+  }
+
+  private Path segmentPath(final int number) {
+    return directory.resolve(String.format(SEGMENT_NAME, number));
+  }
+
+  /**
+   * Waits for a force that starts after the caller's record was written, requesting one if none is pending.
+   */
+  private void awaitFlush() {
+    flushLock.lock();
+    try {
+      long target = startedFlushes + 1;
+      flushPending = true;
+      flushRequested.signal();
+      while (completedFlushes < target && !closed) {
+        flushCompleted.awaitUninterruptibly();
+      }
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  private void flushLoop() {
+    while (true) {
+      long flush;
+      flushLock.lock();
+      try {
+        long remaining = fsyncIntervalNanos;
+        while (!flushPending && !closed && remaining > 0) {
+          remaining = flushRequested.awaitNanos(remaining);
+        }
+        if (closed) {
+          return;
+        }
+        flushPending = false;
+        flush = ++startedFlushes;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } finally {
+        flushLock.unlock();
+      }
+
+      force();
+
+      flushLock.lock();
+      try {
+        completedFlushes = flush;
+        flushCompleted.signalAll();
+      } finally {
+        flushLock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Forces the segments written since the previous force. The segment before the last one forced is forced
+   * again, in case a record reserved before that force was only written after it.
+   */
+  private void force() {
+    long written = writes.sum();
+    if (written == flushedWrites) {
+      return;
+    }
+    List<MappedByteBuffer> current = segments;
+    int last = (int) ((nextPosition.get() - 1) / segmentSize);
+    try {
+      for (int segment = Math.max(0, flushedSegment - 1); segment <= last && segment < current.size(); segment++) {
+        current.get(segment).force();
+      }
+      flushedWrites = written;
+      flushedSegment = last;
+    } catch (UncheckedIOException e) {
+      log.error("Failed to force the simulation journal to disk", e);
+    }
+  }
+}
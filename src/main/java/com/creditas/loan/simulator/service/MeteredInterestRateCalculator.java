@@ -0,0 +1,46 @@
+package com.creditas.loan.simulator.service;
+
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times an {@link InterestRateCalculator} and counts the rates it resolves per age band. The counter of a band
+ * is registered the first time the band is seen and then found with a lock-free map read, so a call records its
+ * metrics without allocating.
+ */
+public final class MeteredInterestRateCalculator implements InterestRateCalculator {
+
+  private final InterestRateCalculator delegate;
+  private final MeterRegistry meterRegistry;
+  private final Timer timer;
+  private final Map<String, Counter> bandCounters = new ConcurrentHashMap<>();
+
+  public MeteredInterestRateCalculator(final InterestRateCalculator delegate, final MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.meterRegistry = meterRegistry;
+    this.timer = LatencyTimers.register(meterRegistry, "loan.interest.rate.calculation",
+        "Time to resolve the interest rate of a simulation");
+  }
+
+  @Override
+  public InterestRate calculateInterestRate(final LoanSimulationRequest request) {
+    long start = System.nanoTime();
+    InterestRate interestRate = delegate.calculateInterestRate(request);
+    timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+    Counter counter = bandCounters.get(interestRate.band());
+    if (counter == null) {
+      counter = bandCounters.computeIfAbsent(interestRate.band(), band -> Counter.builder("loan.interest.rate.band")
+          .description("Simulations priced per age band")
+          .tag("band", band)
+          .register(meterRegistry));
+    }
+    counter.increment();
+    return interestRate;
+  }
+}
@@ -0,0 +1,23 @@
+package com.creditas.loan.simulator.service;
+
+import java.math.BigDecimal;
+import java.util.function.Supplier;
+
+/**
+ * Cache that always calculates, used when simulation caching is disabled.
+ */
+public final class NoOpSimulationCache implements SimulationCache {
+
+  private static final SimulationCacheStats EMPTY_STATS = new SimulationCacheStats(0, 0, 0, 0);
+
+  @Override
+  public LoanQuote get(final BigDecimal loanAmount, final BigDecimal annualInterestRate,
+                       final int loanTermInMonths, final Supplier<LoanQuote> calculation) {
+    return calculation.get();
+  }
+
+  @Override
+  public SimulationCacheStats stats() {
+    return EMPTY_STATS;
+  }
+}
@@ -0,0 +1,20 @@
+package com.creditas.loan.simulator.service;
+
+import com.creditas.loan.simulator.dto.LoanSimulationResponse;
+import java.util.Optional;
+
+/**
+ * Store that keeps nothing, used while the simulation journal is disabled.
+ */
+public final class NoOpSimulationStore implements SimulationStore {
+
+  @Override
+  public void record(final LoanSimulationResponse simulation) {
+    // Nothing is kept
+  }
+
+  @Override
+  public Optional<LoanSimulationResponse> find(final String id) {
+    return Optional.empty();
+  }
+}
@@ -0,0 +1,115 @@
+package com.creditas.loan.simulator.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes repriced chunks to a file channel in the order they were submitted, on its own thread, while later chunks
+ * are still being repriced. Submitting blocks once {@code maxChunksInFlight} chunks are waiting to be written.
+ */
+final class OrderedChunkWriter {
+
+  private static final long WRITER_POLL_MILLIS = 100;
+  private static final CompletableFuture<RepricedChunk> END = CompletableFuture.completedFuture(null);
+
+  private final BlockingQueue<CompletableFuture<RepricedChunk>> pending;
+  private final FileChannel out;
+  private final CompletableFuture<Void> writer;
+  private long rows;
+  private long failures;
+
+  OrderedChunkWriter(final FileChannel out, final int maxChunksInFlight) {
+    this.pending = new ArrayBlockingQueue<>(maxChunksInFlight);
+    this.out = out;
+    this.writer = CompletableFuture.runAsync(this::writeInOrder,
+        runnable -> Thread.ofPlatform().daemon().name("repricing-writer").start(runnable));
+  }
+
+  /**
+   * Queues a chunk to be written after the ones submitted before it.
+   *
+   * @throws IOException when the writer has failed or the caller is interrupted
+   */
+  void submit(final CompletableFuture<RepricedChunk> chunk) throws IOException {
+    try {
+      // A writer that failed stops taking chunks, so it is checked while waiting for room
+      while (!pending.offer(chunk, WRITER_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+        if (writer.isDone()) {
+          join();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while repricing", e);
+    }
+  }
+
+  /**
+   * Waits for every submitted chunk to be written.
+   *
+   * @throws IOException when a chunk could not be written
+   */
+  void finish() throws IOException {
+    submit(END);
+    join();
+  }
+
+  /**
+   * Stops the writer without waiting for the chunks it has not written yet.
+   */
+  void abort() {
+    pending.clear();
+    // Only the submitting thread adds chunks, so the end marker fits in the queue just cleared
+    pending.add(END);
+  }
+
+  long rows() {
+    return rows;
+  }
+
+  long failures() {
+    return failures;
+  }
+
+  private void join() throws IOException {
+    try {
+      writer.join();
+    } catch (RuntimeException e) {
+      if (e.getCause() instanceof UncheckedIOException io) {
+        throw io.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private void writeInOrder() {
+    try {
+      for (CompletableFuture<RepricedChunk> chunk = pending.take(); chunk != END; chunk = pending.take()) {
+        RepricedChunk result = chunk.join();
+        ByteBuffer bytes = ByteBuffer.wrap(result.data());
+        while (bytes.hasRemaining()) {
+          out.write(bytes);
+        }
+        rows += result.rows();
+        failures += result.failures();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while writing repriced rows", e);
+    }
+  }
+
+  /**
+   * The results of a chunk, one NDJSON line per row.
+   */
+  record RepricedChunk(byte[] data, long rows, long failures) {
+  }
+}
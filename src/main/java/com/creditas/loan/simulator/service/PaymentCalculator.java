@@ -0,0 +1,7 @@
+package com.creditas.loan.simulator.service;
+
+import java.math.BigDecimal;
+
+public interface PaymentCalculator {
+  BigDecimal calculateMonthlyPayment(BigDecimal amount, int loanTermInMonths, BigDecimal annualInterestRate);
+}
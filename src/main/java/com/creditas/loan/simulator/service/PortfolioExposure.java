@@ -0,0 +1,111 @@
+package com.creditas.loan.simulator.service;
+
+import java.time.LocalDate;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Exposure of every client of a {@link ClientPortfolio} on a given day, held in columns indexed by client number.
+ *
+ * <p>An installment due on or after that day is outstanding. A client's outstanding balance is the principal of
+ * its outstanding installments, its remaining interest their interest, and its next due installment the earliest
+ * of them across all its contracts.
+ */
+public final class PortfolioExposure {
+
+  private static final int NONE = -1;
+
+  private final LocalDate asOf;
+  private final long[] outstandingBalances;
+  private final long[] interestRemaining;
+  private final int[] nextDueInstallments;
+  private final int[] nextDueContracts;
+
+  private PortfolioExposure(final LocalDate asOf, final int clients) {
+    this.asOf = asOf;
+    this.outstandingBalances = new long[clients];
+    this.interestRemaining = new long[clients];
+    this.nextDueInstallments = new int[clients];
+    this.nextDueContracts = new int[clients];
+  }
+
+  /**
+   * Aggregates the exposure of every client, spreading clients across the pool's workers.
+   *
+   * @param portfolio the portfolio
+   * @param asOf      the first day whose installments are still outstanding
+   * @param pool      the pool running the aggregation
+   * @return the exposure of every client
+   */
+  public static PortfolioExposure aggregate(final ClientPortfolio portfolio, final LocalDate asOf,
+                                            final ForkJoinPool pool) {
+    PortfolioExposure exposure = new PortfolioExposure(asOf, portfolio.clientCount());
+    int day = Math.toIntExact(asOf.toEpochDay());
+    // A parallel stream started from inside the pool is split across that pool's workers; each client is
+    // written by a single task
+    pool.submit(() -> IntStream.range(0, portfolio.clientCount())
+            .parallel()
+            .forEach(client -> exposure.aggregate(portfolio, day, client)))
+        .join();
+    return exposure;
+  }
+
+  private void aggregate(final ClientPortfolio portfolio, final int day, final int client) {
+    long outstanding = 0;
+    long interest = 0;
+    int nextDue = NONE;
+    int nextDueContract = NONE;
+    int nextDueDay = Integer.MAX_VALUE;
+    for (int contract = portfolio.firstContract(client); contract < portfolio.endContract(client); contract++) {
+      for (int installment = portfolio.firstInstallment(contract); installment < portfolio.endInstallment(contract);
+          installment++) {
+        int dueDay = portfolio.dueDay(installment);
+        if (dueDay >= day) {
+          outstanding += portfolio.principalCents(installment);
+          interest += portfolio.interestCents(installment);
+          if (dueDay < nextDueDay) {
+            nextDueDay = dueDay;
+            nextDue = installment;
+            nextDueContract = contract;
+          }
+        }
+      }
+    }
+    outstandingBalances[client] = outstanding;
+    interestRemaining[client] = interest;
+    nextDueInstallments[client] = nextDue;
+    nextDueContracts[client] = nextDueContract;
+  }
+
+  public LocalDate asOf() {
+    return asOf;
+  }
+
+  public long outstandingBalanceCents(final int client) {
+    return outstandingBalances[client];
+  }
+
+  public long interestRemainingCents(final int client) {
+    return interestRemaining[client];
+  }
+
+  /**
+   * Returns the next installment due of a client.
+   *
+   * @param client the number of the client
+   * @return the number of the installment in the portfolio, or {@code -1} when nothing is outstanding
+   */
+  public int nextDueInstallment(final int client) {
+    return nextDueInstallments[client];
+  }
+
+  /**
+   * Returns the contract of the next installment due of a client.
+   *
+   * @param client the number of the client
+   * @return the number of the contract in the portfolio, or {@code -1} when nothing is outstanding
+   */
+  public int nextDueContract(final int client) {
+    return nextDueContracts[client];
+  }
+}
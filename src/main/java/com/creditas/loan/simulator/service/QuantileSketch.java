@@ -0,0 +1,140 @@
+package com.creditas.loan.simulator.service;
+
+/**
+ * Mergeable quantile sketch over non-negative values, answering any quantile within a relative error of
+ * {@value #RELATIVE_ACCURACY} of the exact one while storing one counter per occupied logarithmic bucket.
+ *
+ * <p>Bucket {@code i} counts the values in {@code (gamma^(i-1), gamma^i]}, with {@code gamma = (1+a)/(1-a)}, and
+ * reports them by a single representative within the relative accuracy {@code a} of all of them. Buckets are
+ * kept in a contiguous array that grows towards whichever side a new value falls on, so a sketch over money
+ * amounts stays a few kilobytes no matter how many values it counts. Values under half a cent count as zero.
+ * Sketches are not thread-safe: each worker fills its own and they are merged afterwards.
+ */
+final class QuantileSketch {
+
+  static final double RELATIVE_ACCURACY = 0.005;
+
+  private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+  private static final double LOG_GAMMA = Math.log(GAMMA);
+  private static final double MIN_COUNTED_VALUE = 0.005;
+  private static final int INITIAL_BUCKETS = 128;
+
+  private long[] counts = new long[INITIAL_BUCKETS];
+  private int firstIndex;
+  private boolean bucketsInUse;
+  private long zeroCount;
+  private long count;
+  private double sum;
+  private double min = Double.POSITIVE_INFINITY;
+  private double max = Double.NEGATIVE_INFINITY;
+
+  /**
+   * Counts a value.
+   *
+   * @param value the value, not negative
+   */
+  void add(final double value) {
+    count++;
+    sum += value;
+    min = Math.min(min, value);
+    max = Math.max(max, value);
+    if (value < MIN_COUNTED_VALUE) {
+      zeroCount++;
+      return;
+    }
+    int index = (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+    ensureBucket(index);
+    counts[index - firstIndex]++;
+  }
+
+  /**
+   * Adds every value counted by another sketch to this one.
+   *
+   * @param other the sketch to merge, left unchanged
+   * @return this sketch
+   */
+  QuantileSketch merge(final QuantileSketch other) {
+    if (other.count == 0) {
+      return this;
+    }
+    for (int bucket = 0; bucket < other.counts.length; bucket++) {
+      if (other.counts[bucket] != 0) {
+        int index = other.firstIndex + bucket;
+        ensureBucket(index);
+        counts[index - firstIndex] += other.counts[bucket];
+      }
+    }
+    count += other.count;
+    zeroCount += other.zeroCount;
+    sum += other.sum;
+    min = Math.min(min, other.min);
+    max = Math.max(max, other.max);
+    return this;
+  }
+
+  /**
+   * Returns the value at the given quantile, within the sketch's relative accuracy.
+   *
+   * @param quantile the quantile, between 0 and 1
+   * @return the value at the quantile, exact for the smallest and largest values counted
+   */
+  double quantile(final double quantile) {
+    if (count == 0) {
+      return Double.NaN;
+    }
+    long rank = (long) (quantile * (count - 1));
+    if (rank == count - 1) {
+      return max;
+    }
+    long seen = zeroCount;
+    if (rank == 0 || rank < seen) {
+      return min;
+    }
+    for (int bucket = 0; bucket < counts.length; bucket++) {
+      seen += counts[bucket];
+      if (rank < seen) {
+        double representative = 2 * Math.pow(GAMMA, firstIndex + bucket) / (GAMMA + 1);
+        return Math.min(max, Math.max(min, representative));
+      }
+    }
+    return max;
+  }
+
+  long count() {
+    return count;
+  }
+
+  double mean() {
+    return sum / count;
+  }
+
+  double min() {
+    return min;
+  }
+
+  double max() {
+    return max;
+  }
+
+  private void ensureBucket(final int index) {
+    if (!bucketsInUse) {
+      firstIndex = index - counts.length / 2;
+      bucketsInUse = true;
+      return;
+    }
+    int lastIndex = firstIndex + counts.length - 1;
+    if (index >= firstIndex && index <= lastIndex) {
+      return;
+    }
+    int newFirstIndex = Math.min(firstIndex, index);
+    int needed = Math.max(lastIndex, index) - newFirstIndex + 1;
+    long[] grown = new long[Math.max(needed, counts.length * 2)];
+    if (index < firstIndex) {
+      // Leave the spare room on the side the sketch is growing towards
+      newFirstIndex = lastIndex - grown.length + 1;
+    }
+    System.arraycopy(counts, 0, grown, firstIndex - newFirstIndex, counts.length);
+    counts = grown;
+    firstIndex = newFirstIndex;
+  }
+}
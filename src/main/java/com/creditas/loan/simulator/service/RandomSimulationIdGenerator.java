@@ -0,0 +1,15 @@
+package com.creditas.loan.simulator.service;
+
+import java.util.UUID;
+
+/**
+ * Random (version 4) UUIDs drawn from the shared {@link java.security.SecureRandom}, so ids cannot be predicted
+ * from earlier ones. Threads generating ids at the same time contend on that source.
+ */
+public final class RandomSimulationIdGenerator implements SimulationIdGenerator {
+
+  @Override
+  public String nextId() {
+    return UUID.randomUUID().toString();
+  }
+}
@@ -0,0 +1,12 @@
+package com.creditas.loan.simulator.service;
+
+import java.math.BigDecimal;
+
+/**
+ * Annual interest rate applied to clients up to a given age.
+ *
+ * @param maxAge the oldest age, inclusive, covered by the band; {@code null} for the open-ended last band
+ * @param rate   the annual interest rate, in percent
+ */
+public record RateBand(Integer maxAge, BigDecimal rate) {
+}
@@ -0,0 +1,123 @@
+package com.creditas.loan.simulator.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable age-band rate table. Bands are stored as a sorted array of inclusive upper ages searched with
+ * {@link Arrays#binarySearch(int[], int)}, and every lookup returns one of the rate instances built when the
+ * table was created, so resolving a rate neither allocates nor parses anything.
+ */
+public final class RateBandTable {
+
+  private static final int RATE_SCALE = 2;
+
+  private final int[] maxAges;
+  private final BigDecimal[] rates;
+
+  private RateBandTable(final int[] maxAges, final BigDecimal[] rates) {
+    this.maxAges = maxAges;
+    this.rates = rates;
+  }
+
+  /**
+   * Builds a table from bands ordered by age.
+   *
+   * @param bands the rate bands, with strictly increasing maximum ages and an open-ended last band
+   * @return the rate table
+   * @throws IllegalArgumentException if the bands are empty, unordered, overlapping or leave ages uncovered
+   */
+  public static RateBandTable of(final List<RateBand> bands) {
+    if (bands == null || bands.isEmpty()) {
+      throw new IllegalArgumentException("At least one rate band is required");
+    }
+
+    int[] maxAges = new int[bands.size()];
+    BigDecimal[] rates = new BigDecimal[bands.size()];
+    int lastIndex = bands.size() - 1;
+
+    for (int i = 0; i < bands.size(); i++) {
+      RateBand band = bands.get(i);
+      if (band.rate() == null || band.rate().signum() < 0) {
+        throw new IllegalArgumentException("Rate band " + i + " must have a non-negative rate");
+      }
+      maxAges[i] = upperAge(band, i, lastIndex);
+      if (i > 0 && maxAges[i] <= maxAges[i - 1]) {
+        throw new IllegalArgumentException("Rate band " + i + " must cover older ages than band " + (i - 1));
+      }
+      rates[i] = band.rate().setScale(RATE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    return new RateBandTable(maxAges, rates);
+  }
+
+  private static int upperAge(final RateBand band, final int index, final int lastIndex) {
+    if (index == lastIndex) {
+      if (band.maxAge() != null) {
+        throw new IllegalArgumentException("The last rate band must not have a maximum age");
+      }
+      return Integer.MAX_VALUE;
+    }
+    if (band.maxAge() == null) {
+      throw new IllegalArgumentException("Only the last rate band may omit its maximum age");
+    }
+    return band.maxAge();
+  }
+
+  /**
+   * Returns the annual rate of the band covering the given age.
+   *
+   * @param age the client's age in full years
+   * @return the shared rate instance of the matching band
+   */
+  public BigDecimal rateFor(final int age) {
+    return rates[bandIndex(age)];
+  }
+
+  /**
+   * Returns the position of the band covering the given age.
+   *
+   * @param age the client's age in full years
+   * @return the index of the matching band, in age order
+   */
+  public int bandIndex(final int age) {
+    int index = Arrays.binarySearch(maxAges, age);
+    if (index < 0) {
+      index = -index - 1;
+    }
+    return index;
+  }
+
+  /**
+   * Returns the bands of this table.
+   *
+   * @return the bands, ordered by age
+   */
+  public List<RateBand> bands() {
+    RateBand[] bands = new RateBand[rates.length];
+    for (int i = 0; i < rates.length - 1; i++) {
+      bands[i] = new RateBand(maxAges[i], rates[i]);
+    }
+    bands[rates.length - 1] = new RateBand(null, rates[rates.length - 1]);
+    return List.of(bands);
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof RateBandTable table)) {
+      return false;
+    }
+    return Arrays.equals(maxAges, table.maxAges) && Arrays.equals(rates, table.rates);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(Arrays.hashCode(maxAges), Arrays.hashCode(rates));
+  }
+}
@@ -0,0 +1,60 @@
+package com.creditas.loan.simulator.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Immutable, versioned snapshot of the age-band pricing. The {@link InterestRate} of every band is built once,
+ * so resolving a rate returns a shared instance that already carries the policy version and the band's age range.
+ */
+public final class RatePolicy {
+
+  private final String version;
+  private final RateBandTable table;
+  private final InterestRate[] rates;
+
+  public RatePolicy(final String version, final RateBandTable table) {
+    if (version == null || version.isBlank()) {
+      throw new IllegalArgumentException("Rate policy version must not be blank");
+    }
+    // Every simulation journals the version, so a policy whose version the journal cannot hold is never loaded
+    if (version.getBytes(StandardCharsets.UTF_8).length > SimulationRecords.VERSION_CAPACITY) {
+      throw new IllegalArgumentException(
+          "Rate policy version must not exceed " + SimulationRecords.VERSION_CAPACITY + " bytes");
+    }
+    this.version = version;
+    this.table = table;
+    List<RateBand> bands = table.bands();
+    this.rates = new InterestRate[bands.size()];
+    int minAge = 0;
+    for (int i = 0; i < rates.length; i++) {
+      RateBand band = bands.get(i);
+      String label;
+      if (band.maxAge() == null) {
+        label = minAge + "+";
+      } else {
+        label = minAge + "-" + band.maxAge();
+        minAge = band.maxAge() + 1;
+      }
+      rates[i] = new InterestRate(band.rate(), version, label);
+    }
+  }
+
+  public String version() {
+    return version;
+  }
+
+  public RateBandTable table() {
+    return table;
+  }
+
+  /**
+   * Returns the interest rate of the band covering the given age.
+   *
+   * @param age the client's age in full years
+   * @return the shared interest rate of the matching band
+   */
+  public InterestRate rateFor(final int age) {
+    return rates[table.bandIndex(age)];
+  }
+}
@@ -0,0 +1,127 @@
+package com.creditas.loan.simulator.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Watches a local rate policy file and publishes every valid new version to a {@link RatePolicyHolder}.
+ *
+ * <p>The file is a JSON document such as
+ * {@code {"version": "2025-10", "bands": [{"max_age": 25, "rate": 5.00}, {"rate": 4.00}]}}. It is polled for
+ * changes to its size or modification time, which also works on bind mounts where file system events are not
+ * delivered. A version that fails validation, or that changes the bands without changing the version, is
+ * rejected and the policy in force is kept.
+ *
+ * <p>Polls are serialized with a {@link ReentrantLock} rather than a monitor, so file reads on a virtual thread
+ * do not pin its carrier thread.
+ */
+@Slf4j
+public final class RatePolicyFileWatcher implements AutoCloseable {
+
+  private final Path file;
+  private final RatePolicyHolder holder;
+  private final ObjectReader documentReader;
+  private final ScheduledExecutorService scheduler;
+  private final ReentrantLock pollLock = new ReentrantLock();
+
+  private FileTime lastModified;
+  private long lastSize = -1;
+
+  public RatePolicyFileWatcher(final Path file,
+                               final RatePolicyHolder holder,
+                               final ObjectMapper objectMapper,
+                               final ThreadFactory threadFactory) {
+    this.file = file;
+    this.holder = holder;
+    this.documentReader = objectMapper.copy()
+        .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+        .readerFor(Document.class);
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+  }
+
+  /**
+   * Loads the file once and then keeps polling it in the background.
+   *
+   * @param pollInterval the delay between two checks of the file
+   */
+  public void start(final Duration pollInterval) {
+    poll();
+    scheduler.scheduleWithFixedDelay(this::poll, pollInterval.toMillis(), pollInterval.toMillis(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Checks the file once and publishes its policy if it changed and is valid.
+   *
+   * @return {@code true} if a new policy was published
+   */
+  public boolean poll() {
+    pollLock.lock();
+    try {
+      BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      if (attributes.lastModifiedTime().equals(lastModified) && attributes.size() == lastSize) {
+        return false;
+      }
+      lastModified = attributes.lastModifiedTime();
+      lastSize = attributes.size();
+      return publish(load());
+    } catch (NoSuchFileException ex) {
+      log.warn("Rate policy file {} not found, keeping version {}", file, holder.current().version());
+    } catch (IOException | IllegalArgumentException ex) {
+      log.warn("Rejected rate policy file {}, keeping version {}: {}", file, holder.current().version(),
+          ex.getMessage());
+    } catch (RuntimeException ex) {
+      // Never let one bad file escape, as it would cancel every later poll of the scheduler
+      log.error("Failed to read rate policy file {}, keeping version {}", file, holder.current().version(), ex);
+    } finally {
+      pollLock.unlock();
+    }
+    return false;
+  }
+
+  private RatePolicy load() throws IOException {
+    Document document = documentReader.readValue(file.toFile());
+    if (document == null) {
+      throw new IllegalArgumentException("Rate policy file must hold a JSON object");
+    }
+    return new RatePolicy(document.version(), RateBandTable.of(document.bands()));
+  }
+
+  private boolean publish(final RatePolicy policy) {
+    RatePolicy current = holder.current();
+    if (Objects.equals(current.version(), policy.version())) {
+      if (!current.table().equals(policy.table())) {
+        log.warn("Rate policy file {} changes the bands of version {} without a new version, ignoring it",
+            file, policy.version());
+      }
+      return false;
+    }
+    holder.publish(policy);
+    log.info("Published rate policy version {} (previous version {})", policy.version(), current.version());
+    return true;
+  }
+
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+  }
+
+  private record Document(String version, List<RateBand> bands) {
+  }
+}
@@ -0,0 +1,31 @@
+package com.creditas.loan.simulator.service;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Publishes the rate policy in force. Readers take the current snapshot with a single volatile read and never
+ * lock; a new policy replaces the old one through an atomic swap, so simulations already running keep pricing
+ * with the snapshot they started with.
+ */
+public final class RatePolicyHolder {
+
+  private final AtomicReference<RatePolicy> current;
+
+  public RatePolicyHolder(final RatePolicy initialPolicy) {
+    this.current = new AtomicReference<>(initialPolicy);
+  }
+
+  public RatePolicy current() {
+    return current.get();
+  }
+
+  /**
+   * Makes a new policy the one in force.
+   *
+   * @param policy the policy to publish
+   * @return the policy it replaced
+   */
+  public RatePolicy publish(final RatePolicy policy) {
+    return current.getAndSet(policy);
+  }
+}
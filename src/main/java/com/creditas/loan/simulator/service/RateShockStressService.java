@@ -0,0 +1,177 @@
+package com.creditas.loan.simulator.service;
+
+import com.creditas.loan.simulator.domain.Money;
+import com.creditas.loan.simulator.dto.DistributionSummary;
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.creditas.loan.simulator.dto.RateShockStressRequest;
+import com.creditas.loan.simulator.dto.RateShockStressResponse;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Monte Carlo stress test of a loan portfolio under random shocks to the annual rate of each age band.
+ *
+ * <p>Loans are grouped by band and term with their principals summed, since the installment is linear in the
+ * principal, so a scenario costs one annuity factor per group rather than per loan. The factor is computed as
+ * {@code i / (1 - (1+i)^-n)} through {@code log1p} and {@code expm1}, which stays finite for any term, tending to
+ * {@code i} where {@code (1+i)^n} would overflow a {@code double}.
+ *
+ * <p>Scenarios run in chunks on the simulation pool. Every chunk draws from its own {@link SplittableRandom},
+ * split from the seed up front, so a seed repeats the same run whatever the number of workers. Each worker
+ * accumulates its outcomes in {@link QuantileSketch}es that are merged once it is done, so no scenario result is
+ * ever stored.
+ */
+@Service
+@RequiredArgsConstructor
+public class RateShockStressService {
+
+  private static final int SCENARIOS_PER_CHUNK = 1024;
+  private static final double PERCENT = 100;
+  private static final double MONTHS_IN_YEAR = 12;
+  private static final double P50 = 0.50;
+  private static final double P90 = 0.90;
+  private static final double P95 = 0.95;
+  private static final double P99 = 0.99;
+
+  private final DailyClock dailyClock;
+  private final RatePolicyHolder ratePolicyHolder;
+  private final ForkJoinPool simulationPool;
+
+  /**
+   * Simulates the requested number of rate shock scenarios over the portfolio, using the rate policy in force.
+   *
+   * @param request the portfolio, the number of scenarios and the distribution of the shocks
+   * @return the distributions of the portfolio's total interest and monthly installments
+   */
+  public RateShockStressResponse simulate(final RateShockStressRequest request) {
+    RatePolicy policy = ratePolicyHolder.current();
+    Portfolio portfolio = Portfolio.of(request.getLoans(), policy.table(), dailyClock);
+    Shock shock = new Shock(request.getRateShockMean().doubleValue(),
+        request.getRateShockStandardDeviation().doubleValue());
+    int scenarios = request.getScenarios();
+
+    long seed;
+    if (request.getSeed() == null) {
+      seed = new SplittableRandom().nextLong();
+    } else {
+      seed = request.getSeed();
+    }
+    SplittableRandom root = new SplittableRandom(seed);
+    SplittableRandom[] streams = new SplittableRandom[Math.ceilDiv(scenarios, SCENARIOS_PER_CHUNK)];
+    for (int chunk = 0; chunk < streams.length; chunk++) {
+      streams[chunk] = root.split();
+    }
+
+    // A parallel stream started from inside the pool is split across that pool's workers
+    Outcomes outcomes = simulationPool.submit(() -> IntStream.range(0, streams.length)
+            .parallel()
+            .collect(Outcomes::new,
+                (worker, chunk) -> worker.run(portfolio, shock, streams[chunk],
+                    Math.min(SCENARIOS_PER_CHUNK, scenarios - chunk * SCENARIOS_PER_CHUNK)),
+                Outcomes::merge))
+        .join();
+
+    return new RateShockStressResponse(outcomes.totalInterestPaid.count(), request.getLoans().size(), seed,
+        policy.version(), summarize(outcomes.totalInterestPaid), summarize(outcomes.monthlyInstallments));
+  }
+
+  private static DistributionSummary summarize(final QuantileSketch sketch) {
+    return new DistributionSummary(toMoney(sketch.min()), toMoney(sketch.mean()), toMoney(sketch.quantile(P50)),
+        toMoney(sketch.quantile(P90)), toMoney(sketch.quantile(P95)), toMoney(sketch.quantile(P99)),
+        toMoney(sketch.max()));
+  }
+
+  private static Money toMoney(final double amount) {
+    return Money.of(BigDecimal.valueOf(amount));
+  }
+
+  /**
+   * Normally distributed shock to an annual rate, in percentage points.
+   */
+  private record Shock(double mean, double standardDeviation) {
+  }
+
+  /**
+   * The portfolio reduced to the summed principal of each band and term, sorted by band and then term, next to
+   * the base annual rate of every band.
+   */
+  private record Portfolio(double[] baseRates, int[] bands, int[] terms, double[] principals) {
+
+    static Portfolio of(final List<LoanSimulationRequest> loans, final RateBandTable table,
+                        final DailyClock dailyClock) {
+      Map<Long, Double> principalsByGroup = new HashMap<>();
+      for (LoanSimulationRequest loan : loans) {
+        int band = table.bandIndex(dailyClock.ageInYears(loan.getClientBirthDate()));
+        principalsByGroup.merge((long) band << Integer.SIZE | loan.getLoanTermInMonths(),
+            loan.getLoanAmount().doubleValue(), Double::sum);
+      }
+
+      long[] groups = principalsByGroup.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+      int[] bands = new int[groups.length];
+      int[] terms = new int[groups.length];
+      double[] principals = new double[groups.length];
+      for (int group = 0; group < groups.length; group++) {
+        bands[group] = (int) (groups[group] >>> Integer.SIZE);
+        terms[group] = (int) groups[group];
+        principals[group] = principalsByGroup.get(groups[group]);
+      }
+
+      List<RateBand> rateBands = table.bands();
+      double[] baseRates = new double[rateBands.size()];
+      for (int band = 0; band < baseRates.length; band++) {
+        baseRates[band] = rateBands.get(band).rate().doubleValue();
+      }
+      return new Portfolio(baseRates, bands, terms, principals);
+    }
+  }
+
+  /**
+   * Outcomes accumulated by one worker.
+   */
+  private static final class Outcomes {
+
+    private final QuantileSketch totalInterestPaid = new QuantileSketch();
+    private final QuantileSketch monthlyInstallments = new QuantileSketch();
+
+    void run(final Portfolio portfolio, final Shock shock, final SplittableRandom random, final int scenarios) {
+      double[] monthlyRates = new double[portfolio.baseRates().length];
+      for (int scenario = 0; scenario < scenarios; scenario++) {
+        for (int band = 0; band < monthlyRates.length; band++) {
+          double annualRate = portfolio.baseRates()[band] + shock.mean()
+              + shock.standardDeviation() * random.nextGaussian();
+          monthlyRates[band] = Math.max(0, annualRate) / PERCENT / MONTHS_IN_YEAR;
+        }
+
+        double installments = 0;
+        double interest = 0;
+        for (int group = 0; group < portfolio.terms().length; group++) {
+          double principal = portfolio.principals()[group];
+          int term = portfolio.terms()[group];
+          double monthlyRate = monthlyRates[portfolio.bands()[group]];
+          double payment;
+          if (monthlyRate == 0) {
+            payment = principal / term;
+          } else {
+            payment = principal * monthlyRate / -Math.expm1(-term * Math.log1p(monthlyRate));
+          }
+          installments += payment;
+          interest += payment * term - principal;
+        }
+        monthlyInstallments.add(installments);
+        totalInterestPaid.add(interest);
+      }
+    }
+
+    void merge(final Outcomes other) {
+      totalInterestPaid.merge(other.totalInterestPaid);
+      monthlyInstallments.merge(other.monthlyInstallments);
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package com.creditas.loan.simulator.service;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a bulk repricing run.
+ *
+ * @param rows      the number of rows read, blank lines excluded
+ * @param failures  the number of rows that could not be read or simulated
+ * @param bytesRead the size of the input read, in bytes
+ * @param elapsed   the time from opening the input to closing the output
+ */
+public record RepricingReport(long rows, long failures, long bytesRead, Duration elapsed) {
+
+  private static final double NANOS_PER_SECOND = 1e9;
+  private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+  public double rowsPerSecond() {
+    return rows * NANOS_PER_SECOND / Math.max(1, elapsed.toNanos());
+  }
+
+  public double megabytesPerSecond() {
+    return bytesRead / BYTES_PER_MEGABYTE * NANOS_PER_SECOND / Math.max(1, elapsed.toNanos());
+  }
+}
@@ -0,0 +1,29 @@
+package com.creditas.loan.simulator.service;
+
+import java.math.BigDecimal;
+import java.util.function.Supplier;
+
+/**
+ * Strategy for reusing the quote of a previous simulation with the same loan amount, annual rate and term.
+ */
+public interface SimulationCache {
+
+  /**
+   * Returns the cached quote for the given inputs, calculating and caching it on a miss.
+   *
+   * @param loanAmount         the loan amount
+   * @param annualInterestRate the annual interest rate applied, in percent
+   * @param loanTermInMonths   the loan term in months
+   * @param calculation        the calculation producing the quote on a miss
+   * @return the quote for the given inputs
+   */
+  LoanQuote get(BigDecimal loanAmount, BigDecimal annualInterestRate, int loanTermInMonths,
+                Supplier<LoanQuote> calculation);
+
+  /**
+   * Returns the current hit, miss and eviction counters.
+   *
+   * @return the cache statistics
+   */
+  SimulationCacheStats stats();
+}
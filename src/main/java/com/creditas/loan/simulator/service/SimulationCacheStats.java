@@ -0,0 +1,12 @@
+package com.creditas.loan.simulator.service;
+
+/**
+ * Point-in-time counters of a {@link SimulationCache}.
+ *
+ * @param hits      the number of quotes served from the cache
+ * @param misses    the number of quotes that had to be calculated
+ * @param evictions the number of quotes evicted by size or expiry
+ * @param size      the approximate number of cached quotes
+ */
+public record SimulationCacheStats(long hits, long misses, long evictions, long size) {
+}
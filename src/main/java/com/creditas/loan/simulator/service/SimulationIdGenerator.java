@@ -0,0 +1,14 @@
+package com.creditas.loan.simulator.service;
+
+/**
+ * Strategy for the id given to every simulation issued.
+ */
+public interface SimulationIdGenerator {
+
+  /**
+   * Returns a new id, never returned before by this generator.
+   *
+   * @return the id, formatted as a UUID
+   */
+  String nextId();
+}
@@ -0,0 +1,160 @@
+package com.creditas.loan.simulator.service;
+
+import com.creditas.loan.simulator.domain.Money;
+import com.creditas.loan.simulator.dto.LoanSimulationResponse;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary layout of a journaled simulation: a fixed-size record of {@value #RECORD_SIZE} bytes, so any record is
+ * found by its offset alone.
+ *
+ * <p>A record starts with a magic number, telling a written slot from a preallocated empty one, and a CRC32C of
+ * the rest of the record, telling a complete record from one torn by a crash. Amounts are stored in cents, the
+ * interest rate as its unscaled value and scale, and the client id and policy version as length-prefixed UTF-8.
+ * Text longer than its field is rejected rather than cut, since a record is the quote as it was issued.
+ */
+final class SimulationRecords {
+
+  static final int RECORD_SIZE = 256;
+
+  private static final int MAGIC = 0x4C534A31;
+  private static final int MAGIC_OFFSET = 0;
+  private static final int CRC_OFFSET = MAGIC_OFFSET + Integer.BYTES;
+  private static final int ID_OFFSET = CRC_OFFSET + Integer.BYTES;
+  private static final int LOAN_AMOUNT_OFFSET = ID_OFFSET + 2 * Long.BYTES;
+  private static final int TOTAL_AMOUNT_OFFSET = LOAN_AMOUNT_OFFSET + Long.BYTES;
+  private static final int INSTALLMENT_OFFSET = TOTAL_AMOUNT_OFFSET + Long.BYTES;
+  private static final int INTEREST_PAID_OFFSET = INSTALLMENT_OFFSET + Long.BYTES;
+  private static final int RATE_OFFSET = INTEREST_PAID_OFFSET + Long.BYTES;
+  private static final int RATE_SCALE_OFFSET = RATE_OFFSET + Long.BYTES;
+  private static final int TERM_OFFSET = RATE_SCALE_OFFSET + Integer.BYTES;
+  private static final int CLIENT_ID_LENGTH_OFFSET = TERM_OFFSET + Integer.BYTES;
+  private static final int VERSION_LENGTH_OFFSET = CLIENT_ID_LENGTH_OFFSET + Short.BYTES;
+  private static final int CLIENT_ID_OFFSET = VERSION_LENGTH_OFFSET + Short.BYTES;
+  static final int CLIENT_ID_CAPACITY = 96;
+  private static final int VERSION_OFFSET = CLIENT_ID_OFFSET + CLIENT_ID_CAPACITY;
+  static final int VERSION_CAPACITY = RECORD_SIZE - VERSION_OFFSET;
+  private static final int CHECKED_OFFSET = ID_OFFSET;
+  private static final short NULL_TEXT = -1;
+
+  private SimulationRecords() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Encodes a simulation into a new record.
+   *
+   * @param id         the id of the simulation
+   * @param simulation the simulation
+   * @return the record, {@value #RECORD_SIZE} bytes long
+   * @throws IllegalArgumentException if the client id or policy version does not fit its field
+   */
+  static byte[] encode(final UUID id, final LoanSimulationResponse simulation) {
+    byte[] bytes = new byte[RECORD_SIZE];
+    ByteBuffer record = ByteBuffer.wrap(bytes);
+    record.putInt(MAGIC_OFFSET, MAGIC)
+        .putLong(ID_OFFSET, id.getMostSignificantBits())
+        .putLong(ID_OFFSET + Long.BYTES, id.getLeastSignificantBits())
+        .putLong(LOAN_AMOUNT_OFFSET, simulation.getLoanAmount().cents())
+        .putLong(TOTAL_AMOUNT_OFFSET, simulation.getTotalAmountPayable().cents())
+        .putLong(INSTALLMENT_OFFSET, simulation.getMonthlyInstallment().cents())
+        .putLong(INTEREST_PAID_OFFSET, simulation.getTotalInterestPaid().cents())
+        .putLong(RATE_OFFSET, simulation.getInterestRate().unscaledValue().longValueExact())
+        .putInt(RATE_SCALE_OFFSET, simulation.getInterestRate().scale())
+        .putInt(TERM_OFFSET, simulation.getLoanTermInMonths());
+    putText(record, CLIENT_ID_LENGTH_OFFSET, CLIENT_ID_OFFSET, CLIENT_ID_CAPACITY, "Client id",
+        simulation.getClientId());
+    putText(record, VERSION_LENGTH_OFFSET, VERSION_OFFSET, VERSION_CAPACITY, "Rate policy version",
+        simulation.getRatePolicyVersion());
+    record.putInt(CRC_OFFSET, checksum(bytes));
+    return bytes;
+  }
+
+  /**
+   * Tells whether a slot holds a record, as opposed to never having been written.
+   *
+   * @param segment the segment holding the slot
+   * @param offset  the offset of the slot in the segment
+   * @return {@code true} if the slot starts with the record magic number
+   */
+  static boolean isWritten(final ByteBuffer segment, final int offset) {
+    return segment.getInt(offset + MAGIC_OFFSET) == MAGIC;
+  }
+
+  /**
+   * Tells whether a written record is complete, by checking its CRC.
+   *
+   * @param segment the segment holding the record
+   * @param offset  the offset of the record in the segment
+   * @return {@code true} if the record matches its checksum
+   */
+  static boolean isIntact(final ByteBuffer segment, final int offset) {
+    byte[] bytes = new byte[RECORD_SIZE];
+    segment.get(offset, bytes);
+    return ByteBuffer.wrap(bytes).getInt(CRC_OFFSET) == checksum(bytes);
+  }
+
+  static UUID id(final ByteBuffer segment, final int offset) {
+    return new UUID(segment.getLong(offset + ID_OFFSET), segment.getLong(offset + ID_OFFSET + Long.BYTES));
+  }
+
+  /**
+   * Decodes the record at the given offset.
+   *
+   * @param segment the segment holding the record
+   * @param offset  the offset of the record in the segment
+   * @return the simulation
+   */
+  static LoanSimulationResponse decode(final ByteBuffer segment, final int offset) {
+    byte[] bytes = new byte[RECORD_SIZE];
+    segment.get(offset, bytes);
+    ByteBuffer record = ByteBuffer.wrap(bytes);
+    return new LoanSimulationResponse(
+        id(record, 0).toString(),
+        getText(bytes, record.getShort(CLIENT_ID_LENGTH_OFFSET), CLIENT_ID_OFFSET),
+        Money.ofCents(record.getLong(LOAN_AMOUNT_OFFSET)),
+        new BigDecimal(BigInteger.valueOf(record.getLong(RATE_OFFSET)), record.getInt(RATE_SCALE_OFFSET)),
+        record.getInt(TERM_OFFSET),
+        Money.ofCents(record.getLong(TOTAL_AMOUNT_OFFSET)),
+        Money.ofCents(record.getLong(INSTALLMENT_OFFSET)),
+        Money.ofCents(record.getLong(INTEREST_PAID_OFFSET)),
+        getText(bytes, record.getShort(VERSION_LENGTH_OFFSET), VERSION_OFFSET));
+  }
+
+  private static int checksum(final byte[] record) {
+    CRC32C crc = new CRC32C();
+    crc.update(record, CHECKED_OFFSET, RECORD_SIZE - CHECKED_OFFSET);
+    return (int) crc.getValue();
+  }
+
+  private static void putText(final ByteBuffer record, final int lengthOffset, final int textOffset,
+                              final int capacity, final String name, final String text) {
+    if (text == null) {
+      record.putShort(lengthOffset, NULL_TEXT);
+      return;
+    }
+    CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    ByteBuffer field = record.slice(textOffset, capacity);
+    if (encoder.encode(CharBuffer.wrap(text), field, true).isOverflow()) {
+      throw new IllegalArgumentException(name + " does not fit the " + capacity + " bytes of its record field");
+    }
+    record.putShort(lengthOffset, (short) field.position());
+  }
+
+  private static String getText(final byte[] record, final short length, final int textOffset) {
+    if (length == NULL_TEXT) {
+      return null;
+    }
+    return new String(record, textOffset, length, StandardCharsets.UTF_8);
+  }
+}
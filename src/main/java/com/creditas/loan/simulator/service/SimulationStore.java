@@ -0,0 +1,34 @@
+package com.creditas.loan.simulator.service;
+
+import com.creditas.loan.simulator.dto.LoanSimulationResponse;
+import java.util.Optional;
+
+/**
+ * Strategy for keeping every simulation issued, so it can be retrieved later by its id.
+ */
+public interface SimulationStore {
+
+  /**
+   * Records a simulation as issued.
+   *
+   * @param simulation the simulation, before its values are rounded for the response
+   */
+  void record(LoanSimulationResponse simulation);
+
+  /**
+   * Returns a recorded simulation.
+   *
+   * @param id the id of the simulation
+   * @return the simulation, or an empty optional when no simulation with that id was recorded
+   */
+  Optional<LoanSimulationResponse> find(String id);
+
+  /**
+   * Returns the longest client id the store can record.
+   *
+   * @return the limit in bytes of UTF-8, {@link Integer#MAX_VALUE} when the store sets none
+   */
+  default int maxClientIdBytes() {
+    return Integer.MAX_VALUE;
+  }
+}
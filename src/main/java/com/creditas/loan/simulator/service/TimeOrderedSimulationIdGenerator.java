@@ -0,0 +1,53 @@
+package com.creditas.loan.simulator.service;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered (version 7) UUIDs, which sort in the order they were generated, as text and as {@link UUID}.
+ *
+ * <p>The first 48 bits are the Unix time in milliseconds and the next 12 bits, after the version, a counter
+ * within that millisecond. Both are taken together from one atomic tick, advanced with a compare-and-set so it
+ * never goes back, even if the clock does: an id issued after another, on any thread, is always greater. A
+ * millisecond issuing more than 4096 ids borrows the next one. The last 62 bits come from each thread's own
+ * {@link ThreadLocalRandom}, so threads share no lock.
+ *
+ * <p>The ids are unique but not secret: they reveal when they were issued and can be guessed from earlier ones.
+ */
+public final class TimeOrderedSimulationIdGenerator implements SimulationIdGenerator {
+
+  private static final int COUNTER_BITS = 12;
+  private static final int VERSION_AND_COUNTER_BITS = 16;
+  private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+  private static final long VERSION = 0x7000L;
+  private static final long VARIANT = 0x8000_0000_0000_0000L;
+  private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+  private final Clock clock;
+  private final AtomicLong lastTick = new AtomicLong();
+
+  public TimeOrderedSimulationIdGenerator(final Clock clock) {
+    this.clock = clock;
+  }
+
+  @Override
+  public String nextId() {
+    return nextUuid().toString();
+  }
+
+  /**
+   * Returns a new id, greater than every id returned before by this generator.
+   *
+   * @return the version 7 UUID
+   */
+  public UUID nextUuid() {
+    long now = clock.millis() << COUNTER_BITS;
+    long tick = lastTick.accumulateAndGet(now, (last, current) -> Math.max(current, last + 1));
+    long millis = tick >>> COUNTER_BITS;
+    long mostSignificantBits = millis << VERSION_AND_COUNTER_BITS | VERSION | (tick & COUNTER_MASK);
+    long leastSignificantBits = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+    return new UUID(mostSignificantBits, leastSignificantBits);
+  }
+}
@@ -0,0 +1,66 @@
+package com.creditas.loan.simulator.controller;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = "loan.simulator.cache.enabled=true")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@DisplayName("Actuator Integration Tests")
+public class ActuatorIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  @DisplayName("Should report the application as up")
+  public void shouldReportApplicationAsUp() throws Exception {
+    mockMvc.perform(get("/actuator/health"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.status").value("UP"));
+  }
+
+  @Test
+  @DisplayName("Should expose simulation metrics on the Prometheus endpoint")
+  public void shouldExposeSimulationMetricsOnPrometheusEndpoint() throws Exception {
+    mockMvc.perform(post("/v1/loans/simulate")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content("""
+                {"client_id": "123e4567-e89b-12d3-a456-426614174000", "loan_amount": 10000.00,
+                 "client_birth_date": "1990-12-12", "loan_term_in_months": 12}
+                """))
+        .andExpect(status().isOk());
+    mockMvc.perform(post("/v1/loans/simulate")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content("""
+                {"client_id": "123e4567-e89b-12d3-a456-426614174000", "loan_amount": -1,
+                 "client_birth_date": "1990-12-12", "loan_term_in_months": 12}
+                """))
+        .andExpect(status().isBadRequest());
+
+    mockMvc.perform(get("/actuator/prometheus"))
+        .andExpect(status().isOk())
+        .andExpect(content().string(containsString("loan_simulation_calculation_seconds_bucket")))
+        .andExpect(content().string(containsString("loan_interest_rate_calculation_seconds_count")))
+        .andExpect(content().string(containsString("loan_interest_rate_band_total{band=\"26-40\"")))
+        .andExpect(content().string(containsString("loan_simulation_validation_failures_total{field=\"loanAmount\"")))
+        .andExpect(content().string(containsString("http_server_requests_seconds_bucket")))
+        .andExpect(content().string(containsString("loan_simulation_cache_gets_total{result=\"hit\"")))
+        .andExpect(content().string(containsString("loan_simulation_cache_gets_total{result=\"miss\"} 1.0")))
+        .andExpect(content().string(containsString("loan_simulation_cache_evictions_total")))
+        .andExpect(content().string(containsString("loan_simulation_cache_size 1.0")));
+  }
+}
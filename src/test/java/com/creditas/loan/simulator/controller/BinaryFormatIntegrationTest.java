@@ -0,0 +1,106 @@
+package com.creditas.loan.simulator.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.creditas.loan.simulator.converter.CompactCborModule;
+import com.creditas.loan.simulator.domain.Money;
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.creditas.loan.simulator.dto.LoanSimulationResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Binary wire format Integration Tests")
+public class BinaryFormatIntegrationTest {
+
+  private static final ObjectMapper CBOR_MAPPER = Jackson2ObjectMapperBuilder.json()
+      .factory(new CBORFactory())
+      .modulesToInstall(new CompactCborModule())
+      .build();
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  @DisplayName("Should simulate a loan from and to CBOR")
+  public void shouldSimulateLoanFromAndToCbor() throws Exception {
+    byte[] body = mockMvc.perform(post("/v1/loans/simulate")
+            .contentType(MediaType.APPLICATION_CBOR)
+            .accept(MediaType.APPLICATION_CBOR)
+            .content(CBOR_MAPPER.writeValueAsBytes(request(new BigDecimal("10000.00")))))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+        .andReturn().getResponse().getContentAsByteArray();
+
+    LoanSimulationResponse response = CBOR_MAPPER.readValue(body, LoanSimulationResponse.class);
+    assertThat(response.getClientId()).isEqualTo("123e4567-e89b-12d3-a456-426614174000");
+    assertThat(response.getLoanAmount()).isEqualTo(Money.ofCents(1_000_000));
+    assertThat(response.getInterestRate()).isEqualTo(new BigDecimal("3.00"));
+    assertThat(response.getMonthlyInstallment()).isEqualTo(Money.ofCents(84_694));
+  }
+
+  @Test
+  @DisplayName("Should simulate a batch from and to CBOR")
+  public void shouldSimulateBatchFromAndToCbor() throws Exception {
+    byte[] body = mockMvc.perform(post("/v1/loans/simulate/batch")
+            .contentType(MediaType.APPLICATION_CBOR)
+            .accept(MediaType.APPLICATION_CBOR)
+            .content(CBOR_MAPPER.writeValueAsBytes(
+                List.of(request(new BigDecimal("10000.00")), request(new BigDecimal("-1"))))))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsByteArray();
+
+    JsonNode response = CBOR_MAPPER.readTree(body);
+    assertThat(response.get("total").intValue()).isEqualTo(2);
+    assertThat(response.get("succeeded").intValue()).isEqualTo(1);
+    assertThat(response.at("/results/1/validation_errors/loanAmount").isTextual()).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should report validation errors in CBOR")
+  public void shouldReportValidationErrorsInCbor() throws Exception {
+    byte[] body = mockMvc.perform(post("/v1/loans/simulate")
+            .contentType(MediaType.APPLICATION_CBOR)
+            .accept(MediaType.APPLICATION_CBOR)
+            .content(CBOR_MAPPER.writeValueAsBytes(request(new BigDecimal("0.50")))))
+        .andExpect(status().isBadRequest())
+        .andReturn().getResponse().getContentAsByteArray();
+
+    JsonNode response = CBOR_MAPPER.readTree(body);
+    assertThat(response.at("/validation_errors/loanAmount").textValue()).isEqualTo("Loan amount must be at least 1.00");
+  }
+
+  @Test
+  @DisplayName("Should keep answering JSON when any media type is accepted")
+  public void shouldKeepAnsweringJsonByDefault() throws Exception {
+    mockMvc.perform(post("/v1/loans/simulate")
+            .contentType(MediaType.APPLICATION_JSON)
+            .accept(MediaType.ALL)
+            .content("""
+                {"loan_amount": 10000.00, "client_birth_date": "1990-12-12", "loan_term_in_months": 12}
+                """))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+  }
+
+  private static LoanSimulationRequest request(final BigDecimal loanAmount) {
+    return new LoanSimulationRequest("123e4567-e89b-12d3-a456-426614174000", loanAmount,
+        LocalDate.of(1990, 12, 12), 12);
+  }
+}
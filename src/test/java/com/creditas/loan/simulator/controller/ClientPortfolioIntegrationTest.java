@@ -0,0 +1,75 @@
+package com.creditas.loan.simulator.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("ClientPortfolioController Integration Tests")
+public class ClientPortfolioIntegrationTest {
+
+  // One installment long past and two far ahead, so the exposure does not depend on the day the test runs
+  private static final String PORTFOLIO = """
+      {"clients": [{"id": "client-1", "name": "Ana", "email": "ana@example.com", "contracts": [
+        {"number": "CT-1", "installments": [
+          {"number": "1", "date": "2000-01-15", "value": 510.00, "principal": 500.00, "interest": 10.00,
+           "balance": 1000.00},
+          {"number": "2", "date": "2100-02-15", "value": 505.00, "principal": 500.00, "interest": 5.00,
+           "balance": 500.00}
+        ]},
+        {"number": "CT-2", "installments": [
+          {"number": "1", "date": "2100-01-15", "value": 2020.00, "principal": 2000.00, "interest": 20.00,
+           "balance": 0}
+        ]}
+      ]}]}
+      """;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @DynamicPropertySource
+  static void portfolioProperties(final DynamicPropertyRegistry registry) throws IOException {
+    Path file = Files.createTempFile("portfolio", ".json");
+    file.toFile().deleteOnExit();
+    Files.writeString(file, PORTFOLIO);
+    registry.add("loan.simulator.portfolio.file", file::toString);
+  }
+
+  @Test
+  @DisplayName("Should return the exposure of a client found by id or by email")
+  public void shouldReturnClientExposure() throws Exception {
+    for (String key : new String[] {"client-1", "ana@example.com"}) {
+      mockMvc.perform(get("/v1/portfolio/clients/{idOrEmail}/exposure", key))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.client_id").value("client-1"))
+          .andExpect(jsonPath("$.email").value("ana@example.com"))
+          .andExpect(jsonPath("$.contracts").value(2))
+          .andExpect(jsonPath("$.outstanding_balance").value(2500.00))
+          .andExpect(jsonPath("$.total_interest_remaining").value(25.00))
+          .andExpect(jsonPath("$.next_due_contract").value("CT-2"))
+          .andExpect(jsonPath("$.next_due_installment.date").value("2100-01-15"))
+          .andExpect(jsonPath("$.next_due_installment.value").value(2020.00));
+    }
+  }
+
+  @Test
+  @DisplayName("Should return 404 for a client missing from the portfolio")
+  public void shouldReturnNotFoundForUnknownClient() throws Exception {
+    mockMvc.perform(get("/v1/portfolio/clients/{idOrEmail}/exposure", "bia@example.com"))
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.validation_errors.client").value("No client with id or email bia@example.com"));
+  }
+}
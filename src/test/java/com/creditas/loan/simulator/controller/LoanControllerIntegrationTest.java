@@ -1,6 +1,8 @@
 package com.creditas.loan.simulator.controller;
 
+import static org.hamcrest.Matchers.matchesPattern;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -52,6 +54,54 @@ public class LoanControllerIntegrationTest {
             .andExpect(jsonPath("$.total_interest_paid").exists());
   }
 
+  @Test
+  @DisplayName("Should accept a long client id while no simulation journal limits it")
+  public void shouldAcceptLongClientIdWithoutJournal() throws Exception {
+    String clientId = "é".repeat(500);
+    LoanSimulationRequest request =
+        new LoanSimulationRequest(clientId, new BigDecimal("10000.00"), LocalDate.of(1990, 12, 12), 12);
+
+    mockMvc.perform(post("/v1/loans/simulate")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.client_id").value(clientId));
+  }
+
+  @Test
+  @DisplayName("Should return the same simulation id for a retried request with the same idempotency key")
+  public void shouldReplaySimulationForIdempotencyKey() throws Exception {
+
+    LoanSimulationRequest request = new LoanSimulationRequest(
+        "123e4567-e89b-12d3-a456-426614174000",
+        new BigDecimal("10000.00"),
+        LocalDate.of(1990, 12, 12),
+        12
+    );
+
+    String first = mockMvc.perform(post("/v1/loans/simulate")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .header("Idempotency-Key", "integration-retry")
+            .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+    mockMvc.perform(post("/v1/loans/simulate")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .header("Idempotency-Key", "integration-retry")
+            .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(content().json(first, true));
+
+    mockMvc.perform(post("/v1/loans/simulate")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .header("Idempotency-Key", "x".repeat(256))
+            .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.validation_errors.idempotencyKey")
+                .value("Idempotency key must have 1 to 255 characters"));
+  }
+
   @Test
   @DisplayName("Should return bad request for invalid loan amount")
   public void shouldReturnBadRequestForInvalidLoanAmount() throws Exception {
@@ -103,4 +153,80 @@ public class LoanControllerIntegrationTest {
             .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isBadRequest());
   }
+
+  @Test
+  @DisplayName("Should answer an NDJSON stream with one result line per request line")
+  public void shouldProcessNdjsonStream() throws Exception {
+
+    String body = """
+        {"client_id": "a", "loan_amount": 10000.00, "client_birth_date": "1990-12-12", "loan_term_in_months": 12}
+        {"client_id": "b", "loan_amount": 0, "client_birth_date": "1990-12-12", "loan_term_in_months": 12}
+        """;
+
+    mockMvc.perform(post("/v1/loans/simulate/stream")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .accept(MediaType.APPLICATION_NDJSON)
+            .content(body))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andExpect(content().string(matchesPattern(
+                "(?s)\\{\"index\":0,\"simulation\".*\\}\n\\{\"index\":1,\"error\":\"Validation Error\".*\\}\n")));
+  }
+
+  @Test
+  @DisplayName("Should return the requested page of the amortization schedule")
+  public void shouldReturnAmortizationSchedulePage() throws Exception {
+
+    LoanSimulationRequest request = new LoanSimulationRequest(
+        "123e4567-e89b-12d3-a456-426614174000",
+        new BigDecimal("150000.00"),
+        LocalDate.of(1990, 12, 12),
+        420
+    );
+
+    mockMvc.perform(post("/v1/loans/simulate/schedule")
+            .param("page", "3")
+            .param("size", "120")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.simulation.loan_term_in_months").value(420))
+            .andExpect(jsonPath("$.total_installments").value(420))
+            .andExpect(jsonPath("$.total_pages").value(4))
+            .andExpect(jsonPath("$.installments.length()").value(60))
+            .andExpect(jsonPath("$.installments[0].number").value("361"))
+            .andExpect(jsonPath("$.installments[59].number").value("420"))
+            .andExpect(jsonPath("$.installments[59].balance").value(0.0));
+  }
+
+  @Test
+  @DisplayName("Should return the last page of the longest schedule and reject a late page of a longer term")
+  public void shouldLimitScheduleTerm() throws Exception {
+    LoanSimulationRequest request = new LoanSimulationRequest(
+        "123e4567-e89b-12d3-a456-426614174000",
+        new BigDecimal("150000.00"),
+        LocalDate.of(1990, 12, 12),
+        1200
+    );
+
+    mockMvc.perform(post("/v1/loans/simulate/schedule")
+            .param("page", "9")
+            .param("size", "120")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.installments.length()").value(120))
+            .andExpect(jsonPath("$.installments[119].number").value("1200"))
+            .andExpect(jsonPath("$.installments[119].balance").value(0.0));
+
+    request.setLoanTermInMonths(100_000_000);
+    mockMvc.perform(post("/v1/loans/simulate/schedule")
+            .param("page", "833333")
+            .param("size", "120")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.validation_errors.loanTermInMonths")
+                .value("Loan term in months must not exceed 1200 for an amortization schedule"));
+  }
 }
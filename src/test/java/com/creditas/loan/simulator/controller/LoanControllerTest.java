@@ -1,26 +1,39 @@
 package com.creditas.loan.simulator.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.creditas.loan.simulator.config.ClockConfiguration;
+import com.creditas.loan.simulator.config.IdempotencyConfiguration;
+import com.creditas.loan.simulator.domain.Money;
+import com.creditas.loan.simulator.dto.LoanSimulationBatchItem;
+import com.creditas.loan.simulator.dto.LoanSimulationBatchResponse;
 import com.creditas.loan.simulator.dto.LoanSimulationRequest;
 import com.creditas.loan.simulator.dto.LoanSimulationResponse;
+import com.creditas.loan.simulator.service.LoanBatchService;
 import com.creditas.loan.simulator.service.LoanService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest(LoanController.class)
+@Import({SimpleMeterRegistry.class, IdempotencyConfiguration.class, ClockConfiguration.class})
 @DisplayName("LoanController Tests")
 public final class LoanControllerTest {
 
@@ -30,6 +43,9 @@ public final class LoanControllerTest {
   @MockitoBean
   private LoanService loanService;
 
+  @MockitoBean
+  private LoanBatchService loanBatchService;
+
   @Autowired
   private ObjectMapper objectMapper;
 
@@ -46,12 +62,13 @@ public final class LoanControllerTest {
     LoanSimulationResponse mockResponse = new LoanSimulationResponse(
         "123e4567-e89b-12d3-a456-426614174001",
         "123e4567-e89b-12d3-a456-426614174000",
-        new BigDecimal("10000.00"),
+        Money.ofCents(1_000_000),
         new BigDecimal("5.0"),
         12,
-        new BigDecimal("10500.00"),
-        new BigDecimal("875.00"),
-        new BigDecimal("500.00")
+        Money.ofCents(1_050_000),
+        Money.ofCents(87_500),
+        Money.ofCents(50_000),
+        "application"
     );
 
     when(loanService.calculateLoanSimulation(any())).thenReturn(mockResponse);
@@ -67,7 +84,52 @@ public final class LoanControllerTest {
         .andExpect(jsonPath("$.loan_term_in_months").value(12))
         .andExpect(jsonPath("$.total_amount_payable").value(10500.00))
         .andExpect(jsonPath("$.monthly_installment").value(875.00))
-        .andExpect(jsonPath("$.total_interest_paid").value(500.00));
+        .andExpect(jsonPath("$.total_interest_paid").value(500.00))
+        .andExpect(jsonPath("$.rate_policy_version").value("application"));
+  }
+
+  @Test
+  public void shouldReplaySimulationForRepeatedIdempotencyKey() throws Exception {
+
+    LoanSimulationRequest request = new LoanSimulationRequest(
+        "123e4567-e89b-12d3-a456-426614174000",
+        new BigDecimal("10000.00"),
+        LocalDate.of(1990, 12, 12),
+        12
+    );
+
+    LoanSimulationResponse mockResponse = new LoanSimulationResponse(
+        "123e4567-e89b-12d3-a456-426614174002",
+        "123e4567-e89b-12d3-a456-426614174000",
+        Money.ofCents(1_000_000),
+        new BigDecimal("5.0"),
+        12,
+        Money.ofCents(1_050_000),
+        Money.ofCents(87_500),
+        Money.ofCents(50_000),
+        "application"
+    );
+
+    when(loanService.calculateLoanSimulation(any())).thenReturn(mockResponse);
+
+    for (int attempt = 0; attempt < 2; attempt++) {
+      mockMvc.perform(post("/v1/loans/simulate")
+              .contentType(MediaType.APPLICATION_JSON_VALUE)
+              .header("Idempotency-Key", "replayed-key")
+              .content(objectMapper.writeValueAsString(request)))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.id").value("123e4567-e89b-12d3-a456-426614174002"));
+    }
+    verify(loanService, times(1)).calculateLoanSimulation(any());
+
+    request.setLoanAmount(new BigDecimal("20000.00"));
+    mockMvc.perform(post("/v1/loans/simulate")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .header("Idempotency-Key", "replayed-key")
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isUnprocessableEntity())
+        .andExpect(jsonPath("$.error").value("Idempotency Key Reused"))
+        .andExpect(jsonPath("$.validation_errors.idempotencyKey").exists());
   }
 
   @Test
@@ -85,4 +147,54 @@ public final class LoanControllerTest {
             .content(objectMapper.writeValueAsString(request)))
         .andExpect(status().isBadRequest());
   }
+
+  @Test
+  public void shouldReturnPerItemResultsForBatchRequest() throws Exception {
+
+    List<LoanSimulationRequest> requests = List.of(
+        new LoanSimulationRequest(
+            "123e4567-e89b-12d3-a456-426614174000",
+            new BigDecimal("10000.00"),
+            LocalDate.of(1990, 12, 12),
+            12
+        ),
+        new LoanSimulationRequest(
+            "123e4567-e89b-12d3-a456-426614174000",
+            new BigDecimal("10000.00"),
+            LocalDate.of(1990, 12, 12),
+            -1
+        )
+    );
+
+    LoanSimulationResponse simulation = new LoanSimulationResponse(
+        "123e4567-e89b-12d3-a456-426614174001",
+        "123e4567-e89b-12d3-a456-426614174000",
+        Money.ofCents(1_000_000),
+        new BigDecimal("5.00"),
+        12,
+        Money.ofCents(1_050_000),
+        Money.ofCents(87_500),
+        Money.ofCents(50_000),
+        "application"
+    );
+
+    when(loanBatchService.simulateBatch(any())).thenReturn(new LoanSimulationBatchResponse(List.of(
+        LoanSimulationBatchItem.success(0, simulation),
+        LoanSimulationBatchItem.failure(1, "Validation Error",
+            Map.of("loanTermInMonths", "Loan term in months must be positive"))
+    )));
+
+    mockMvc.perform(post("/v1/loans/simulate/batch")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content(objectMapper.writeValueAsString(requests)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.total").value(2))
+        .andExpect(jsonPath("$.succeeded").value(1))
+        .andExpect(jsonPath("$.failed").value(1))
+        .andExpect(jsonPath("$.results[0].index").value(0))
+        .andExpect(jsonPath("$.results[0].simulation.monthly_installment").value(875.00))
+        .andExpect(jsonPath("$.results[1].index").value(1))
+        .andExpect(jsonPath("$.results[1].error").value("Validation Error"))
+        .andExpect(jsonPath("$.results[1].validation_errors.loanTermInMonths").exists());
+  }
 }
@@ -0,0 +1,82 @@
+package com.creditas.loan.simulator.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.creditas.loan.simulator.dto.LoanOfferGridRequest;
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("LoanOfferGridController Integration Tests")
+public class LoanOfferGridIntegrationTest {
+
+  private static final LocalDate BIRTH_DATE = LocalDate.of(1990, 12, 12);
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Test
+  @DisplayName("Should return the same installment as a single simulation for every cell")
+  public void shouldMatchSingleSimulationForEveryCell() throws Exception {
+    List<BigDecimal> amounts = List.of(new BigDecimal("5000.00"), new BigDecimal("10000.22"));
+    List<Integer> terms = List.of(36, 12, 72);
+    LoanOfferGridRequest request = new LoanOfferGridRequest("client", BIRTH_DATE, amounts, terms);
+
+    JsonNode grid = postForJson("/v1/loans/simulate/grid", request);
+
+    assertThat(grid.get("client_id").asText()).isEqualTo("client");
+    assertThat(grid.get("loan_terms_in_months").get(0).intValue()).isEqualTo(36);
+    for (int term = 0; term < terms.size(); term++) {
+      for (int amount = 0; amount < amounts.size(); amount++) {
+        JsonNode simulation = postForJson("/v1/loans/simulate",
+            new LoanSimulationRequest("client", amounts.get(amount), BIRTH_DATE, terms.get(term)));
+
+        assertThat(grid.get("monthly_installments").get(term).get(amount).decimalValue())
+            .isEqualTo(simulation.get("monthly_installment").decimalValue());
+        assertThat(grid.get("interest_rate").decimalValue())
+            .isEqualTo(simulation.get("interest_rate").decimalValue());
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Should return bad request for an invalid term in the grid")
+  public void shouldReturnBadRequestForInvalidTerm() throws Exception {
+    LoanOfferGridRequest request = new LoanOfferGridRequest(null, BIRTH_DATE,
+        List.of(new BigDecimal("5000.00")), List.of(12, 0));
+
+    mockMvc.perform(post("/v1/loans/simulate/grid")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.validation_errors['loanTermsInMonths[1]']")
+            .value("Loan term in months must be positive"));
+  }
+
+  private JsonNode postForJson(final String path, final Object request) throws Exception {
+    String body = mockMvc.perform(post(path)
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString();
+    return objectMapper.readTree(body);
+  }
+}
@@ -0,0 +1,72 @@
+package com.creditas.loan.simulator.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.creditas.loan.simulator.config.ClockConfiguration;
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.creditas.loan.simulator.service.LoanService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(LoanScheduleController.class)
+@Import({SimpleMeterRegistry.class, ClockConfiguration.class})
+@DisplayName("LoanScheduleController Tests")
+public final class LoanScheduleControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockitoBean
+  private LoanService loanService;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Test
+  public void shouldReturnBadRequestForInvalidSchedulePageSize() throws Exception {
+
+    LoanSimulationRequest request = new LoanSimulationRequest(
+        "123e4567-e89b-12d3-a456-426614174000",
+        new BigDecimal("10000.00"),
+        LocalDate.of(1990, 12, 12),
+        12
+    );
+
+    mockMvc.perform(post("/v1/loans/simulate/schedule")
+            .param("size", "0")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.validation_errors.size").value("Page size must be positive"));
+  }
+
+  @Test
+  public void shouldReturnBadRequestForNegativeSchedulePage() throws Exception {
+
+    LoanSimulationRequest request = new LoanSimulationRequest(
+        "123e4567-e89b-12d3-a456-426614174000",
+        new BigDecimal("10000.00"),
+        LocalDate.of(1990, 12, 12),
+        12
+    );
+
+    mockMvc.perform(post("/v1/loans/simulate/schedule")
+            .param("page", "-1")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.validation_errors.page").value("Page must not be negative"));
+  }
+}
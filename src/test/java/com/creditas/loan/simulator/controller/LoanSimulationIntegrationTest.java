@@ -0,0 +1,102 @@
+package com.creditas.loan.simulator.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.creditas.loan.simulator.dto.LoanSimulationResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = "loan.simulator.journal.enabled=true")
+@AutoConfigureMockMvc
+@DisplayName("LoanSimulationController Integration Tests")
+public class LoanSimulationIntegrationTest {
+
+  @TempDir
+  private static Path journalDirectory;
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @DynamicPropertySource
+  static void journalProperties(final DynamicPropertyRegistry registry) {
+    registry.add("loan.simulator.journal.directory", journalDirectory::toString);
+  }
+
+  @Test
+  @DisplayName("Should retrieve a simulation by the id it was issued with")
+  public void shouldRetrieveIssuedSimulation() throws Exception {
+    LoanSimulationRequest request =
+        new LoanSimulationRequest(null, new BigDecimal("10000.00"), LocalDate.of(1990, 12, 12), 12);
+    String body = mockMvc.perform(post("/v1/loans/simulate")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString();
+    LoanSimulationResponse issued = objectMapper.readValue(body, LoanSimulationResponse.class);
+
+    mockMvc.perform(get("/v1/loans/simulations/{id}", issued.getId()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.id").value(issued.getId()))
+        .andExpect(jsonPath("$.loan_amount").value(10000.00))
+        .andExpect(jsonPath("$.interest_rate").value(3.00))
+        .andExpect(jsonPath("$.loan_term_in_months").value(12))
+        .andExpect(jsonPath("$.monthly_installment").value(846.94))
+        .andExpect(jsonPath("$.rate_policy_version").value("application"));
+  }
+
+  @Test
+  @DisplayName("Should issue a multi-byte client id at the journal limit and reject one byte more")
+  public void shouldLimitClientIdToJournalField() throws Exception {
+    String clientIdAtLimit = "é".repeat(48);
+    LoanSimulationRequest request =
+        new LoanSimulationRequest(clientIdAtLimit, new BigDecimal("10000.00"), LocalDate.of(1990, 12, 12), 12);
+    String body = mockMvc.perform(post("/v1/loans/simulate")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString();
+    LoanSimulationResponse issued = objectMapper.readValue(body, LoanSimulationResponse.class);
+
+    mockMvc.perform(get("/v1/loans/simulations/{id}", issued.getId()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.client_id").value(clientIdAtLimit));
+
+    request.setClientId(clientIdAtLimit + "c");
+    mockMvc.perform(post("/v1/loans/simulate")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.validation_errors.clientId").value("Client id must not exceed 96 bytes"));
+  }
+
+  @Test
+  @DisplayName("Should return 404 for a simulation that was never issued")
+  public void shouldReturnNotFoundForUnknownSimulation() throws Exception {
+    mockMvc.perform(get("/v1/loans/simulations/{id}", "123e4567-e89b-12d3-a456-426614174000"))
+        .andExpect(status().isNotFound())
+        .andExpect(jsonPath("$.error").value("Not Found"))
+        .andExpect(jsonPath("$.validation_errors.id").value("No simulation with id 123e4567-e89b-12d3-a456-426614174000"));
+
+    mockMvc.perform(get("/v1/loans/simulations/{id}", "not-a-uuid"))
+        .andExpect(status().isNotFound());
+  }
+}
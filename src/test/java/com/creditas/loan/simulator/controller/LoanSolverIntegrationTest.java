@@ -0,0 +1,77 @@
+package com.creditas.loan.simulator.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.creditas.loan.simulator.dto.MaxLoanAmountRequest;
+import com.creditas.loan.simulator.dto.MinLoanTermRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("LoanSolverController Integration Tests")
+public class LoanSolverIntegrationTest {
+
+  private static final LocalDate BIRTH_DATE = LocalDate.of(1990, 12, 12);
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Test
+  @DisplayName("Should solve the largest loan a monthly installment affords")
+  public void shouldSolveMaxLoanAmount() throws Exception {
+    MaxLoanAmountRequest request = new MaxLoanAmountRequest(null, BIRTH_DATE, new BigDecimal("846.94"), 12);
+
+    mockMvc.perform(post("/v1/loans/solve/max-amount")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.loan_amount").value(10000.03))
+        .andExpect(jsonPath("$.loan_term_in_months").value(12))
+        .andExpect(jsonPath("$.monthly_installment").value(846.94));
+  }
+
+  @Test
+  @DisplayName("Should solve the shortest term that fits a monthly installment")
+  public void shouldSolveMinLoanTerm() throws Exception {
+    MinLoanTermRequest request =
+        new MinLoanTermRequest(null, BIRTH_DATE, new BigDecimal("10000.00"), new BigDecimal("846.94"));
+
+    mockMvc.perform(post("/v1/loans/solve/min-term")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.loan_amount").value(10000.00))
+        .andExpect(jsonPath("$.loan_term_in_months").value(12))
+        .andExpect(jsonPath("$.monthly_installment").value(846.94));
+  }
+
+  @Test
+  @DisplayName("Should return unprocessable entity when the installment never repays the loan")
+  public void shouldReturnUnprocessableEntityForUnaffordableLoan() throws Exception {
+    MinLoanTermRequest request =
+        new MinLoanTermRequest(null, BIRTH_DATE, new BigDecimal("100000.00"), new BigDecimal("100.00"));
+
+    mockMvc.perform(post("/v1/loans/solve/min-term")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isUnprocessableEntity())
+        .andExpect(jsonPath("$.error").value("Unaffordable Loan"))
+        .andExpect(jsonPath("$.status").value(422))
+        .andExpect(jsonPath("$.validation_errors.monthlyInstallment")
+            .value("Monthly installment does not repay the loan within 600 months"));
+  }
+}
@@ -0,0 +1,101 @@
+package com.creditas.loan.simulator.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.creditas.loan.simulator.config.ClockConfiguration;
+import com.creditas.loan.simulator.config.ReactiveConfiguration;
+import com.creditas.loan.simulator.domain.Money;
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.creditas.loan.simulator.dto.LoanSimulationResponse;
+import com.creditas.loan.simulator.service.LoanService;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@WebFluxTest
+@ActiveProfiles("reactive")
+@Import({ReactiveConfiguration.class, ReactiveLoanHandler.class, ClockConfiguration.class})
+@DisplayName("ReactiveLoanHandler Tests")
+public final class ReactiveLoanHandlerTest {
+
+  @Autowired
+  private WebTestClient webTestClient;
+
+  @MockitoBean
+  private LoanService loanService;
+
+  @Test
+  public void shouldReturnLoanSimulationWithValidRequest() {
+
+    LoanSimulationResponse mockResponse = new LoanSimulationResponse(
+        "123e4567-e89b-12d3-a456-426614174001",
+        "123e4567-e89b-12d3-a456-426614174000",
+        Money.ofCents(1_000_000),
+        new BigDecimal("5.0"),
+        12,
+        Money.ofCents(1_050_000),
+        Money.ofCents(87_500),
+        Money.ofCents(50_000),
+        "application"
+    );
+
+    when(loanService.calculateLoanSimulation(any())).thenReturn(mockResponse);
+
+    webTestClient.post().uri("/v1/loans/simulate")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(new LoanSimulationRequest(
+            "123e4567-e89b-12d3-a456-426614174000",
+            new BigDecimal("10000.00"),
+            LocalDate.of(1990, 12, 12),
+            12
+        ))
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.id").isEqualTo("123e4567-e89b-12d3-a456-426614174001")
+        .jsonPath("$.interest_rate").isEqualTo(5.0)
+        .jsonPath("$.monthly_installment").isEqualTo(875.00)
+        .jsonPath("$.rate_policy_version").isEqualTo("application");
+  }
+
+  @Test
+  public void shouldReturnValidationErrorsWithInvalidRequest() {
+
+    webTestClient.post().uri("/v1/loans/simulate")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(new LoanSimulationRequest(
+            "123e4567-e89b-12d3-a456-426614174000",
+            new BigDecimal("10000.00"),
+            LocalDate.of(1990, 12, 12),
+            -1
+        ))
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.error").isEqualTo("Validation Error")
+        .jsonPath("$.validation_errors.loanTermInMonths").isEqualTo("Loan term in months must be positive");
+  }
+
+  @Test
+  public void shouldReturnParseErrorWithInvalidFieldFormat() {
+
+    webTestClient.post().uri("/v1/loans/simulate")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue("{\"loan_amount\": \"abc\", \"client_birth_date\": \"1990-12-12\", \"loan_term_in_months\": 12}")
+        .exchange()
+        .expectStatus().isBadRequest()
+        .expectBody()
+        .jsonPath("$.error").isEqualTo("Parse Error")
+        .jsonPath("$.message").isEqualTo("Invalid data format")
+        .jsonPath("$.validation_errors.loan_amount").exists();
+  }
+}
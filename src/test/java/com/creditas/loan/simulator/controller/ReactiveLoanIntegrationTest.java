@@ -0,0 +1,52 @@
+package com.creditas.loan.simulator.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+@DisplayName("Reactive Loan Integration Tests")
+public class ReactiveLoanIntegrationTest {
+
+  @Autowired
+  private ReactiveWebServerApplicationContext applicationContext;
+
+  @Autowired
+  private WebTestClient webTestClient;
+
+  @Test
+  @DisplayName("Should serve loan simulations from Netty with the real service layer")
+  public void shouldProcessLoanSimulationOnNetty() {
+
+    assertThat(applicationContext.getWebServer()).isInstanceOf(NettyWebServer.class);
+
+    webTestClient.post().uri("/v1/loans/simulate")
+        .contentType(MediaType.APPLICATION_JSON)
+        .bodyValue(new LoanSimulationRequest(
+            "123e4567-e89b-12d3-a456-426614174000",
+            new BigDecimal("10000.00"),
+            LocalDate.of(1990, 12, 12),
+            12
+        ))
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody()
+        .jsonPath("$.client_id").isEqualTo("123e4567-e89b-12d3-a456-426614174000")
+        .jsonPath("$.loan_amount").isEqualTo(10000.00)
+        .jsonPath("$.loan_term_in_months").isEqualTo(12)
+        .jsonPath("$.id").exists()
+        .jsonPath("$.monthly_installment").exists();
+  }
+}
@@ -0,0 +1,121 @@
+package com.creditas.loan.simulator.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.creditas.loan.simulator.converter.StreamingLoanSimulationRequestConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = "loan.simulator.request.reader=streaming")
+@AutoConfigureMockMvc
+@DisplayName("Streaming request reader Integration Tests")
+public class StreamingRequestReaderIntegrationTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ApplicationContext applicationContext;
+
+  @Test
+  @DisplayName("Should simulate a loan read by the streaming parser")
+  public void shouldSimulateLoan() throws Exception {
+    assertThat(applicationContext.getBeansOfType(StreamingLoanSimulationRequestConverter.class)).hasSize(1);
+
+    mockMvc.perform(post("/v1/loans/simulate")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content("""
+                {"client_id": "123e4567-e89b-12d3-a456-426614174000", "loan_amount": 10000.00,
+                 "client_birth_date": "1990-12-12", "loan_term_in_months": 12}
+                """))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.client_id").value("123e4567-e89b-12d3-a456-426614174000"))
+        .andExpect(jsonPath("$.loan_amount").value(10000.00))
+        .andExpect(jsonPath("$.interest_rate").value(3.00))
+        .andExpect(jsonPath("$.loan_term_in_months").value(12));
+  }
+
+  @Test
+  @DisplayName("Should reject invalid fields with the Bean Validation messages")
+  public void shouldRejectInvalidFields() throws Exception {
+    mockMvc.perform(post("/v1/loans/simulate")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content("""
+                {"loan_amount": 1000000.01, "client_birth_date": "2999-01-01"}
+                """))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.error").value("Validation Error"))
+        .andExpect(jsonPath("$.message").value("One or more validation errors occurred"))
+        .andExpect(jsonPath("$.validation_errors.loanAmount").value("Loan amount must not exceed 1,000,000.00"))
+        .andExpect(jsonPath("$.validation_errors.clientBirthDate").value("Client birth date must be in the past"))
+        .andExpect(jsonPath("$.validation_errors.loanTermInMonths").value("Loan term in months must not be null"));
+  }
+
+  @Test
+  @DisplayName("Should report unreadable payloads through the Jackson fallback")
+  public void shouldReportUnreadablePayloadsThroughJackson() throws Exception {
+    mockMvc.perform(post("/v1/loans/simulate")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content("""
+                {"loan_amount": "abc", "client_birth_date": "1990-12-12", "loan_term_in_months": 12}
+                """))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.error").value("Parse Error"))
+        .andExpect(jsonPath("$.message").value("Invalid data format"))
+        .andExpect(jsonPath("$.validation_errors.loan_amount").exists());
+
+    mockMvc.perform(post("/v1/loans/simulate")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .content("{\"loan_amount\": 10"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.error").value("Parse Error"));
+  }
+
+  @Test
+  @DisplayName("Should keep validating constrained parameters and headers")
+  public void shouldValidateConstrainedParameters() throws Exception {
+    String request = """
+        {"loan_amount": 10000.00, "client_birth_date": "1990-12-12", "loan_term_in_months": 12}
+        """;
+
+    mockMvc.perform(post("/v1/loans/simulate")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .header("Idempotency-Key", "x".repeat(300))
+            .content(request))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.validation_errors.idempotencyKey")
+            .value("Idempotency key must have 1 to 255 characters"));
+
+    mockMvc.perform(post("/v1/loans/simulate")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .header("Idempotency-Key", "streaming-key")
+            .content("""
+                {"loan_amount": 1000000.01, "client_birth_date": "1990-12-12", "loan_term_in_months": 12}
+                """))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.validation_errors.loanAmount").value("Loan amount must not exceed 1,000,000.00"));
+
+    mockMvc.perform(post("/v1/loans/simulate/schedule")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .param("size", "0")
+            .content(request))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.validation_errors.size").exists());
+
+    mockMvc.perform(post("/v1/loans/simulate/schedule")
+            .contentType(MediaType.APPLICATION_JSON_VALUE)
+            .param("page", "-1")
+            .content(request))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.validation_errors.page").exists());
+  }
+}
@@ -0,0 +1,62 @@
+package com.creditas.loan.simulator.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@DisplayName("CompactCborModule Tests")
+public final class CompactCborModuleTest {
+
+  private static final ObjectMapper CBOR_MAPPER = Jackson2ObjectMapperBuilder.json()
+      .factory(new CBORFactory())
+      .modulesToInstall(new CompactCborModule())
+      .build();
+
+  private static final LoanSimulationRequest REQUEST = new LoanSimulationRequest(
+      "123e4567-e89b-12d3-a456-426614174000", new BigDecimal("10000.22"), LocalDate.of(1990, 1, 1), 24);
+
+  @Test
+  @DisplayName("Should carry dates as epoch days and amounts as scaled longs")
+  public void shouldCarryDatesAsEpochDaysAndAmountsAsScaledLongs() throws Exception {
+    JsonNode tree = CBOR_MAPPER.readTree(CBOR_MAPPER.writeValueAsBytes(REQUEST));
+
+    assertThat(tree.get("client_birth_date").isIntegralNumber()).isTrue();
+    assertThat(tree.get("client_birth_date").longValue()).isEqualTo(LocalDate.of(1990, 1, 1).toEpochDay());
+    assertThat(tree.get("loan_amount").isBigDecimal()).isTrue();
+    assertThat(tree.get("loan_amount").decimalValue()).isEqualTo(new BigDecimal("10000.22"));
+  }
+
+  @Test
+  @DisplayName("Should round-trip a request in fewer bytes than JSON")
+  public void shouldRoundTripInFewerBytesThanJson() throws Exception {
+    byte[] cbor = CBOR_MAPPER.writeValueAsBytes(REQUEST);
+    byte[] json = Jackson2ObjectMapperBuilder.json().build().writeValueAsBytes(REQUEST);
+
+    LoanSimulationRequest read = CBOR_MAPPER.readValue(cbor, LoanSimulationRequest.class);
+
+    assertThat(read.getClientId()).isEqualTo(REQUEST.getClientId());
+    assertThat(read.getLoanAmount()).isEqualTo(REQUEST.getLoanAmount());
+    assertThat(read.getClientBirthDate()).isEqualTo(REQUEST.getClientBirthDate());
+    assertThat(read.getLoanTermInMonths()).isEqualTo(REQUEST.getLoanTermInMonths());
+    assertThat(cbor.length).isLessThan(json.length);
+  }
+
+  @Test
+  @DisplayName("Should still read ISO dates")
+  public void shouldStillReadIsoDates() throws Exception {
+    byte[] cbor = new ObjectMapper(new CBORFactory()).writeValueAsBytes(
+        Map.of("client_birth_date", "1990-01-01", "loan_amount", 1000, "loan_term_in_months", 12));
+
+    assertThat(CBOR_MAPPER.readValue(cbor, LoanSimulationRequest.class).getClientBirthDate())
+        .isEqualTo(LocalDate.of(1990, 1, 1));
+  }
+}
@@ -0,0 +1,132 @@
+package com.creditas.loan.simulator.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.creditas.loan.simulator.dto.ClientIdSizeValidator;
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.creditas.loan.simulator.service.DailyClock;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Configuration;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorFactory;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@DisplayName("LoanSimulationRequestParser Tests")
+public final class LoanSimulationRequestParserTest {
+
+  private static final int MAX_CLIENT_ID_BYTES = 96;
+  private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json().build();
+  private static final Validator VALIDATOR = validator();
+
+  private final LoanSimulationRequestParser parser = new LoanSimulationRequestParser(OBJECT_MAPPER.getFactory(),
+      new DailyClock(Clock.systemDefaultZone()), MAX_CLIENT_ID_BYTES);
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      """
+      {"client_id": "123e4567-e89b-12d3-a456-426614174000", "loan_amount": 10000.22,
+       "client_birth_date": "1990-01-01", "loan_term_in_months": 24}""",
+      """
+      {"loan_amount": 1, "client_birth_date": "2000-02-29", "loan_term_in_months": 1}""",
+      """
+      {"loan_term_in_months": 12, "client_birth_date": "1960-12-31", "loan_amount": 1000000.00}""",
+      "{}",
+      """
+      {"client_id": null, "loan_amount": null, "client_birth_date": null, "loan_term_in_months": null}""",
+      """
+      {"loan_amount": -5, "client_birth_date": "2999-01-01", "loan_term_in_months": 0}""",
+      """
+      {"loan_amount": 0, "client_birth_date": "1990-01-01", "loan_term_in_months": -12}""",
+      """
+      {"loan_amount": 0.99, "client_birth_date": "1990-01-01", "loan_term_in_months": 12}""",
+      """
+      {"loan_amount": 1000000.01, "client_birth_date": "1990-01-01", "loan_term_in_months": 12}""",
+      """
+      {"loan_amount": 5000, "loan_amount": 7000, "client_birth_date": "1990-01-01", "loan_term_in_months": 12}""",
+      """
+      {"client_id": "cccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccc",
+       "loan_amount": 10000.22, "client_birth_date": "1990-01-01", "loan_term_in_months": 24}""",
+      """
+      {"client_id": "ccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccccc",
+       "loan_amount": 0, "client_birth_date": "1990-01-01", "loan_term_in_months": 24}""",
+      """
+      {"client_id": "éééééééééééééééééééééééééééééééééééééééééééééééé",
+       "loan_amount": 10000.22, "client_birth_date": "1990-01-01", "loan_term_in_months": 24}""",
+      """
+      {"client_id": "éééééééééééééééééééééééééééééééééééééééééééééééé€",
+       "loan_amount": 10000.22, "client_birth_date": "1990-01-01", "loan_term_in_months": 24}"""
+  })
+  @DisplayName("Should read and validate the same way as Jackson plus Bean Validation")
+  public void shouldMatchJacksonAndBeanValidation(final String json) throws Exception {
+    LoanSimulationRequest expected = OBJECT_MAPPER.readValue(json, LoanSimulationRequest.class);
+
+    ValidatedLoanSimulationRequest actual = parser.parse(json.getBytes(StandardCharsets.UTF_8));
+
+    assertThat(actual).isNotNull();
+    assertThat(actual.getClientId()).isEqualTo(expected.getClientId());
+    assertThat(actual.getLoanAmount()).isEqualTo(expected.getLoanAmount());
+    assertThat(actual.getClientBirthDate()).isEqualTo(expected.getClientBirthDate());
+    assertThat(actual.getLoanTermInMonths()).isEqualTo(expected.getLoanTermInMonths());
+    assertThat(violations(actual)).isEqualTo(beanValidationViolations(expected));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "[]",
+      "not json",
+      "{\"loan_amount\": 1000.00",
+      "{\"loan_amount\": \"1000.00\", \"client_birth_date\": \"1990-01-01\", \"loan_term_in_months\": 12}",
+      "{\"loan_amount\": 1000, \"client_birth_date\": \"01/01/1990\", \"loan_term_in_months\": 12}",
+      "{\"loan_amount\": 1000, \"client_birth_date\": \"1990-01-01\", \"loan_term_in_months\": 12.5}",
+      "{\"loan_amount\": 1000, \"client_birth_date\": \"1990-01-01\", \"loan_term_in_months\": 3000000000}",
+      "{\"loan_amount\": 1000, \"client_birth_date\": \"1990-01-01\", \"loan_term_in_months\": 12, \"other\": 1}",
+      "{\"client_id\": 42, \"loan_amount\": 1000, \"client_birth_date\": \"1990-01-01\", \"loan_term_in_months\": 12}"
+  })
+  @DisplayName("Should leave payloads outside the plain shape to Jackson")
+  public void shouldLeaveUnusualPayloadsToJackson(final String json) {
+    assertThat(parser.parse(json.getBytes(StandardCharsets.UTF_8))).isNull();
+  }
+
+  private static Validator validator() {
+    Configuration<?> configuration = Validation.byDefaultProvider().configure();
+    ConstraintValidatorFactory defaultFactory = configuration.getDefaultConstraintValidatorFactory();
+    // The limit of the simulation journal, which the application context would give the validator
+    ConstraintValidatorFactory factory = new ConstraintValidatorFactory() {
+      @Override
+      public <T extends ConstraintValidator<?, ?>> T getInstance(final Class<T> key) {
+        if (key == ClientIdSizeValidator.class) {
+          return key.cast(new ClientIdSizeValidator(MAX_CLIENT_ID_BYTES));
+        }
+        return defaultFactory.getInstance(key);
+      }
+
+      @Override
+      public void releaseInstance(final ConstraintValidator<?, ?> instance) {
+        defaultFactory.releaseInstance(instance);
+      }
+    };
+    return configuration.constraintValidatorFactory(factory).buildValidatorFactory().getValidator();
+  }
+
+  private static Set<Map.Entry<String, String>> violations(final ValidatedLoanSimulationRequest request) {
+    return request.violations().stream()
+        .map(violation -> Map.entry(violation.field(), violation.message()))
+        .collect(Collectors.toSet());
+  }
+
+  private static Set<Map.Entry<String, String>> beanValidationViolations(final LoanSimulationRequest request) {
+    return VALIDATOR.validate(request).stream()
+        .map(violation -> Map.entry(violation.getPropertyPath().toString(), violation.getMessage()))
+        .collect(Collectors.toSet());
+  }
+}
@@ -0,0 +1,56 @@
+package com.creditas.loan.simulator.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Money Tests")
+public final class MoneyTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  @Test
+  @DisplayName("Should round half up to the cent")
+  public void shouldRoundHalfUpToCent() {
+    assertThat(Money.of(new BigDecimal("846.935")).cents()).isEqualTo(84_694);
+    assertThat(Money.of(new BigDecimal("846.9349")).cents()).isEqualTo(84_693);
+    assertThat(Money.of(new BigDecimal("-0.005")).cents()).isEqualTo(-1);
+    assertThat(Money.of(new BigDecimal("10000")).toBigDecimal()).isEqualTo(new BigDecimal("10000.00"));
+  }
+
+  @Test
+  @DisplayName("Should fail instead of overflowing")
+  public void shouldFailInsteadOfOverflowing() {
+    assertThatThrownBy(() -> Money.ofCents(Long.MAX_VALUE).plus(Money.ofCents(1)))
+        .isInstanceOf(ArithmeticException.class);
+    assertThatThrownBy(() -> Money.ofCents(Long.MAX_VALUE / 2 + 1).times(2))
+        .isInstanceOf(ArithmeticException.class);
+    assertThatThrownBy(() -> Money.of(new BigDecimal("1e30")))
+        .isInstanceOf(ArithmeticException.class);
+  }
+
+  @Test
+  @DisplayName("Should format with two fraction digits")
+  public void shouldFormatWithTwoFractionDigits() {
+    assertThat(Money.ofCents(84_694)).hasToString("846.94");
+    assertThat(Money.ofCents(5)).hasToString("0.05");
+    assertThat(Money.ofCents(-120)).hasToString("-1.20");
+    assertThat(Money.ZERO).hasToString("0.00");
+    assertThat(Money.ofCents(Long.MIN_VALUE))
+        .hasToString(BigDecimal.valueOf(Long.MIN_VALUE, 2).toPlainString());
+  }
+
+  @Test
+  @DisplayName("Should write a JSON number and read it back")
+  public void shouldWriteJsonNumberAndReadItBack() throws Exception {
+    String json = MAPPER.writeValueAsString(Money.ofCents(84_694));
+
+    assertThat(json).isEqualTo("846.94");
+    assertThat(MAPPER.readValue(json, Money.class)).isEqualTo(Money.ofCents(84_694));
+    assertThat(MAPPER.readValue("846.935", Money.class)).isEqualTo(Money.ofCents(84_694));
+  }
+}
@@ -5,7 +5,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.creditas.loan.simulator.dto.error.ErrorResponse;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import io.micrometer.core.instrument.Metrics;
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.ResponseEntity;
@@ -16,7 +21,10 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 
 public final class CustomExceptionHandlerTest {
 
-  private final CustomExceptionHandler handler = new CustomExceptionHandler();
+  private static final Instant NOW = Instant.parse("2025-10-18T12:30:45.123Z");
+
+  private final CustomExceptionHandler handler = new CustomExceptionHandler(Metrics.globalRegistry,
+      new ErrorResponses(Clock.fixed(NOW, ZoneOffset.ofHours(-3))));
 
   @Test
   @DisplayName("Should handle MethodArgumentNotValidException and return validation errors")
@@ -41,7 +49,7 @@ public final class CustomExceptionHandlerTest {
   public void testHandleInvalidFormatException() {
     JsonMappingException.Reference ref = new JsonMappingException.Reference(Object.class, "loanAmount");
 
-    InvalidFormatException cause = new InvalidFormatException(null, "abc", "abc", BigDecimal.class);
+    InvalidFormatException cause = InvalidFormatException.from(null, "abc", "abc", BigDecimal.class);
     cause.prependPath(ref);
 
     HttpMessageNotReadableException ex = new HttpMessageNotReadableException("Invalid format", cause, null);
@@ -51,7 +59,8 @@ public final class CustomExceptionHandlerTest {
     assertThat(response.getStatusCode().value()).isEqualTo(400);
     assertThat(response.getBody()).isNotNull();
     assertThat(response.getBody().getError()).isEqualTo("Parse Error");
-    assertThat(response.getBody().getValidationErrors()).containsKey("loanAmount");
+    assertThat(response.getBody().getValidationErrors())
+        .containsEntry("loanAmount", "Value 'abc' is invalid for field 'loanAmount'. Expected: decimal (e.g., 10000.22)");
   }
 
   @Test
@@ -76,5 +85,6 @@ public final class CustomExceptionHandlerTest {
     assertThat(response.getStatusCode().value()).isEqualTo(500);
     assertThat(response.getBody()).isNotNull();
     assertThat(response.getBody().getError()).isEqualTo("Internal Server Error");
+    assertThat(response.getBody().getTimestamp()).isEqualTo(LocalDateTime.of(2025, 10, 18, 9, 30, 45, 123_000_000));
   }
 }
@@ -0,0 +1,35 @@
+package com.creditas.loan.simulator.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ErrorTimestamps Tests")
+public final class ErrorTimestampsTest {
+
+  private static final Instant NOW = Instant.parse("2025-06-15T10:00:00.123456789Z");
+
+  @Test
+  @DisplayName("Should return the clock's date-time truncated to the millisecond")
+  public void shouldReturnClockDateTimeTruncatedToMillisecond() {
+    ErrorTimestamps timestamps = new ErrorTimestamps(Clock.fixed(NOW, ZoneOffset.ofHours(-3)));
+
+    assertThat(timestamps.now()).isEqualTo(LocalDateTime.of(2025, 6, 15, 7, 0, 0, 123_000_000));
+  }
+
+  @Test
+  @DisplayName("Should share the timestamp within a millisecond and renew it afterwards")
+  public void shouldShareTimestampWithinMillisecond() {
+    ErrorTimestamps timestamps = new ErrorTimestamps(Clock.fixed(NOW, ZoneOffset.UTC));
+    ErrorTimestamps later = new ErrorTimestamps(Clock.offset(Clock.fixed(NOW, ZoneOffset.UTC), Duration.ofMillis(1)));
+
+    assertThat(timestamps.now()).isSameAs(timestamps.now());
+    assertThat(later.now()).isAfter(timestamps.now());
+  }
+}
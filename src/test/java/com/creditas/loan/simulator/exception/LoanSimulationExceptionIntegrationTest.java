@@ -1,21 +1,29 @@
 package com.creditas.loan.simulator.exception;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.creditas.loan.simulator.config.ClockConfiguration;
+import com.creditas.loan.simulator.config.IdempotencyConfiguration;
 import com.creditas.loan.simulator.controller.LoanController;
+import com.creditas.loan.simulator.service.LoanBatchService;
 import com.creditas.loan.simulator.service.LoanService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest(controllers = LoanController.class)
+@Import({SimpleMeterRegistry.class, IdempotencyConfiguration.class, ClockConfiguration.class})
 public final class LoanSimulationExceptionIntegrationTest {
 
   @Autowired
@@ -24,9 +32,15 @@ public final class LoanSimulationExceptionIntegrationTest {
   @MockitoBean
   private LoanService loanService;
 
+  @MockitoBean
+  private LoanBatchService loanBatchService;
+
   @Autowired
   private ObjectMapper objectMapper;
 
+  @Autowired
+  private MeterRegistry meterRegistry;
+
   @Test
   @DisplayName("Should return 400 for validation errors")
   public void testValidationError() throws Exception {
@@ -40,6 +54,9 @@ public final class LoanSimulationExceptionIntegrationTest {
             .andExpect(jsonPath("$.validation_errors.loanTermInMonths").exists())
             .andExpect(jsonPath("$.validation_errors.clientBirthDate").exists())
             .andExpect(jsonPath("$.validation_errors.loanAmount").exists());
+
+    assertThat(meterRegistry.get("loan.simulation.validation.failures").tag("field", "loanAmount").counter().count())
+        .isEqualTo(1.0);
   }
 
   @Test
@@ -60,4 +77,27 @@ public final class LoanSimulationExceptionIntegrationTest {
             .andExpect(jsonPath("$.error").value("Parse Error"))
             .andExpect(jsonPath("$.validation_errors.loan_amount").exists());
   }
+
+  @Test
+  @DisplayName("Should return 400 naming the field for an invalid format inside a batch item")
+  public void testInvalidFormatInBatchItem() throws Exception {
+    String json = """
+        [{"loan_amount": "abc", "client_birth_date": "1990-01-01", "loan_term_in_months": 12}]
+        """;
+
+    mockMvc.perform(post("/v1/loans/simulate/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(json))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Parse Error"))
+            .andExpect(jsonPath("$.message").value("Invalid data format"))
+            .andExpect(jsonPath("$.validation_errors.loan_amount")
+                .value("Value 'abc' is invalid for field 'loan_amount'. Expected: decimal (e.g., 10000.22)"));
+
+    mockMvc.perform(post("/v1/loans/simulate/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[\"abc\"]"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Parse Error"));
+  }
 }
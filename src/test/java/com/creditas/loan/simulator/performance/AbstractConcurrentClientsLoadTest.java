@@ -0,0 +1,107 @@
+package com.creditas.loan.simulator.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+/**
+ * Opens {@code loadtest.clients} (10,000 by default) concurrent client connections against the local instance,
+ * each sending one simulation at the same time, and reports p50/p99 latency together with the peak number of
+ * requests in flight. Subclasses start the application with platform or virtual request threads, or on the
+ * reactive Netty stack, so every mode is measured the same way.
+ *
+ * <p>Client and server run in the same JVM, so every connection costs two file descriptors: raise
+ * {@code ulimit -n} above twice the number of clients before running it.
+ */
+abstract class AbstractConcurrentClientsLoadTest {
+
+  private static final int CLIENTS = Integer.getInteger("loadtest.clients", 10_000);
+  private static final String BODY = """
+      {"client_id": "load-test", "loan_amount": 50000.00, "client_birth_date": "%s", "loan_term_in_months": 24}
+      """.formatted(LocalDate.now().minusYears(30));
+
+  @LocalServerPort
+  private int port;
+
+  protected abstract String mode();
+
+  @Test
+  public void shouldServeConcurrentClients() throws InterruptedException {
+    URI uri = URI.create("http://localhost:" + port + "/v1/loans/simulate");
+    long[] latencies = new long[CLIENTS];
+    AtomicInteger succeeded = new AtomicInteger();
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger peakInFlight = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(CLIENTS);
+
+    long started;
+    try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+         HttpClient httpClient = HttpClient.newBuilder()
+             .version(HttpClient.Version.HTTP_1_1)
+             .connectTimeout(Duration.ofSeconds(30))
+             .executor(clients)
+             .build()) {
+      for (int i = 0; i < CLIENTS; i++) {
+        int client = i;
+        clients.submit(() -> {
+          try {
+            start.await();
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(BODY))
+                .build();
+            long requestStart = System.nanoTime();
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            inFlight.decrementAndGet();
+            latencies[client] = System.nanoTime() - requestStart;
+            if (response.statusCode() == 200) {
+              succeeded.incrementAndGet();
+            }
+          } catch (IOException ex) {
+            inFlight.decrementAndGet();
+            latencies[client] = Long.MAX_VALUE;
+          } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+          } finally {
+            done.countDown();
+          }
+        });
+      }
+      started = System.nanoTime();
+      start.countDown();
+      assertThat(done.await(5, TimeUnit.MINUTES)).isTrue();
+    }
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+    Arrays.sort(latencies);
+    System.out.printf("Concurrent clients load test (%s):%n", mode());
+    System.out.printf("- Successful requests: %d/%d%n", succeeded.get(), CLIENTS);
+    System.out.printf("- Peak concurrent requests: %d%n", peakInFlight.get());
+    System.out.printf("- Total time: %d ms%n", elapsedMillis);
+    System.out.printf("- p50 latency: %.2f ms%n", percentileMillis(latencies, 0.50));
+    System.out.printf("- p99 latency: %.2f ms%n", percentileMillis(latencies, 0.99));
+
+    assertThat(succeeded.get()).isEqualTo(CLIENTS);
+  }
+
+  private static double percentileMillis(final long[] sortedNanos, final double percentile) {
+    int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+    return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+  }
+}
@@ -2,16 +2,19 @@ package com.creditas.loan.simulator.performance;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.creditas.loan.simulator.dto.LoanSimulationBatchResponse;
 import com.creditas.loan.simulator.dto.LoanSimulationRequest;
 import com.creditas.loan.simulator.dto.LoanSimulationResponse;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
@@ -92,4 +95,65 @@ public final class LoanControllerPerformanceTest {
     assertThat(averageResponseTime).isLessThan(100); // Max 100 ms for each request
     assertThat(throughput).isGreaterThan(10); // Min 10 requests/second
   }
+
+  @Test
+  @Order(2)
+  @DisplayName("Performance Test API - 10 batches of 1000 simulations against sequential single requests")
+  public void testBatchApiPerformance() {
+    int numberOfBatches = 10;
+    int batchSize = 1000;
+    int numberOfSingleRequests = 500;
+
+    List<LoanSimulationRequest> batch = IntStream.range(0, batchSize)
+        .mapToObj(i -> new LoanSimulationRequest(
+            "client-" + i,
+            new BigDecimal(5000 + i),
+            LocalDate.now().minusYears(20 + i % 50),
+            6 + i % 54
+        ))
+        .toList();
+
+    // Both measured sequentially in this test, so the ratio holds whatever the machine
+    int singleSuccessCount = 0;
+    long singleStartTime = System.nanoTime();
+
+    for (int i = 0; i < numberOfSingleRequests; i++) {
+      ResponseEntity<LoanSimulationResponse> response = restTemplate.postForEntity(
+          "/v1/loans/simulate", batch.get(i), LoanSimulationResponse.class
+      );
+
+      if (response.getStatusCode().is2xxSuccessful()) {
+        singleSuccessCount++;
+      }
+    }
+
+    double singleThroughput = singleSuccessCount * 1e9 / Math.max(1, System.nanoTime() - singleStartTime);
+
+    int successCount = 0;
+    long startTime = System.nanoTime();
+
+    for (int i = 0; i < numberOfBatches; i++) {
+      ResponseEntity<LoanSimulationBatchResponse> response = restTemplate.postForEntity(
+          "/v1/loans/simulate/batch", batch, LoanSimulationBatchResponse.class
+      );
+
+      if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+        successCount += response.getBody().getSucceeded();
+      }
+    }
+
+    long totalTime = Math.max(1, System.nanoTime() - startTime);
+    double throughput = successCount * 1e9 / totalTime;
+
+    System.out.printf("Batch API Performance Results:%n");
+    System.out.printf("- Successful simulations: %d/%d%n", successCount, numberOfBatches * batchSize);
+    System.out.printf("- Total time: %d ms%n", TimeUnit.NANOSECONDS.toMillis(totalTime));
+    System.out.printf("- Throughput: %.2f simulations/second%n", throughput);
+    System.out.printf("- Single-request throughput: %.2f simulations/second%n", singleThroughput);
+    System.out.printf("- Speedup: %.1fx%n", throughput / singleThroughput);
+
+    assertThat(singleSuccessCount).isEqualTo(numberOfSingleRequests);
+    assertThat(successCount).isEqualTo(numberOfBatches * batchSize);
+    assertThat(throughput).isGreaterThan(10 * singleThroughput); // At least 10x sequential single requests
+  }
 }
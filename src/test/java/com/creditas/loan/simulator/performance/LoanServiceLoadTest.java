@@ -4,9 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.creditas.loan.simulator.dto.LoanSimulationRequest;
 import com.creditas.loan.simulator.dto.LoanSimulationResponse;
-import com.creditas.loan.simulator.service.AgeBasedInterestRateCalculator;
-import com.creditas.loan.simulator.service.InterestRateCalculator;
 import com.creditas.loan.simulator.service.LoanService;
+import com.creditas.loan.simulator.service.LoanServiceFixtures;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
@@ -35,8 +34,7 @@ public final class LoanServiceLoadTest {
 
   @BeforeEach
   public void setUp() {
-    InterestRateCalculator interestRateCalculator = new AgeBasedInterestRateCalculator();
-    loanService = new LoanService(interestRateCalculator);
+    loanService = LoanServiceFixtures.defaultLoanService();
   }
 
   @Test
@@ -0,0 +1,20 @@
+package com.creditas.loan.simulator.performance;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+@DisplayName("Concurrent clients load test - reactive Netty")
+@Tag("performance")
+@DirtiesContext
+public final class ReactiveNettyLoadTest extends AbstractConcurrentClientsLoadTest {
+
+  @Override
+  protected String mode() {
+    return "reactive Netty";
+  }
+}
@@ -0,0 +1,19 @@
+package com.creditas.loan.simulator.performance;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "spring.threads.virtual.enabled=true")
+@DisplayName("Concurrent clients load test - virtual threads")
+@Tag("performance")
+@DirtiesContext
+public final class VirtualThreadsLoadTest extends AbstractConcurrentClientsLoadTest {
+
+  @Override
+  protected String mode() {
+    return "virtual threads";
+  }
+}
@@ -4,7 +4,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.creditas.loan.simulator.dto.LoanSimulationRequest;
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -12,18 +15,22 @@ import org.junit.jupiter.params.provider.CsvSource;
 @DisplayName("AgeBasedInterestRateCalculator Tests")
 public final class AgeBasedInterestRateCalculatorTest {
 
+  private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2025-06-15T10:00:00Z"), ZoneOffset.UTC);
+  private static final LocalDate TODAY = LocalDate.now(FIXED_CLOCK);
+
   @ParameterizedTest
   @CsvSource({
       "20, 5.00",
       "25, 5.00",
   })
   public void shouldCalculateInterestRateForAgeBelowOrEquals25(final int age, final BigDecimal expectedRate) {
-    AgeBasedInterestRateCalculator calculator = new AgeBasedInterestRateCalculator();
+    AgeBasedInterestRateCalculator calculator = new AgeBasedInterestRateCalculator(new DailyClock(FIXED_CLOCK),
+        RatePolicyFixtures.defaultRatePolicyHolder());
 
     LoanSimulationRequest request = new LoanSimulationRequest();
-    request.setClientBirthDate(LocalDate.now().minusYears(age));
+    request.setClientBirthDate(TODAY.minusYears(age));
 
-    BigDecimal result = calculator.calculateInterestRate(request);
+    BigDecimal result = calculator.calculateInterestRate(request).annualRate();
 
     assertEquals(expectedRate, result);
   }
@@ -34,12 +41,13 @@ public final class AgeBasedInterestRateCalculatorTest {
       "40, 3.00",
   })
   public void shouldCalculateInterestRateForAgeBetween26And40(final int age, final BigDecimal expectedRate) {
-    AgeBasedInterestRateCalculator calculator = new AgeBasedInterestRateCalculator();
+    AgeBasedInterestRateCalculator calculator = new AgeBasedInterestRateCalculator(new DailyClock(FIXED_CLOCK),
+        RatePolicyFixtures.defaultRatePolicyHolder());
 
     LoanSimulationRequest request = new LoanSimulationRequest();
-    request.setClientBirthDate(LocalDate.now().minusYears(age));
+    request.setClientBirthDate(TODAY.minusYears(age));
 
-    BigDecimal result = calculator.calculateInterestRate(request);
+    BigDecimal result = calculator.calculateInterestRate(request).annualRate();
 
     assertEquals(expectedRate, result);
   }
@@ -50,12 +58,13 @@ public final class AgeBasedInterestRateCalculatorTest {
       "60, 2.00",
   })
   public void shouldCalculateInterestRateForAgeBetween41And60(final int age, final BigDecimal expectedRate) {
-    AgeBasedInterestRateCalculator calculator = new AgeBasedInterestRateCalculator();
+    AgeBasedInterestRateCalculator calculator = new AgeBasedInterestRateCalculator(new DailyClock(FIXED_CLOCK),
+        RatePolicyFixtures.defaultRatePolicyHolder());
 
     LoanSimulationRequest request = new LoanSimulationRequest();
-    request.setClientBirthDate(LocalDate.now().minusYears(age));
+    request.setClientBirthDate(TODAY.minusYears(age));
 
-    BigDecimal result = calculator.calculateInterestRate(request);
+    BigDecimal result = calculator.calculateInterestRate(request).annualRate();
 
     assertEquals(expectedRate, result);
   }
@@ -66,12 +75,13 @@ public final class AgeBasedInterestRateCalculatorTest {
       "80, 4.00",
   })
   public void shouldCalculateInterestRateForAgeAbove60(final int age, final BigDecimal expectedRate) {
-    AgeBasedInterestRateCalculator calculator = new AgeBasedInterestRateCalculator();
+    AgeBasedInterestRateCalculator calculator = new AgeBasedInterestRateCalculator(new DailyClock(FIXED_CLOCK),
+        RatePolicyFixtures.defaultRatePolicyHolder());
 
     LoanSimulationRequest request = new LoanSimulationRequest();
-    request.setClientBirthDate(LocalDate.now().minusYears(age));
+    request.setClientBirthDate(TODAY.minusYears(age));
 
-    BigDecimal result = calculator.calculateInterestRate(request);
+    BigDecimal result = calculator.calculateInterestRate(request).annualRate();
 
     assertEquals(expectedRate, result);
   }
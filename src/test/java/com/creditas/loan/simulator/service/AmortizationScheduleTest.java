@@ -0,0 +1,99 @@
+package com.creditas.loan.simulator.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.creditas.loan.simulator.domain.Installment;
+import com.creditas.loan.simulator.domain.Money;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.BigRange;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.Scale;
+
+@Label("AmortizationSchedule Properties")
+public final class AmortizationScheduleTest {
+
+  private static final LocalDate START = LocalDate.of(2025, 6, 15);
+  private static final PaymentCalculator CALCULATOR = new BigDecimalPaymentCalculator();
+
+  @Example
+  @Label("Should split each installment into interest on the balance and principal")
+  public void shouldSplitInstallments() {
+    AmortizationSchedule schedule = AmortizationSchedule.window(Money.ofCents(2_000_000),
+        Money.ofCents(169_387), new BigDecimal("3.00"), 12, START, 0, 12);
+
+    Installment first = schedule.installments().getFirst();
+    assertThat(first.getNumber()).isEqualTo("1");
+    assertThat(first.getDate()).isEqualTo(LocalDate.of(2025, 7, 15));
+    assertThat(first.getValue()).isEqualTo(Money.ofCents(169_387));
+    assertThat(first.getInterest()).isEqualTo(Money.ofCents(5_000));
+    assertThat(first.getPrincipal()).isEqualTo(Money.ofCents(164_387));
+    assertThat(first.getBalance()).isEqualTo(Money.ofCents(1_835_613));
+
+    Installment last = schedule.installments().getLast();
+    assertThat(last.getNumber()).isEqualTo("12");
+    assertThat(last.getDate()).isEqualTo(LocalDate.of(2026, 6, 15));
+    assertThat(last.getBalance()).isEqualTo(Money.ZERO);
+  }
+
+  @Example
+  @Label("Should repay the amount in equal parts without interest at a zero rate")
+  public void shouldRepayEqualPartsAtZeroRate() {
+    AmortizationSchedule schedule = AmortizationSchedule.window(Money.ofCents(10_000),
+        Money.ofCents(3_333), BigDecimal.ZERO, 3, START, 0, 3);
+
+    assertThat(schedule.principalCents(0)).isEqualTo(3333);
+    assertThat(schedule.principalCents(1)).isEqualTo(3333);
+    assertThat(schedule.principalCents(2)).isEqualTo(3334);
+    assertThat(schedule.interestCents(2)).isZero();
+  }
+
+  @Property(tries = 200)
+  @Label("Should repay exactly the loan amount without exceeding the installment before the last one")
+  public void shouldRepayLoanAmount(@ForAll @BigRange(min = "1.00", max = "1000000.00") @Scale(2)
+                                    final BigDecimal amount,
+                                    @ForAll @BigRange(min = "0.00", max = "30.00") @Scale(2)
+                                    final BigDecimal annualRate,
+                                    @ForAll @IntRange(min = 1, max = 420) final int term) {
+    Money installment = Money.of(CALCULATOR.calculateMonthlyPayment(amount, term, annualRate));
+    AmortizationSchedule schedule = AmortizationSchedule.window(Money.of(amount), installment, annualRate, term,
+        START, 0, term);
+
+    long principal = 0;
+    for (int position = 0; position < term; position++) {
+      principal += schedule.principalCents(position);
+      assertThat(schedule.paymentCents(position))
+          .isEqualTo(schedule.principalCents(position) + schedule.interestCents(position));
+      if (position < term - 1) {
+        assertThat(schedule.paymentCents(position)).isLessThanOrEqualTo(installment.cents());
+      }
+    }
+    assertThat(principal).isEqualTo(amount.movePointRight(2).longValueExact());
+    assertThat(schedule.balanceCents(term - 1)).isZero();
+  }
+
+  @Property(tries = 100)
+  @Label("Should compute every page exactly as the same rows of the full schedule")
+  public void shouldComputePagesLikeFullSchedule(@ForAll @IntRange(min = 1, max = 420) final int term,
+                                                 @ForAll @IntRange(min = 1, max = 120) final int size) {
+    Money amount = Money.ofCents(15_000_000);
+    BigDecimal annualRate = new BigDecimal("4.00");
+    Money installment = Money.of(CALCULATOR.calculateMonthlyPayment(amount.toBigDecimal(), term, annualRate));
+    AmortizationSchedule full = AmortizationSchedule.window(amount, installment, annualRate, term, START, 0, term);
+
+    for (int from = 0; from < term; from += size) {
+      int to = Math.min(from + size, term);
+      AmortizationSchedule page = AmortizationSchedule.window(amount, installment, annualRate, term, START,
+          from, to);
+      assertThat(page.size()).isEqualTo(to - from);
+      for (int position = 0; position < page.size(); position++) {
+        assertThat(page.balanceCents(position)).isEqualTo(full.balanceCents(from + position));
+        assertThat(page.installments().get(position).getNumber()).isEqualTo(String.valueOf(from + position + 1));
+      }
+    }
+  }
+}
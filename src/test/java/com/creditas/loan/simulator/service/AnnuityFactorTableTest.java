@@ -0,0 +1,92 @@
+package com.creditas.loan.simulator.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.BigRange;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.Scale;
+import net.jqwik.api.constraints.Size;
+
+@Label("AnnuityFactorTable Properties")
+public final class AnnuityFactorTableTest {
+
+  private static final int MAX_CACHED_TERM = 600;
+
+  private final PaymentCalculator reference = new BigDecimalPaymentCalculator();
+  private final AnnuityFactorTable table = new AnnuityFactorTable(MAX_CACHED_TERM);
+
+  @Property(tries = 3000)
+  @Label("Payments from cached factors match the BigDecimal engine exactly")
+  public void paymentsMatchReference(
+      @ForAll @BigRange(min = "1.00", max = "1000000.00") @Scale(2) final BigDecimal amount,
+      @ForAll @IntRange(min = 1, max = 900) final int term,
+      @ForAll("annualRates") final BigDecimal annualRate) {
+
+    assertThat(table.calculateMonthlyPayment(amount, term, annualRate))
+        .isEqualByComparingTo(reference.calculateMonthlyPayment(amount, term, annualRate));
+  }
+
+  @Property(tries = 300)
+  @Label("Grid payments match one payment calculation per cell")
+  public void gridPaymentsMatchSinglePayments(
+      @ForAll @Size(min = 1, max = 5) final List<@BigRange(min = "1.00", max = "1000000.00") @Scale(2) BigDecimal> amounts,
+      @ForAll @Size(min = 1, max = 12) final List<@IntRange(min = 1, max = 900) Integer> terms,
+      @ForAll("annualRates") final BigDecimal annualRate) {
+    AnnuityFactorTable gridTable = new AnnuityFactorTable(MAX_CACHED_TERM);
+    int[] termArray = terms.stream().mapToInt(Integer::intValue).toArray();
+
+    BigDecimal[][] payments = gridTable.calculateMonthlyPayments(amounts.toArray(BigDecimal[]::new), termArray,
+        annualRate);
+
+    for (int term = 0; term < termArray.length; term++) {
+      for (int amount = 0; amount < amounts.size(); amount++) {
+        assertThat(payments[term][amount])
+            .isEqualByComparingTo(reference.calculateMonthlyPayment(amounts.get(amount), termArray[term], annualRate));
+      }
+    }
+  }
+
+  @Example
+  @Label("Factors are computed once and shared by every later lookup")
+  public void factorsAreCached() {
+    BigDecimal rate = new BigDecimal("3.00");
+
+    BigDecimal first = table.factor(rate, 24);
+
+    assertThat(table.factor(rate, 24)).isSameAs(first);
+    assertThat(table.factor(rate, MAX_CACHED_TERM + 1)).isNotSameAs(table.factor(rate, MAX_CACHED_TERM + 1));
+  }
+
+  @Example
+  @Label("Concurrent lookups agree on every factor")
+  public void concurrentLookupsAgree() {
+    BigDecimal rate = new BigDecimal("5.00");
+
+    List<BigDecimal> factors = IntStream.range(0, 10_000)
+        .parallel()
+        .mapToObj(i -> table.factor(rate, 1 + i % MAX_CACHED_TERM))
+        .toList();
+
+    for (int i = 0; i < factors.size(); i++) {
+      assertThat(factors.get(i)).isEqualByComparingTo(table.factor(rate, 1 + i % MAX_CACHED_TERM));
+    }
+  }
+
+  @Provide
+  Arbitrary<BigDecimal> annualRates() {
+    return Arbitraries.oneOf(
+        Arbitraries.of(new BigDecimal("5.00"), new BigDecimal("3.00"), new BigDecimal("2.00"),
+            new BigDecimal("4.00"), BigDecimal.ZERO),
+        Arbitraries.bigDecimals().between(new BigDecimal("0.01"), new BigDecimal("99.99")).ofScale(2));
+  }
+}
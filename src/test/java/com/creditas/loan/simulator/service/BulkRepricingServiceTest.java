@@ -0,0 +1,119 @@
+package com.creditas.loan.simulator.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.creditas.loan.simulator.config.BatchProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@DisplayName("BulkRepricingService Tests")
+public final class BulkRepricingServiceTest {
+
+  private static final int CHUNK_SIZE = 256;
+  private static final int MAX_CHUNKS_IN_FLIGHT = 2;
+  private static final int ROWS = 500;
+
+  @TempDir
+  private Path directory;
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+  private ValidatorFactory validatorFactory;
+  private ForkJoinPool pool;
+  private BulkRepricingService service;
+
+  @BeforeEach
+  public void setUp() {
+    validatorFactory = Validation.buildDefaultValidatorFactory();
+    pool = new ForkJoinPool(4);
+    LoanBatchService loanBatchService = new LoanBatchService(LoanServiceFixtures.defaultLoanService(),
+        validatorFactory.getValidator(), pool, new BatchProperties(1, 4));
+    service = new BulkRepricingService(loanBatchService, objectMapper, pool);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    pool.shutdown();
+    validatorFactory.close();
+  }
+
+  @Test
+  @DisplayName("Should reprice every NDJSON row in input order across many chunks")
+  public void shouldRepriceNdjsonInOrder() throws IOException {
+    List<String> lines = new ArrayList<>();
+    for (int i = 0; i < ROWS; i++) {
+      lines.add("{\"client_id\": \"client-" + i + "\", \"loan_amount\": " + (1000 + i)
+          + ", \"client_birth_date\": \"1990-01-01\", \"loan_term_in_months\": 12}");
+    }
+    Path input = Files.write(directory.resolve("book.ndjson"), lines);
+    Path output = directory.resolve("repriced.ndjson");
+
+    RepricingReport report = service.reprice(input, output, CHUNK_SIZE, MAX_CHUNKS_IN_FLIGHT);
+
+    assertThat(report.rows()).isEqualTo(ROWS);
+    assertThat(report.failures()).isZero();
+    assertThat(report.bytesRead()).isEqualTo(Files.size(input));
+    List<String> results = Files.readAllLines(output);
+    assertThat(results).hasSize(ROWS);
+    for (int i = 0; i < ROWS; i++) {
+      JsonNode result = objectMapper.readTree(results.get(i));
+      assertThat(result.get("index").asInt()).isEqualTo(i);
+      assertThat(result.at("/simulation/client_id").asText()).isEqualTo("client-" + i);
+      assertThat(result.at("/simulation/loan_amount").decimalValue()).isEqualByComparingTo(String.valueOf(1000 + i));
+    }
+  }
+
+  @Test
+  @DisplayName("Should reprice CSV rows by header, reporting invalid and unreadable rows by line")
+  public void shouldRepriceCsvRows() throws IOException {
+    Path input = Files.writeString(directory.resolve("book.csv"), """
+        loan_term_in_months,loan_amount,client_birth_date,client_id\r
+        12,10000.00,1990-12-12,client-1\r
+
+        12,-5,1990-12-12,client-2
+        twelve,10000.00,1990-12-12,client-3
+        24,5000.00,1990-12-12,""");
+    Path output = directory.resolve("repriced.ndjson");
+
+    RepricingReport report = service.reprice(input, output, CHUNK_SIZE, MAX_CHUNKS_IN_FLIGHT);
+
+    assertThat(report.rows()).isEqualTo(4);
+    assertThat(report.failures()).isEqualTo(2);
+    List<JsonNode> results = new ArrayList<>();
+    for (String line : Files.readAllLines(output)) {
+      results.add(objectMapper.readTree(line));
+    }
+    assertThat(results).extracting(result -> result.get("index").asInt()).containsExactly(0, 2, 3, 4);
+    assertThat(results.get(0).at("/simulation/monthly_installment").decimalValue()).isEqualByComparingTo("846.94");
+    assertThat(results.get(1).at("/validation_errors/loanAmount").isMissingNode()).isFalse();
+    assertThat(results.get(2).get("error").asText()).isEqualTo("Parse Error");
+    assertThat(results.get(3).at("/simulation/client_id").isMissingNode()).isTrue();
+    assertThat(results.get(3).at("/simulation/loan_term_in_months").asInt()).isEqualTo(24);
+  }
+
+  @Test
+  @DisplayName("Should fail on a line longer than the chunk size")
+  public void shouldRejectLineLongerThanChunk() throws IOException {
+    Path input = Files.writeString(directory.resolve("book.ndjson"), "{\"client_id\": \"" + "x".repeat(CHUNK_SIZE)
+        + "\"}\n{}\n");
+
+    assertThatThrownBy(() -> service.reprice(input, directory.resolve("repriced.ndjson"), CHUNK_SIZE,
+        MAX_CHUNKS_IN_FLIGHT))
+        .isInstanceOf(IOException.class)
+        .hasMessage("Line 1 is longer than the chunk size of 256 bytes");
+  }
+}
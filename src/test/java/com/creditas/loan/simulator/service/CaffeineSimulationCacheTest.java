@@ -0,0 +1,78 @@
+package com.creditas.loan.simulator.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.creditas.loan.simulator.domain.Money;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CaffeineSimulationCache Tests")
+public final class CaffeineSimulationCacheTest {
+
+  private static final LoanQuote QUOTE =
+      new LoanQuote(Money.ofCents(85_607), Money.ofCents(1_027_284), Money.ofCents(27_284));
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final AtomicInteger calculations = new AtomicInteger();
+
+  @Test
+  @DisplayName("Should calculate once for equal amounts and rates written with different scales")
+  public void shouldReuseQuoteForNormalizedInputs() {
+    CaffeineSimulationCache cache = new CaffeineSimulationCache(100, Duration.ofMinutes(10), nanos::get);
+
+    LoanQuote first = cache.get(new BigDecimal("10000.00"), new BigDecimal("5.00"), 12, this::calculate);
+    LoanQuote second = cache.get(new BigDecimal("10000"), new BigDecimal("5"), 12, this::calculate);
+
+    assertThat(second).isSameAs(first);
+    assertThat(calculations).hasValue(1);
+    assertThat(cache.stats()).isEqualTo(new SimulationCacheStats(1, 1, 0, 1));
+  }
+
+  @Test
+  @DisplayName("Should calculate again for a different term")
+  public void shouldMissForDifferentTerm() {
+    CaffeineSimulationCache cache = new CaffeineSimulationCache(100, Duration.ofMinutes(10), nanos::get);
+
+    cache.get(new BigDecimal("10000.00"), new BigDecimal("5.00"), 12, this::calculate);
+    cache.get(new BigDecimal("10000.00"), new BigDecimal("5.00"), 24, this::calculate);
+
+    assertThat(calculations).hasValue(2);
+    assertThat(cache.stats().misses()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should expire quotes after their time to live")
+  public void shouldExpireQuotes() {
+    CaffeineSimulationCache cache = new CaffeineSimulationCache(100, Duration.ofMinutes(10), nanos::get);
+
+    cache.get(new BigDecimal("10000.00"), new BigDecimal("5.00"), 12, this::calculate);
+    nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+    cache.get(new BigDecimal("10000.00"), new BigDecimal("5.00"), 12, this::calculate);
+
+    assertThat(calculations).hasValue(2);
+    assertThat(cache.stats().evictions()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should evict quotes beyond the maximum size")
+  public void shouldEvictBeyondMaximumSize() {
+    CaffeineSimulationCache cache = new CaffeineSimulationCache(10, Duration.ofMinutes(10), nanos::get);
+
+    for (int term = 1; term <= 50; term++) {
+      cache.get(new BigDecimal("10000.00"), new BigDecimal("5.00"), term, this::calculate);
+    }
+
+    SimulationCacheStats stats = cache.stats();
+    assertThat(stats.size()).isEqualTo(10);
+    assertThat(stats.evictions()).isEqualTo(40);
+  }
+
+  private LoanQuote calculate() {
+    calculations.incrementAndGet();
+    return QUOTE;
+  }
+}
@@ -0,0 +1,73 @@
+package com.creditas.loan.simulator.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.creditas.loan.simulator.domain.Money;
+import com.fasterxml.jackson.core.JsonFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("ClientPortfolioReader Tests")
+public final class ClientPortfolioReaderTest {
+
+  @TempDir
+  private Path directory;
+
+  private final ClientPortfolioReader reader = new ClientPortfolioReader(new JsonFactory());
+
+  @Test
+  @DisplayName("Should read clients, contracts and installments whatever the order of their fields")
+  public void shouldReadPortfolio() throws IOException {
+    Path file = write("""
+        {"version": 3, "clients": [
+          {"contracts": [
+            {"installments": [
+              {"balance": 500.00, "interest": 12.50, "principal": 500.00, "value": 512.50, "date": "2025-10-15",
+               "number": "1"},
+              {"number": 2, "date": "2025-11-15", "value": 501.25, "principal": 500.00, "interest": 1.25,
+               "balance": 0}
+            ], "number": "CT-1", "total_value": 1000.00}
+          ], "name": "Ana", "id": "client-1", "email": "ana@example.com", "birth_date": "1990-01-01"},
+          {"id": "client-2", "email": null, "contracts": []}
+        ]}
+        """);
+
+    ClientPortfolio portfolio = reader.read(file);
+
+    assertThat(portfolio.clientCount()).isEqualTo(2);
+    assertThat(portfolio.find("ana@example.com")).isZero();
+    assertThat(portfolio.find("client-2")).isEqualTo(1);
+    assertThat(portfolio.clientEmail(1)).isNull();
+    assertThat(portfolio.contractNumber(portfolio.firstContract(0))).isEqualTo("CT-1");
+    assertThat(portfolio.endContract(1) - portfolio.firstContract(1)).isZero();
+    assertThat(portfolio.installmentCount()).isEqualTo(2);
+    assertThat(portfolio.installment(0).getDate()).isEqualTo(LocalDate.of(2025, 10, 15));
+    assertThat(portfolio.installment(0).getValue()).isEqualTo(Money.ofCents(51_250));
+    assertThat(portfolio.installment(1).getNumber()).isEqualTo("2");
+    assertThat(portfolio.installment(1).getInterest()).isEqualTo(Money.ofCents(125));
+  }
+
+  @Test
+  @DisplayName("Should reject an installment missing one of its amounts")
+  public void shouldRejectIncompleteInstallment() throws IOException {
+    Path file = write("""
+        {"clients": [{"id": "client-1", "contracts": [{"number": "CT-1", "installments": [
+          {"number": "1", "date": "2025-10-15", "value": 512.50, "principal": 500.00, "interest": 12.50}
+        ]}]}]}
+        """);
+
+    assertThatThrownBy(() -> reader.read(file))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("must have a number, date, value, principal, interest and balance");
+  }
+
+  private Path write(final String content) throws IOException {
+    return Files.writeString(directory.resolve("portfolio.json"), content);
+  }
+}
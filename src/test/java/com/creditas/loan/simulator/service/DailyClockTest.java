@@ -0,0 +1,91 @@
+package com.creditas.loan.simulator.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.LongRange;
+
+@Label("DailyClock Properties")
+public final class DailyClockTest {
+
+  @Property(tries = 5000)
+  @Label("Age matches Period.between for any birth date before today")
+  public void ageMatchesPeriod(
+      // Any day between 1900-01-01 and 2100-12-31
+      @ForAll @LongRange(min = -25567, max = 47846) final long todayEpochDay,
+      @ForAll @LongRange(min = 1, max = 40000) final long daysBeforeToday) {
+
+    LocalDate today = LocalDate.ofEpochDay(todayEpochDay);
+    LocalDate birthDate = today.minusDays(daysBeforeToday);
+    Clock clock = Clock.fixed(today.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC);
+
+    assertThat(new DailyClock(clock).ageInYears(birthDate))
+        .isEqualTo(Period.between(birthDate, today).getYears());
+  }
+
+  @Example
+  @Label("Leap-day birthdays only count a year once the 1st of March is reached")
+  public void leapDayBirthdays() {
+    LocalDate birthDate = LocalDate.of(2000, 2, 29);
+
+    assertThat(clockAt("2025-02-28T12:00:00Z").ageInYears(birthDate)).isEqualTo(24);
+    assertThat(clockAt("2025-03-01T12:00:00Z").ageInYears(birthDate)).isEqualTo(25);
+    assertThat(clockAt("2024-02-29T12:00:00Z").ageInYears(birthDate)).isEqualTo(24);
+  }
+
+  @Example
+  @Label("Today is refreshed once the clock passes midnight in its zone")
+  public void refreshesAtMidnight() {
+    ZoneId zone = ZoneId.of("America/Sao_Paulo");
+    MutableClock clock = new MutableClock(Instant.parse("2025-06-15T02:59:59Z"), zone);
+    DailyClock dailyClock = new DailyClock(clock);
+
+    assertThat(dailyClock.today()).isEqualTo(LocalDate.of(2025, 6, 14));
+    assertThat(dailyClock.ageInYears(LocalDate.of(2000, 6, 15))).isEqualTo(24);
+
+    clock.instant = Instant.parse("2025-06-15T03:00:00Z");
+
+    assertThat(dailyClock.today()).isEqualTo(LocalDate.of(2025, 6, 15));
+    assertThat(dailyClock.todayEpochDay()).isEqualTo(LocalDate.of(2025, 6, 15).toEpochDay());
+    assertThat(dailyClock.ageInYears(LocalDate.of(2000, 6, 15))).isEqualTo(25);
+  }
+
+  private static DailyClock clockAt(final String instant) {
+    return new DailyClock(Clock.fixed(Instant.parse(instant), ZoneOffset.UTC));
+  }
+
+  private static final class MutableClock extends Clock {
+
+    private final ZoneId zone;
+    private Instant instant;
+
+    MutableClock(final Instant instant, final ZoneId zone) {
+      this.instant = instant;
+      this.zone = zone;
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return zone;
+    }
+
+    @Override
+    public Clock withZone(final ZoneId newZone) {
+      return new MutableClock(instant, newZone);
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
@@ -0,0 +1,120 @@
+package com.creditas.loan.simulator.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.BigRange;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.Scale;
+
+@Label("DoublePaymentCalculator Properties")
+public final class DoublePaymentCalculatorTest {
+
+  private static final BigDecimal HALF_CENT = new BigDecimal("0.005");
+  private static final BigDecimal CENT = new BigDecimal("0.01");
+  private static final int MAX_POW_EXPONENT = 999_999_999;
+
+  private final PaymentCalculator reference = new BigDecimalPaymentCalculator();
+  private final PaymentCalculator fastPath = new DoublePaymentCalculator();
+
+  @Property(tries = 3000)
+  @Label("Monthly payment stays within the documented error bound of the BigDecimal engine")
+  public void monthlyPaymentIsWithinErrorBound(
+      @ForAll @BigRange(min = "1.00", max = "1000000.00") @Scale(2) final BigDecimal amount,
+      @ForAll @IntRange(min = 1, max = 1200) final int term,
+      @ForAll("annualRates") final BigDecimal annualRate) {
+
+    BigDecimal exact = reference.calculateMonthlyPayment(amount, term, annualRate);
+    BigDecimal fast = fastPath.calculateMonthlyPayment(amount, term, annualRate);
+
+    assertThat(fast.subtract(exact).abs()).isLessThanOrEqualTo(errorBound(exact));
+  }
+
+  @Property(tries = 3000)
+  @Label("Monthly payment stays within the documented error bound for any term")
+  public void monthlyPaymentIsWithinErrorBoundForAnyTerm(
+      @ForAll @BigRange(min = "1.00", max = "1000000.00") @Scale(2) final BigDecimal amount,
+      @ForAll @IntRange(min = 1, max = Integer.MAX_VALUE) final int term,
+      @ForAll("annualRates") final BigDecimal annualRate) {
+
+    BigDecimal exact = annuity(amount, term, annualRate);
+    BigDecimal fast = fastPath.calculateMonthlyPayment(amount, term, annualRate);
+
+    assertThat(fast.subtract(exact).abs()).isLessThanOrEqualTo(errorBound(exact));
+  }
+
+  @Property(tries = 3000)
+  @Label("Rounded to cents, monthly and total payments match the BigDecimal engine")
+  public void roundedPaymentsMatchToTheCent(
+      @ForAll @BigRange(min = "1.00", max = "1000000.00") @Scale(2) final BigDecimal amount,
+      @ForAll @IntRange(min = 1, max = 1200) final int term,
+      @ForAll("annualRates") final BigDecimal annualRate) {
+
+    BigDecimal exact = reference.calculateMonthlyPayment(amount, term, annualRate);
+    BigDecimal fast = fastPath.calculateMonthlyPayment(amount, term, annualRate);
+    BigDecimal months = BigDecimal.valueOf(term);
+
+    assertCentsMatch(exact, fast, errorBound(exact));
+    assertCentsMatch(exact.multiply(months), fast.multiply(months), errorBound(exact).multiply(months));
+  }
+
+  @Provide
+  Arbitrary<BigDecimal> annualRates() {
+    return Arbitraries.oneOf(
+        Arbitraries.of(new BigDecimal("5.00"), new BigDecimal("3.00"), new BigDecimal("2.00"),
+            new BigDecimal("4.00"), BigDecimal.ZERO),
+        Arbitraries.bigDecimals().between(new BigDecimal("0.01"), new BigDecimal("99.99")).ofScale(2));
+  }
+
+  /**
+   * The annuity for the same monthly rate as the engines, to 34 significant digits, as {@code (1+i)^n} cannot be
+   * computed exactly for terms of millions of months.
+   */
+  private static BigDecimal annuity(final BigDecimal amount, final int term, final BigDecimal annualRate) {
+    if (annualRate.signum() == 0) {
+      return amount.divide(BigDecimal.valueOf(term), MathContext.DECIMAL128);
+    }
+    BigDecimal monthlyRate = BigDecimalPaymentCalculator.toMonthlyRate(annualRate);
+    BigDecimal discount = discount(BigDecimal.ONE.add(monthlyRate), term);
+    return amount.multiply(monthlyRate).divide(BigDecimal.ONE.subtract(discount, MathContext.DECIMAL128),
+        MathContext.DECIMAL128);
+  }
+
+  private static BigDecimal discount(final BigDecimal onePlusRate, final int term) {
+    // BigDecimal.pow with a MathContext takes exponents up to 999999999 only
+    if (term <= MAX_POW_EXPONENT) {
+      return onePlusRate.pow(-term, MathContext.DECIMAL128);
+    }
+    BigDecimal half = discount(onePlusRate, term / 2);
+    BigDecimal discount = half.multiply(half, MathContext.DECIMAL128);
+    if (term % 2 != 0) {
+      discount = discount.divide(onePlusRate, MathContext.DECIMAL128);
+    }
+    return discount;
+  }
+
+  private static BigDecimal errorBound(final BigDecimal exact) {
+    // Relative error of the double engine plus one unit in the last place of the scale-10 result
+    return exact.multiply(BigDecimal.valueOf(DoublePaymentCalculator.RELATIVE_ERROR_BOUND))
+        .add(BigDecimal.ONE.movePointLeft(10));
+  }
+
+  private static void assertCentsMatch(final BigDecimal exact, final BigDecimal fast, final BigDecimal bound) {
+    BigDecimal distanceToHalfCent = exact.remainder(CENT).subtract(HALF_CENT).abs();
+    if (distanceToHalfCent.compareTo(bound) <= 0) {
+      // Within the error bound of a rounding boundary: either neighbouring cent is a correct rounding
+      assertThat(fast.setScale(2, RoundingMode.HALF_UP).subtract(exact.setScale(2, RoundingMode.HALF_UP)).abs())
+          .isLessThanOrEqualTo(CENT);
+      return;
+    }
+    assertThat(fast.setScale(2, RoundingMode.HALF_UP)).isEqualByComparingTo(exact.setScale(2, RoundingMode.HALF_UP));
+  }
+}
@@ -0,0 +1,139 @@
+package com.creditas.loan.simulator.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.creditas.loan.simulator.domain.Money;
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.creditas.loan.simulator.dto.LoanSimulationResponse;
+import com.creditas.loan.simulator.exception.IdempotencyKeyMismatchException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("IdempotentSimulationCache Tests")
+public final class IdempotentSimulationCacheTest {
+
+  private static final String KEY = "3f1c9a52-6d0e-4b8e-9c71-2a5d8e4f6b10";
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final AtomicInteger simulations = new AtomicInteger();
+  private final IdempotentSimulationCache cache =
+      new IdempotentSimulationCache(100, Duration.ofHours(24), nanos::get);
+
+  @Test
+  @DisplayName("Should replay the first simulation for a repeated key and an equal request")
+  public void shouldReplaySimulationForRepeatedKey() {
+    LoanSimulationResponse first = cache.get(KEY, request(1_000_000, 2), this::simulate);
+    LoanSimulationResponse second = cache.get(KEY, request(10_000, 0), this::simulate);
+
+    assertThat(second).isSameAs(first);
+    assertThat(simulations).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("Should simulate again for a different key")
+  public void shouldSimulateForDifferentKey() {
+    LoanSimulationResponse first = cache.get(KEY, request(1_000_000, 2), this::simulate);
+    LoanSimulationResponse second = cache.get("another-key", request(1_000_000, 2), this::simulate);
+
+    assertThat(second.getId()).isNotEqualTo(first.getId());
+    assertThat(simulations).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("Should reject a key reused with a different request")
+  public void shouldRejectKeyReusedForDifferentRequest() {
+    cache.get(KEY, request(1_000_000, 2), this::simulate);
+
+    assertThatThrownBy(() -> cache.get(KEY, request(2_000_000, 2), this::simulate))
+        .isInstanceOf(IdempotencyKeyMismatchException.class)
+        .hasMessage("Idempotency key " + KEY + " was already used for a different request");
+    assertThat(simulations).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("Should simulate once for concurrent requests with the same key")
+  public void shouldCoalesceConcurrentDuplicates() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<LoanSimulationResponse> first = CompletableFuture.supplyAsync(
+        () -> cache.get(KEY, request(1_000_000, 2), () -> {
+          started.countDown();
+          await(release);
+          return simulate();
+        }));
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    CompletableFuture<LoanSimulationResponse> duplicate = CompletableFuture.supplyAsync(
+        () -> cache.get(KEY, request(1_000_000, 2), this::simulate));
+    release.countDown();
+
+    assertThat(duplicate.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+    assertThat(simulations).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("Should simulate again after a failed simulation")
+  public void shouldForgetFailedSimulations() {
+    assertThatThrownBy(() -> cache.get(KEY, request(1_000_000, 2), () -> {
+      throw new IllegalStateException("Rate policy unavailable");
+    })).isInstanceOf(IllegalStateException.class);
+
+    cache.get(KEY, request(1_000_000, 2), this::simulate);
+
+    assertThat(simulations).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("Should simulate again after a simulation failed with an error")
+  public void shouldForgetSimulationsFailedWithError() {
+    assertThatThrownBy(() -> cache.get(KEY, request(1_000_000, 2), () -> {
+      throw new StackOverflowError();
+    })).isInstanceOf(StackOverflowError.class);
+
+    cache.get(KEY, request(1_000_000, 2), this::simulate);
+
+    assertThat(simulations).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("Should forget keys after their time to live")
+  public void shouldExpireKeys() {
+    LoanSimulationResponse first = cache.get(KEY, request(1_000_000, 2), this::simulate);
+    nanos.addAndGet(Duration.ofHours(25).toNanos());
+    LoanSimulationResponse second = cache.get(KEY, request(2_000_000, 2), this::simulate);
+
+    assertThat(second.getId()).isNotEqualTo(first.getId());
+    assertThat(simulations).hasValue(2);
+  }
+
+  private LoanSimulationResponse simulate() {
+    simulations.incrementAndGet();
+    return new LoanSimulationResponse(UUID.randomUUID().toString(), "client-1", Money.ofCents(1_000_000),
+        BigDecimal.valueOf(500, 2), 12, Money.ofCents(1_027_284), Money.ofCents(85_607), Money.ofCents(27_284),
+        "application");
+  }
+
+  private static LoanSimulationRequest request(final long unscaledLoanAmount, final int scale) {
+    return new LoanSimulationRequest("client-1", BigDecimal.valueOf(unscaledLoanAmount, scale),
+        LocalDate.of(1990, 12, 12), 12);
+  }
+
+  private static void await(final CountDownLatch latch) {
+    try {
+      assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
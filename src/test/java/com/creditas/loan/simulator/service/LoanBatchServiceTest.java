@@ -0,0 +1,102 @@
+package com.creditas.loan.simulator.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.creditas.loan.simulator.config.BatchProperties;
+import com.creditas.loan.simulator.dto.LoanSimulationBatchItem;
+import com.creditas.loan.simulator.dto.LoanSimulationBatchResponse;
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.creditas.loan.simulator.exception.InvalidBatchException;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LoanBatchService Tests")
+public final class LoanBatchServiceTest {
+
+  private static final int MAX_BATCH_SIZE = 500;
+
+  private ValidatorFactory validatorFactory;
+  private ForkJoinPool pool;
+  private LoanBatchService loanBatchService;
+
+  @BeforeEach
+  public void setUp() {
+    validatorFactory = Validation.buildDefaultValidatorFactory();
+    pool = new ForkJoinPool(4);
+    LoanService loanService = LoanServiceFixtures.defaultLoanService();
+    loanBatchService = new LoanBatchService(loanService, validatorFactory.getValidator(), pool,
+        new BatchProperties(MAX_BATCH_SIZE, 4));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    pool.shutdown();
+    validatorFactory.close();
+  }
+
+  @Test
+  @DisplayName("Should simulate every item and keep the submission order")
+  public void shouldSimulateEveryItemInOrder() {
+    List<LoanSimulationRequest> requests = IntStream.rangeClosed(1, MAX_BATCH_SIZE)
+        .mapToObj(i -> new LoanSimulationRequest("client-" + i, new BigDecimal(1000 + i),
+            LocalDate.of(1990, 1, 1), 12))
+        .toList();
+
+    LoanSimulationBatchResponse response = loanBatchService.simulateBatch(requests);
+
+    assertThat(response.getTotal()).isEqualTo(MAX_BATCH_SIZE);
+    assertThat(response.getSucceeded()).isEqualTo(MAX_BATCH_SIZE);
+    assertThat(response.getFailed()).isZero();
+    for (int i = 0; i < MAX_BATCH_SIZE; i++) {
+      LoanSimulationBatchItem item = response.getResults().get(i);
+      assertThat(item.getIndex()).isEqualTo(i);
+      assertThat(item.getSimulation().getClientId()).isEqualTo("client-" + (i + 1));
+      assertThat(item.getSimulation().getInterestRate().scale()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  @DisplayName("Should report invalid items next to successful ones")
+  public void shouldReportInvalidItemsAlongsideSuccesses() {
+    List<LoanSimulationRequest> requests = new ArrayList<>();
+    requests.add(new LoanSimulationRequest("valid", new BigDecimal("10000.00"), LocalDate.of(1990, 1, 1), 12));
+    requests.add(new LoanSimulationRequest("invalid", new BigDecimal("-5.00"), LocalDate.of(1990, 1, 1), 0));
+    requests.add(null);
+
+    LoanSimulationBatchResponse response = loanBatchService.simulateBatch(requests);
+
+    assertThat(response.getSucceeded()).isEqualTo(1);
+    assertThat(response.getFailed()).isEqualTo(2);
+
+    LoanSimulationBatchItem invalid = response.getResults().get(1);
+    assertThat(invalid.getSimulation()).isNull();
+    assertThat(invalid.getError()).isEqualTo("Validation Error");
+    assertThat(invalid.getValidationErrors()).containsKeys("loanAmount", "loanTermInMonths");
+
+    assertThat(response.getResults().get(2).getValidationErrors()).containsKey("request");
+  }
+
+  @Test
+  @DisplayName("Should reject empty and oversized batches")
+  public void shouldRejectEmptyAndOversizedBatches() {
+    LoanSimulationRequest request =
+        new LoanSimulationRequest("client", new BigDecimal("10000.00"), LocalDate.of(1990, 1, 1), 12);
+
+    assertThatThrownBy(() -> loanBatchService.simulateBatch(List.of()))
+        .isInstanceOf(InvalidBatchException.class);
+    assertThatThrownBy(() -> loanBatchService.simulateBatch(Collections.nCopies(MAX_BATCH_SIZE + 1, request)))
+        .isInstanceOf(InvalidBatchException.class);
+  }
+}
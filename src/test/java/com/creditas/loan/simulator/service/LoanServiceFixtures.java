@@ -0,0 +1,28 @@
+package com.creditas.loan.simulator.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.util.UUID;
+
+/**
+ * Builds loan services wired the same way as the application defaults, for tests that exercise
+ * the real calculation instead of mocks.
+ */
+public final class LoanServiceFixtures {
+
+  private LoanServiceFixtures() {
+    // Prevent instantiation
+  }
+
+  public static LoanService defaultLoanService() {
+    DailyClock dailyClock = new DailyClock(Clock.systemDefaultZone());
+    return new LoanService(
+        new AgeBasedInterestRateCalculator(dailyClock, RatePolicyFixtures.defaultRatePolicyHolder()),
+        new BigDecimalPaymentCalculator(),
+        new NoOpSimulationCache(),
+        dailyClock,
+        new NoOpSimulationStore(),
+        () -> UUID.randomUUID().toString(),
+        new SimpleMeterRegistry());
+  }
+}
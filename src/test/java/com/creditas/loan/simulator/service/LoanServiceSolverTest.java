@@ -0,0 +1,99 @@
+package com.creditas.loan.simulator.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.creditas.loan.simulator.dto.LoanSimulationResponse;
+import com.creditas.loan.simulator.dto.MaxLoanAmountRequest;
+import com.creditas.loan.simulator.dto.MinLoanTermRequest;
+import com.creditas.loan.simulator.exception.UnaffordableLoanException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+import net.jqwik.api.constraints.BigRange;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.Scale;
+
+@Label("LoanService Solver Properties")
+public final class LoanServiceSolverTest {
+
+  private static final String CLIENT_ID = "123e4567-e89b-12d3-a456-426614174000";
+  private static final BigDecimal CENT = new BigDecimal("0.01");
+
+  private final LoanService loanService = LoanServiceFixtures.defaultLoanService();
+  private final PaymentCalculator reference = new BigDecimalPaymentCalculator();
+
+  @Property(tries = 500)
+  @Label("The solved amount fits the installment and one more cent does not")
+  public void maxAmountIsTheLargestThatFits(
+      @ForAll @BigRange(min = "2.00", max = "20000.00") @Scale(2) final BigDecimal budget,
+      @ForAll @IntRange(min = 1, max = 420) final int term,
+      @ForAll("birthDates") final LocalDate birthDate) {
+
+    LoanSimulationResponse response =
+        loanService.calculateMaxLoanAmount(new MaxLoanAmountRequest(CLIENT_ID, birthDate, budget, term));
+
+    BigDecimal amount = response.getLoanAmount().toBigDecimal();
+    BigDecimal rate = response.getInterestRate();
+    assertThat(response.getLoanTermInMonths()).isEqualTo(term);
+    assertThat(reference.calculateMonthlyPayment(amount, term, rate)).isLessThanOrEqualTo(budget);
+    if (amount.compareTo(new BigDecimal("1000000.00")) < 0) {
+      assertThat(reference.calculateMonthlyPayment(amount.add(CENT), term, rate)).isGreaterThan(budget);
+    }
+  }
+
+  @Property(tries = 500)
+  @Label("The solved term is the shortest whose installment fits")
+  public void minTermIsTheShortestThatFits(
+      @ForAll @BigRange(min = "1.00", max = "1000000.00") @Scale(2) final BigDecimal amount,
+      @ForAll @IntRange(min = 1, max = 600) final int term,
+      @ForAll("birthDates") final LocalDate birthDate) {
+    BigDecimal budget = loanService.calculateLoanSimulation(new LoanSimulationRequest(CLIENT_ID, amount, birthDate,
+        term)).getMonthlyInstallment().toBigDecimal().add(CENT);
+
+    LoanSimulationResponse response =
+        loanService.calculateMinLoanTerm(new MinLoanTermRequest(CLIENT_ID, birthDate, amount, budget));
+
+    int solved = response.getLoanTermInMonths();
+    BigDecimal rate = response.getInterestRate();
+    assertThat(solved).isBetween(1, term);
+    assertThat(reference.calculateMonthlyPayment(amount, solved, rate)).isLessThanOrEqualTo(budget);
+    if (solved > 1) {
+      assertThat(reference.calculateMonthlyPayment(amount, solved - 1, rate)).isGreaterThan(budget);
+    }
+  }
+
+  @Example
+  @Label("An installment not covering the monthly interest repays no loan")
+  public void installmentBelowInterestIsUnaffordable() {
+    MinLoanTermRequest request = new MinLoanTermRequest(CLIENT_ID, LocalDate.of(1990, 1, 1),
+        new BigDecimal("100000.00"), new BigDecimal("100.00"));
+
+    assertThatThrownBy(() -> loanService.calculateMinLoanTerm(request))
+        .isInstanceOf(UnaffordableLoanException.class)
+        .hasMessageContaining("600 months");
+  }
+
+  @Example
+  @Label("An installment below the payment of the smallest loan affords no loan")
+  public void installmentBelowSmallestLoanIsUnaffordable() {
+    MaxLoanAmountRequest request = new MaxLoanAmountRequest(CLIENT_ID, LocalDate.of(1990, 1, 1),
+        new BigDecimal("1.00"), 1);
+
+    assertThatThrownBy(() -> loanService.calculateMaxLoanAmount(request))
+        .isInstanceOf(UnaffordableLoanException.class);
+  }
+
+  @Provide
+  Arbitrary<LocalDate> birthDates() {
+    return Arbitraries.of(LocalDate.of(2000, 1, 1), LocalDate.of(1990, 1, 1),
+        LocalDate.of(1970, 1, 1), LocalDate.of(1950, 1, 1));
+  }
+}
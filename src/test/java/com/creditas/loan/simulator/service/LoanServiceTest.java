@@ -2,10 +2,14 @@ package com.creditas.loan.simulator.service;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.creditas.loan.simulator.domain.Money;
 import com.creditas.loan.simulator.dto.LoanSimulationRequest;
 import com.creditas.loan.simulator.dto.LoanSimulationResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
@@ -15,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,10 +28,26 @@ public final class LoanServiceTest {
 
   private static final int LOAN_TERM_IN_MONTHS = 12;
   private static final int SCALE = 10;
+  private static final String SIMULATION_ID = "0192f5a0-7c1e-7000-8a3b-5c2d1e0f4a6b";
 
   @Mock
   private InterestRateCalculator interestRateCalculator;
 
+  @Spy
+  private PaymentCalculator paymentCalculator = new BigDecimalPaymentCalculator();
+
+  @Spy
+  private NoOpSimulationCache simulationCache;
+
+  @Mock
+  private SimulationStore simulationStore;
+
+  @Mock
+  private SimulationIdGenerator simulationIdGenerator;
+
+  @Spy
+  private SimpleMeterRegistry meterRegistry;
+
   @InjectMocks
   private LoanService loanService;
 
@@ -34,6 +55,7 @@ public final class LoanServiceTest {
 
   @BeforeEach
   public void setUp() {
+    lenient().when(simulationIdGenerator.nextId()).thenReturn(SIMULATION_ID);
     request = new LoanSimulationRequest(
         "123e4567-e89b-12d3-a456-426614175000",
         new BigDecimal("20000.00"),
@@ -49,16 +71,17 @@ public final class LoanServiceTest {
     BigDecimal expectedAnnualInterestRate = new BigDecimal("3.00");
 
     when(interestRateCalculator.calculateInterestRate(any())).thenReturn(
-        expectedAnnualInterestRate);
+        new InterestRate(expectedAnnualInterestRate, "2025-06", "26-40"));
 
     LoanSimulationResponse response = loanService.calculateLoanSimulation(request);
 
     assertThat(response).isNotNull();
-    assertThat(response.getId()).isNotNull();
+    assertThat(response.getId()).isEqualTo(SIMULATION_ID);
     assertThat(response.getClientId()).isEqualTo("123e4567-e89b-12d3-a456-426614175000");
-    assertThat(response.getLoanAmount()).isEqualTo(new BigDecimal("20000.00"));
+    assertThat(response.getLoanAmount()).isEqualTo(Money.ofCents(2_000_000));
     assertThat(response.getInterestRate()).isEqualByComparingTo(new BigDecimal("3.00"));
     assertThat(response.getLoanTermInMonths()).isEqualTo(LOAN_TERM_IN_MONTHS);
+    assertThat(response.getRatePolicyVersion()).isEqualTo("2025-06");
 
     // Expected values based on the formula PMT = PV * [i(1+i)^n] / [(1+i)^n - 1]
     // Monthly interest rate = 3% / 100 / 12 = 0.0025
@@ -72,9 +95,10 @@ public final class LoanServiceTest {
     // Total interest = Total payment - Loan amount
     BigDecimal expectedTotalInterest = expectedTotalPayment.subtract(request.getLoanAmount());
 
-    assertThat(response.getMonthlyInstallment()).isEqualByComparingTo(expectedMonthlyPayment);
-    assertThat(response.getTotalAmountPayable()).isEqualByComparingTo(expectedTotalPayment);
-    assertThat(response.getTotalInterestPaid()).isEqualByComparingTo(expectedTotalInterest);
+    // Every amount is rounded half up to the cent
+    assertThat(response.getMonthlyInstallment()).isEqualTo(Money.of(expectedMonthlyPayment));
+    assertThat(response.getTotalAmountPayable()).isEqualTo(Money.of(expectedTotalPayment));
+    assertThat(response.getTotalInterestPaid()).isEqualTo(Money.of(expectedTotalInterest));
   }
 
   @Test
@@ -82,23 +106,22 @@ public final class LoanServiceTest {
   void shouldMaintainPrecisionInFinancialCalculations() {
 
     BigDecimal expectedRate = new BigDecimal("3.00");
-    when(interestRateCalculator.calculateInterestRate(any())).thenReturn(expectedRate);
+    when(interestRateCalculator.calculateInterestRate(any())).thenReturn(
+        new InterestRate(expectedRate, "2025-06", "26-40"));
 
     LoanSimulationResponse response = loanService.calculateLoanSimulation(request);
 
-    BigDecimal totalCalculated = response.getMonthlyInstallment()
-        .multiply(BigDecimal.valueOf(request.getLoanTermInMonths()));
+    // The total is rounded once, so it may differ from the rounded installment times the term by at most half a
+    // cent per installment
+    Money totalCalculated = response.getMonthlyInstallment().times(request.getLoanTermInMonths());
 
-    BigDecimal difference = response.getTotalAmountPayable()
-        .subtract(totalCalculated).abs();
+    long differenceInCents = Math.abs(response.getTotalAmountPayable().minus(totalCalculated).cents());
 
-    assertThat(difference).isLessThanOrEqualTo(new BigDecimal("0.01"));
+    assertThat(differenceInCents).isLessThanOrEqualTo(request.getLoanTermInMonths() / 2L);
 
-    BigDecimal interestCalculated = response.getTotalAmountPayable()
-        .subtract(response.getLoanAmount());
+    Money interestCalculated = response.getTotalAmountPayable().minus(response.getLoanAmount());
 
-    assertThat(response.getTotalInterestPaid())
-        .isEqualByComparingTo(interestCalculated);
+    assertThat(response.getTotalInterestPaid()).isEqualTo(interestCalculated);
   }
 
   @Test
@@ -106,19 +129,29 @@ public final class LoanServiceTest {
   void shouldHandleZeroInterestRateCorrectly() {
 
     BigDecimal zeroRate = BigDecimal.ZERO;
-    when(interestRateCalculator.calculateInterestRate(request)).thenReturn(zeroRate);
+    when(interestRateCalculator.calculateInterestRate(request)).thenReturn(
+        new InterestRate(zeroRate, "2025-06", "26-40"));
 
     LoanSimulationResponse response = loanService.calculateLoanSimulation(request);
 
-    assertThat(response.getTotalInterestPaid()).isEqualByComparingTo(BigDecimal.ZERO);
+    assertThat(response.getTotalInterestPaid()).isEqualTo(Money.ZERO);
 
-    assertThat(
-        response.getTotalAmountPayable().setScale(2, RoundingMode.HALF_UP)).isEqualByComparingTo(
-        request.getLoanAmount());
+    assertThat(response.getTotalAmountPayable()).isEqualTo(Money.of(request.getLoanAmount()));
 
     BigDecimal expectedMonthlyPayment =
         request.getLoanAmount().divide(BigDecimal.valueOf(LOAN_TERM_IN_MONTHS), SCALE, RoundingMode.HALF_UP);
 
-    assertThat(response.getMonthlyInstallment()).isEqualByComparingTo(expectedMonthlyPayment);
+    assertThat(response.getMonthlyInstallment()).isEqualTo(Money.of(expectedMonthlyPayment));
+  }
+
+  @Test
+  @DisplayName("Should record every simulation in the simulation store")
+  void shouldRecordEverySimulation() {
+    when(interestRateCalculator.calculateInterestRate(request)).thenReturn(
+        new InterestRate(new BigDecimal("3.00"), "2025-06", "26-40"));
+
+    LoanSimulationResponse response = loanService.calculateLoanSimulation(request);
+
+    verify(simulationStore).record(response);
   }
 }
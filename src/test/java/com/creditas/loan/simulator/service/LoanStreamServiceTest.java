@@ -0,0 +1,126 @@
+package com.creditas.loan.simulator.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.creditas.loan.simulator.config.BatchProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@DisplayName("LoanStreamService Tests")
+public final class LoanStreamServiceTest {
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+  private ValidatorFactory validatorFactory;
+  private LoanStreamService loanStreamService;
+
+  @BeforeEach
+  public void setUp() {
+    validatorFactory = Validation.buildDefaultValidatorFactory();
+    LoanService loanService = LoanServiceFixtures.defaultLoanService();
+    LoanBatchService loanBatchService = new LoanBatchService(loanService, validatorFactory.getValidator(),
+        ForkJoinPool.commonPool(),
+        new BatchProperties(1, 1));
+    loanStreamService = new LoanStreamService(loanBatchService, objectMapper);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    validatorFactory.close();
+  }
+
+  @Test
+  @DisplayName("Should answer every non-blank line with one result line, in order")
+  public void shouldAnswerEveryLineInOrder() throws IOException {
+    String input = """
+        {"client_id": "a", "loan_amount": 10000.00, "client_birth_date": "1990-01-01", "loan_term_in_months": 12}
+
+        {"client_id": "b", "loan_amount": -1, "client_birth_date": "1990-01-01", "loan_term_in_months": 12}
+        {"client_id": "c", "loan_amount": 
+        {"client_id": "d", "loan_amount": 2000.00, "client_birth_date": "1970-01-01", "loan_term_in_months": 24}
+        """;
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    long processed = loanStreamService.simulateStream(
+        new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+
+    String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+    assertThat(processed).isEqualTo(4);
+    assertThat(lines).hasSize(4);
+
+    JsonNode first = objectMapper.readTree(lines[0]);
+    assertThat(first.get("index").asInt()).isZero();
+    assertThat(first.get("simulation").get("client_id").asText()).isEqualTo("a");
+
+    JsonNode second = objectMapper.readTree(lines[1]);
+    assertThat(second.get("error").asText()).isEqualTo("Validation Error");
+    assertThat(second.get("validation_errors").has("loanAmount")).isTrue();
+
+    JsonNode third = objectMapper.readTree(lines[2]);
+    assertThat(third.get("error").asText()).isEqualTo("Parse Error");
+
+    JsonNode fourth = objectMapper.readTree(lines[3]);
+    assertThat(fourth.get("index").asInt()).isEqualTo(3);
+    assertThat(fourth.get("simulation").get("client_id").asText()).isEqualTo("d");
+  }
+
+  @Test
+  @DisplayName("Should stream large inputs line by line")
+  public void shouldStreamLargeInputs() throws IOException {
+    int lines = 20_000;
+    String line = "{\"loan_amount\": 5000.00, \"client_birth_date\": \"1985-05-05\", \"loan_term_in_months\": 36}\n";
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    long processed = loanStreamService.simulateStream(
+        new ByteArrayInputStream(line.repeat(lines).getBytes(StandardCharsets.UTF_8)), output);
+
+    assertThat(processed).isEqualTo(lines);
+    assertThat(output.toString(StandardCharsets.UTF_8).lines())
+        .hasSize(lines)
+        .allMatch(result -> result.contains("\"simulation\""));
+  }
+
+  @Test
+  @DisplayName("Should answer an over-long line with a parse failure and go on with the next line")
+  public void shouldRejectOverLongLine() throws IOException {
+    String valid = "{\"loan_amount\": 5000.00, \"client_birth_date\": \"1985-05-05\", \"loan_term_in_months\": 36}";
+    String padded = "{\"client_id\": \"" + "x".repeat(LoanStreamService.MAX_LINE_LENGTH) + "\"}";
+    String atLimit = valid.substring(0, valid.length() - 1)
+        + " ".repeat(LoanStreamService.MAX_LINE_LENGTH - valid.length()) + "}";
+    String input = padded + "\n" + atLimit + "\r\n" + "y".repeat(3 * LoanStreamService.MAX_LINE_LENGTH);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    long processed = loanStreamService.simulateStream(
+        new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+
+    String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+    assertThat(processed).isEqualTo(3);
+    assertThat(lines).hasSize(3);
+
+    JsonNode first = objectMapper.readTree(lines[0]);
+    assertThat(first.get("index").asInt()).isZero();
+    assertThat(first.get("error").asText()).isEqualTo("Parse Error");
+    assertThat(first.get("validation_errors").get("request").asText())
+        .isEqualTo("Line exceeds the maximum length of 65536 characters");
+
+    JsonNode second = objectMapper.readTree(lines[1]);
+    assertThat(second.get("index").asInt()).isEqualTo(1);
+    assertThat(second.has("simulation")).isTrue();
+
+    JsonNode third = objectMapper.readTree(lines[2]);
+    assertThat(third.get("index").asInt()).isEqualTo(2);
+    assertThat(third.get("error").asText()).isEqualTo("Parse Error");
+  }
+}
@@ -0,0 +1,164 @@
+package com.creditas.loan.simulator.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.creditas.loan.simulator.domain.Money;
+import com.creditas.loan.simulator.dto.LoanSimulationResponse;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("MappedSimulationJournal Tests")
+public final class MappedSimulationJournalTest {
+
+  private static final int RECORDS_PER_SEGMENT = 4;
+  private static final int SEGMENT_SIZE = RECORDS_PER_SEGMENT * SimulationRecords.RECORD_SIZE;
+  private static final Duration FSYNC_INTERVAL = Duration.ofMillis(10);
+
+  @TempDir
+  private Path directory;
+
+  private MappedSimulationJournal journal;
+
+  @AfterEach
+  public void tearDown() {
+    if (journal != null) {
+      journal.close();
+    }
+  }
+
+  @Test
+  @DisplayName("Should find a recorded simulation by its id")
+  public void shouldFindRecordedSimulation() {
+    journal = open(FsyncPolicy.GROUP);
+    LoanSimulationResponse simulation = simulation(1);
+
+    journal.record(simulation);
+
+    assertThat(journal.find(simulation.getId())).get().usingRecursiveComparison().isEqualTo(simulation);
+    assertThat(journal.find(UUID.randomUUID().toString())).isEmpty();
+    assertThat(journal.find("not-a-uuid")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should keep a missing client id and reject one longer than its field instead of cutting it")
+  public void shouldEncodeClientIds() {
+    journal = open(FsyncPolicy.NONE);
+    LoanSimulationResponse anonymous = simulation(1);
+    anonymous.setClientId(null);
+    LoanSimulationResponse fullClientId = simulation(2);
+    fullClientId.setClientId("é".repeat(48));
+    LoanSimulationResponse longClientId = simulation(3);
+    longClientId.setClientId("é".repeat(49));
+
+    journal.record(anonymous);
+    journal.record(fullClientId);
+
+    assertThat(journal.find(anonymous.getId())).get().extracting(LoanSimulationResponse::getClientId).isNull();
+    assertThat(journal.find(fullClientId.getId())).get().extracting(LoanSimulationResponse::getClientId)
+        .isEqualTo("é".repeat(48));
+    assertThatThrownBy(() -> journal.record(longClientId))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Client id does not fit the 96 bytes of its record field");
+    assertThat(journal.find(longClientId.getId())).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should rebuild the index across segments when reopened and keep appending after it")
+  public void shouldRecoverAcrossSegments() {
+    journal = open(FsyncPolicy.GROUP);
+    List<LoanSimulationResponse> simulations = new ArrayList<>();
+    for (int i = 0; i < 2 * RECORDS_PER_SEGMENT + 1; i++) {
+      simulations.add(simulation(i));
+      journal.record(simulations.getLast());
+    }
+    journal.close();
+
+    journal = open(FsyncPolicy.GROUP);
+    LoanSimulationResponse appended = simulation(100);
+    journal.record(appended);
+
+    assertThat(Files.exists(directory.resolve("journal-00002.dat"))).isTrue();
+    assertThat(journal.size()).isEqualTo(simulations.size() + 1);
+    for (LoanSimulationResponse simulation : simulations) {
+      assertThat(journal.find(simulation.getId())).get().usingRecursiveComparison().isEqualTo(simulation);
+    }
+    assertThat(journal.find(appended.getId())).get().usingRecursiveComparison().isEqualTo(appended);
+  }
+
+  @Test
+  @DisplayName("Should skip a torn record when recovering")
+  public void shouldSkipTornRecord() throws IOException {
+    journal = open(FsyncPolicy.NONE);
+    LoanSimulationResponse first = simulation(1);
+    LoanSimulationResponse torn = simulation(2);
+    journal.record(first);
+    journal.record(torn);
+    journal.close();
+
+    try (RandomAccessFile segment = new RandomAccessFile(directory.resolve("journal-00000.dat").toFile(), "rw")) {
+      segment.seek(SimulationRecords.RECORD_SIZE + SimulationRecords.RECORD_SIZE / 2);
+      segment.write(0xFF);
+    }
+    journal = open(FsyncPolicy.NONE);
+
+    assertThat(journal.size()).isEqualTo(1);
+    assertThat(journal.find(first.getId())).isPresent();
+    assertThat(journal.find(torn.getId())).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should return from every synchronous write once a shared force covers it")
+  public void shouldCompleteSynchronousWrites() throws Exception {
+    journal = open(FsyncPolicy.SYNC);
+    List<LoanSimulationResponse> simulations = new ArrayList<>();
+    for (int i = 0; i < 64; i++) {
+      simulations.add(simulation(i));
+    }
+
+    try (ExecutorService writers = Executors.newFixedThreadPool(8)) {
+      List<Future<?>> writes = new ArrayList<>();
+      for (LoanSimulationResponse simulation : simulations) {
+        writes.add(writers.submit(() -> journal.record(simulation)));
+      }
+      for (Future<?> write : writes) {
+        write.get();
+      }
+    }
+
+    assertThat(journal.size()).isEqualTo(simulations.size());
+  }
+
+  @Test
+  @DisplayName("Should reject a segment size that is not a whole number of records")
+  public void shouldRejectPartialRecordSegments() {
+    assertThatThrownBy(() -> MappedSimulationJournal.open(directory, SEGMENT_SIZE + 1, FsyncPolicy.NONE,
+        FSYNC_INTERVAL, Executors.defaultThreadFactory()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private MappedSimulationJournal open(final FsyncPolicy fsyncPolicy) {
+    return MappedSimulationJournal.open(directory, SEGMENT_SIZE, fsyncPolicy, FSYNC_INTERVAL,
+        Executors.defaultThreadFactory());
+  }
+
+  private static LoanSimulationResponse simulation(final int i) {
+    return new LoanSimulationResponse(UUID.randomUUID().toString(), "client-" + i,
+        Money.ofCents(1_000_000 + i), new BigDecimal("3.0000000000"), 12 + i,
+        Money.ofCents(1_016_328), Money.ofCents(84_694), Money.ofCents(16_328), "2025-10");
+  }
+}
@@ -0,0 +1,54 @@
+package com.creditas.loan.simulator.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MeteredInterestRateCalculator Tests")
+public final class MeteredInterestRateCalculatorTest {
+
+  private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2025-06-15T10:00:00Z"), ZoneOffset.UTC);
+  private static final LocalDate TODAY = LocalDate.now(FIXED_CLOCK);
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final MeteredInterestRateCalculator calculator = new MeteredInterestRateCalculator(
+      new AgeBasedInterestRateCalculator(new DailyClock(FIXED_CLOCK), RatePolicyFixtures.defaultRatePolicyHolder()),
+      meterRegistry);
+
+  @Test
+  @DisplayName("Should return the delegate's rate and time every call")
+  public void shouldReturnDelegateRateAndTimeEveryCall() {
+    InterestRate interestRate = calculator.calculateInterestRate(requestForAge(30));
+    calculator.calculateInterestRate(requestForAge(30));
+
+    assertThat(interestRate.annualRate()).isEqualTo(new BigDecimal("3.00"));
+    assertThat(meterRegistry.get("loan.interest.rate.calculation").timer().count()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should count the resolved rates per age band")
+  public void shouldCountResolvedRatesPerAgeBand() {
+    calculator.calculateInterestRate(requestForAge(20));
+    calculator.calculateInterestRate(requestForAge(30));
+    calculator.calculateInterestRate(requestForAge(35));
+    calculator.calculateInterestRate(requestForAge(70));
+
+    assertThat(meterRegistry.get("loan.interest.rate.band").tag("band", "0-25").counter().count()).isEqualTo(1.0);
+    assertThat(meterRegistry.get("loan.interest.rate.band").tag("band", "26-40").counter().count()).isEqualTo(2.0);
+    assertThat(meterRegistry.get("loan.interest.rate.band").tag("band", "61+").counter().count()).isEqualTo(1.0);
+  }
+
+  private static LoanSimulationRequest requestForAge(final int age) {
+    LoanSimulationRequest request = new LoanSimulationRequest();
+    request.setClientBirthDate(TODAY.minusYears(age));
+    return request;
+  }
+}
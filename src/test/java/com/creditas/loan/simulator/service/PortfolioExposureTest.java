@@ -0,0 +1,129 @@
+package com.creditas.loan.simulator.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.creditas.loan.simulator.domain.Client;
+import com.creditas.loan.simulator.domain.Contract;
+import com.creditas.loan.simulator.domain.Installment;
+import com.creditas.loan.simulator.domain.Money;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+
+@Label("PortfolioExposure Properties")
+public final class PortfolioExposureTest {
+
+  private static final LocalDate AS_OF = LocalDate.of(2025, 9, 20);
+  private static final BigDecimal RATE = new BigDecimal("3.00");
+  private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+  @Example
+  @Label("Should sum the installments due from the as-of day on and find the earliest across contracts")
+  public void shouldAggregateOutstandingInstallments() {
+    List<Installment> yearly = AmortizationSchedule.window(Money.ofCents(2_000_000), Money.ofCents(169_387), RATE,
+        12, LocalDate.of(2025, 6, 15), 0, 12).installments();
+    List<Installment> halfYearly = AmortizationSchedule.window(Money.ofCents(600_000), Money.ofCents(100_876), RATE,
+        6, LocalDate.of(2025, 9, 1), 0, 6).installments();
+    Client client = new Client("client-1", "Ana", "ana@example.com", LocalDate.of(1990, 1, 1), List.of(
+        new Contract("CT-1", Money.ofCents(2_000_000), yearly),
+        new Contract("CT-2", Money.ofCents(600_000), halfYearly)));
+    Client settled = new Client("client-2", "Bia", "bia@example.com", LocalDate.of(1985, 1, 1), List.of(
+        new Contract("CT-3", Money.ofCents(2_000_000), yearly.subList(0, 3))));
+
+    ClientPortfolio portfolio = ClientPortfolio.of(List.of(client, settled));
+    PortfolioExposure exposure = PortfolioExposure.aggregate(portfolio, AS_OF, POOL);
+
+    // Installments 1 to 3 of CT-1 fell due before the 20th of September 2025
+    List<Installment> outstanding = new ArrayList<>(yearly.subList(3, 12));
+    outstanding.addAll(halfYearly);
+    assertThat(exposure.outstandingBalanceCents(0))
+        .isEqualTo(outstanding.stream().mapToLong(installment -> installment.getPrincipal().cents()).sum());
+    assertThat(exposure.interestRemainingCents(0))
+        .isEqualTo(outstanding.stream().mapToLong(installment -> installment.getInterest().cents()).sum());
+    assertThat(portfolio.contractNumber(exposure.nextDueContract(0))).isEqualTo("CT-2");
+    assertThat(portfolio.installment(exposure.nextDueInstallment(0))).usingRecursiveComparison()
+        .isEqualTo(halfYearly.getFirst());
+
+    assertThat(exposure.outstandingBalanceCents(1)).isZero();
+    assertThat(exposure.interestRemainingCents(1)).isZero();
+    assertThat(exposure.nextDueInstallment(1)).isEqualTo(-1);
+  }
+
+  @Example
+  @Label("Should find clients by id or email and reject two clients sharing an email")
+  public void shouldIndexClientsByIdAndEmail() {
+    ClientPortfolio portfolio = ClientPortfolio.builder()
+        .addClient("client-1", "ana@example.com")
+        .addClient("client-2", "bia@example.com")
+        .build();
+
+    assertThat(portfolio.find("client-2")).isEqualTo(1);
+    assertThat(portfolio.find("ana@example.com")).isZero();
+    assertThat(portfolio.find("cris@example.com")).isEqualTo(-1);
+
+    ClientPortfolio.Builder builder = ClientPortfolio.builder().addClient("client-1", "ana@example.com");
+    assertThatThrownBy(() -> builder.addClient("client-2", "ana@example.com"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Duplicate client email ana@example.com");
+  }
+
+  @Property(tries = 50)
+  @Label("Should match aggregating the domain model client by client")
+  public void shouldMatchDomainModel(@ForAll final long seed) {
+    List<Client> clients = randomClients(new SplittableRandom(seed));
+
+    ClientPortfolio portfolio = ClientPortfolio.of(clients);
+    PortfolioExposure exposure = PortfolioExposure.aggregate(portfolio, AS_OF, POOL);
+
+    for (int c = 0; c < clients.size(); c++) {
+      List<Installment> outstanding = clients.get(c).getContracts().stream()
+          .flatMap(contract -> contract.getInstallments().stream())
+          .filter(installment -> !installment.getDate().isBefore(AS_OF))
+          .toList();
+      assertThat(exposure.outstandingBalanceCents(c))
+          .isEqualTo(outstanding.stream().mapToLong(installment -> installment.getPrincipal().cents()).sum());
+      assertThat(exposure.interestRemainingCents(c))
+          .isEqualTo(outstanding.stream().mapToLong(installment -> installment.getInterest().cents()).sum());
+
+      Optional<LocalDate> nextDueDate = outstanding.stream().map(Installment::getDate).min(Comparator.naturalOrder());
+      if (nextDueDate.isPresent()) {
+        assertThat(portfolio.installment(exposure.nextDueInstallment(c)).getDate()).isEqualTo(nextDueDate.get());
+      } else {
+        assertThat(exposure.nextDueInstallment(c)).isEqualTo(-1);
+      }
+    }
+  }
+
+  private static List<Client> randomClients(final SplittableRandom random) {
+    List<Client> clients = new ArrayList<>();
+    int clientCount = random.nextInt(200);
+    for (int c = 0; c < clientCount; c++) {
+      List<Contract> contracts = new ArrayList<>();
+      int contractCount = random.nextInt(4);
+      for (int k = 0; k < contractCount; k++) {
+        List<Installment> installments = new ArrayList<>();
+        int installmentCount = random.nextInt(30);
+        for (int i = 1; i <= installmentCount; i++) {
+          LocalDate date = AS_OF.plusDays(random.nextInt(-400, 400));
+          Money principal = Money.ofCents(random.nextLong(1_000_000));
+          Money interest = Money.ofCents(random.nextLong(100_000));
+          installments.add(new Installment(String.valueOf(i), date, principal.plus(interest), principal, interest,
+              Money.ZERO));
+        }
+        contracts.add(new Contract("CT-" + c + "-" + k, Money.ZERO, installments));
+      }
+      clients.add(new Client("client-" + c, "Client " + c, "client-" + c + "@example.com", AS_OF, contracts));
+    }
+    return clients;
+  }
+}
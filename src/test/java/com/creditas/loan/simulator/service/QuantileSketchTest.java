@@ -0,0 +1,74 @@
+package com.creditas.loan.simulator.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("QuantileSketch Tests")
+public final class QuantileSketchTest {
+
+  private static final double[] QUANTILES = {0, 0.01, 0.25, 0.5, 0.9, 0.95, 0.99, 1};
+
+  @Test
+  @DisplayName("Should answer every quantile within the relative accuracy")
+  public void shouldAnswerQuantilesWithinRelativeAccuracy() {
+    double[] values = logNormalValues(100_000, 7);
+    QuantileSketch sketch = new QuantileSketch();
+    Arrays.stream(values).forEach(sketch::add);
+
+    Arrays.sort(values);
+    for (double quantile : QUANTILES) {
+      double exact = values[(int) (quantile * (values.length - 1))];
+      assertThat(sketch.quantile(quantile))
+          .isCloseTo(exact, within(exact * QuantileSketch.RELATIVE_ACCURACY));
+    }
+    assertThat(sketch.count()).isEqualTo(values.length);
+    assertThat(sketch.min()).isEqualTo(values[0]);
+    assertThat(sketch.max()).isEqualTo(values[values.length - 1]);
+  }
+
+  @Test
+  @DisplayName("Should answer the same quantiles when merged from parts as when filled at once")
+  public void shouldMergeParts() {
+    double[] values = logNormalValues(30_000, 11);
+    QuantileSketch whole = new QuantileSketch();
+    QuantileSketch[] parts = {new QuantileSketch(), new QuantileSketch(), new QuantileSketch()};
+    for (int i = 0; i < values.length; i++) {
+      whole.add(values[i]);
+      // Skew the parts so they grow their buckets in different directions
+      parts[(int) Math.min(2, values[i] / 50_000)].add(values[i]);
+    }
+
+    QuantileSketch merged = new QuantileSketch().merge(parts[2]).merge(parts[0]).merge(parts[1]);
+
+    for (double quantile : QUANTILES) {
+      assertThat(merged.quantile(quantile)).isEqualTo(whole.quantile(quantile));
+    }
+    assertThat(merged.mean()).isCloseTo(whole.mean(), within(1e-6));
+  }
+
+  @Test
+  @DisplayName("Should count values under half a cent as zero")
+  public void shouldCountTinyValuesAsZero() {
+    QuantileSketch sketch = new QuantileSketch();
+    sketch.add(0);
+    sketch.add(0.001);
+    sketch.add(100);
+
+    assertThat(sketch.quantile(0.5)).isZero();
+    assertThat(sketch.quantile(1)).isEqualTo(100);
+  }
+
+  private static double[] logNormalValues(final int size, final long seed) {
+    SplittableRandom random = new SplittableRandom(seed);
+    double[] values = new double[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = Math.exp(10 + random.nextGaussian());
+    }
+    return values;
+  }
+}
@@ -0,0 +1,65 @@
+package com.creditas.loan.simulator.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+@DisplayName("RateBandTable Tests")
+public final class RateBandTableTest {
+
+  private final RateBandTable table = RatePolicyFixtures.defaultRateBandTable();
+
+  @ParameterizedTest
+  @CsvSource({
+      "0, 5.00",
+      "25, 5.00",
+      "26, 3.00",
+      "40, 3.00",
+      "41, 2.00",
+      "60, 2.00",
+      "61, 4.00",
+      "120, 4.00",
+  })
+  public void shouldResolveRateOfTheBandCoveringTheAge(final int age, final BigDecimal expectedRate) {
+    assertThat(table.rateFor(age)).isEqualTo(expectedRate);
+  }
+
+  @Test
+  @DisplayName("Should return the same rate instance on every lookup")
+  public void shouldReturnSharedRateInstances() {
+    assertThat(table.rateFor(30)).isSameAs(table.rateFor(35));
+  }
+
+  @Test
+  @DisplayName("Should normalize rates to two decimal places")
+  public void shouldNormalizeRates() {
+    RateBandTable single = RateBandTable.of(List.of(new RateBand(null, new BigDecimal("3.5"))));
+
+    assertThat(single.rateFor(30)).isEqualTo(new BigDecimal("3.50"));
+    assertThat(single.bands()).containsExactly(new RateBand(null, new BigDecimal("3.50")));
+  }
+
+  @Test
+  @DisplayName("Should reject band lists that leave ages uncovered or ambiguous")
+  public void shouldRejectInvalidBands() {
+    BigDecimal rate = new BigDecimal("3.00");
+
+    assertThatThrownBy(() -> RateBandTable.of(List.of()))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> RateBandTable.of(List.of(new RateBand(40, rate))))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> RateBandTable.of(List.of(new RateBand(null, rate), new RateBand(null, rate))))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> RateBandTable.of(List.of(new RateBand(40, rate), new RateBand(25, rate),
+        new RateBand(null, rate))))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> RateBandTable.of(List.of(new RateBand(null, new BigDecimal("-1.00")))))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
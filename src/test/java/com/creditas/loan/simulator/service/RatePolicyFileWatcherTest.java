@@ -0,0 +1,116 @@
+package com.creditas.loan.simulator.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("RatePolicyFileWatcher Tests")
+public final class RatePolicyFileWatcherTest {
+
+  private static final String POLICY_2025_10 = """
+      {"version": "2025-10", "bands": [{"max_age": 30, "rate": 6.00}, {"rate": 2.50}]}
+      """;
+
+  @TempDir
+  private Path directory;
+
+  private Path file;
+  private RatePolicyHolder holder;
+  private RatePolicyFileWatcher watcher;
+  private int writes;
+
+  @BeforeEach
+  public void setUp() {
+    file = directory.resolve("rate-policy.json");
+    holder = RatePolicyFixtures.defaultRatePolicyHolder();
+    watcher = new RatePolicyFileWatcher(file, holder, new ObjectMapper(), Executors.defaultThreadFactory());
+  }
+
+  @Test
+  @DisplayName("Should publish a new policy version read from the file")
+  public void shouldPublishNewPolicyVersion() throws IOException {
+    write(POLICY_2025_10);
+
+    assertThat(watcher.poll()).isTrue();
+
+    RatePolicy policy = holder.current();
+    assertThat(policy.version()).isEqualTo("2025-10");
+    assertThat(policy.rateFor(30)).isEqualTo(new InterestRate(new BigDecimal("6.00"), "2025-10", "0-30"));
+    assertThat(policy.rateFor(31)).isEqualTo(new InterestRate(new BigDecimal("2.50"), "2025-10", "31+"));
+  }
+
+  @Test
+  @DisplayName("Should keep the current policy when the file is missing or invalid")
+  public void shouldKeepCurrentPolicyWhenFileIsInvalid() throws IOException {
+    assertThat(watcher.poll()).isFalse();
+
+    write("""
+        {"version": "2025-10", "bands": [{"max_age": 30, "rate": -1}, {"rate": 2.50}]}
+        """);
+    assertThat(watcher.poll()).isFalse();
+
+    write("{\"version\": ");
+    assertThat(watcher.poll()).isFalse();
+
+    // Longer than the journal can record with each simulation
+    write("{\"version\": \"" + "v".repeat(85) + "\", \"bands\": [{\"rate\": 2.50}]}");
+    assertThat(watcher.poll()).isFalse();
+
+    assertThat(holder.current().version()).isEqualTo("application");
+  }
+
+  @Test
+  @DisplayName("Should keep polling after a null document or a null band")
+  public void shouldKeepPollingAfterNullDocument() throws IOException {
+    write("null");
+    assertThat(watcher.poll()).isFalse();
+
+    write("{\"version\": \"2025-09\", \"bands\": [null]}");
+    assertThat(watcher.poll()).isFalse();
+    assertThat(holder.current().version()).isEqualTo("application");
+
+    write(POLICY_2025_10);
+    assertThat(watcher.poll()).isTrue();
+    assertThat(holder.current().version()).isEqualTo("2025-10");
+  }
+
+  @Test
+  @DisplayName("Should ignore a file that changes the bands without a new version")
+  public void shouldIgnoreChangedBandsUnderSameVersion() throws IOException {
+    write(POLICY_2025_10);
+    watcher.poll();
+    RatePolicy published = holder.current();
+
+    write("""
+        {"version": "2025-10", "bands": [{"max_age": 30, "rate": 9.00}, {"rate": 2.50}]}
+        """);
+
+    assertThat(watcher.poll()).isFalse();
+    assertThat(holder.current()).isSameAs(published);
+  }
+
+  @Test
+  @DisplayName("Should not reload a file that did not change")
+  public void shouldNotReloadUnchangedFile() throws IOException {
+    write(POLICY_2025_10);
+    watcher.poll();
+
+    assertThat(watcher.poll()).isFalse();
+  }
+
+  private void write(final String content) throws IOException {
+    Files.writeString(file, content);
+    Files.setLastModifiedTime(file, FileTime.from(Instant.EPOCH.plusSeconds(++writes)));
+  }
+}
@@ -0,0 +1,27 @@
+package com.creditas.loan.simulator.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Builds the rate policy configured by default in {@code application.properties}.
+ */
+public final class RatePolicyFixtures {
+
+  private RatePolicyFixtures() {
+    // Prevent instantiation
+  }
+
+  public static RatePolicyHolder defaultRatePolicyHolder() {
+    return new RatePolicyHolder(new RatePolicy("application", defaultRateBandTable()));
+  }
+
+  public static RateBandTable defaultRateBandTable() {
+    return RateBandTable.of(List.of(
+        new RateBand(25, BigDecimal.valueOf(500, 2)),
+        new RateBand(40, BigDecimal.valueOf(300, 2)),
+        new RateBand(60, BigDecimal.valueOf(200, 2)),
+        new RateBand(null, BigDecimal.valueOf(400, 2))
+    ));
+  }
+}
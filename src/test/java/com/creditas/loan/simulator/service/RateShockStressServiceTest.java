@@ -0,0 +1,116 @@
+package com.creditas.loan.simulator.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.creditas.loan.simulator.domain.Money;
+import com.creditas.loan.simulator.dto.DistributionSummary;
+import com.creditas.loan.simulator.dto.LoanSimulationRequest;
+import com.creditas.loan.simulator.dto.LoanSimulationResponse;
+import com.creditas.loan.simulator.dto.RateShockStressRequest;
+import com.creditas.loan.simulator.dto.RateShockStressResponse;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RateShockStressService Tests")
+public final class RateShockStressServiceTest {
+
+  private static final List<LoanSimulationRequest> LOANS = List.of(
+      new LoanSimulationRequest(null, new BigDecimal("10000.00"), LocalDate.of(2000, 1, 1), 12),
+      new LoanSimulationRequest(null, new BigDecimal("25000.50"), LocalDate.of(1990, 1, 1), 36),
+      new LoanSimulationRequest(null, new BigDecimal("5000.00"), LocalDate.of(1990, 6, 1), 36),
+      new LoanSimulationRequest(null, new BigDecimal("80000.00"), LocalDate.of(1970, 1, 1), 120),
+      new LoanSimulationRequest(null, new BigDecimal("3000.00"), LocalDate.of(1950, 1, 1), 6));
+
+  @Test
+  @DisplayName("Should price every scenario like the loan service when the shock is zero")
+  public void shouldMatchLoanServiceWithoutShock() {
+    RateShockStressResponse response = stress(ForkJoinPool.commonPool(), "0.00", "0.00", 1_000, 1L);
+
+    LoanService loanService = LoanServiceFixtures.defaultLoanService();
+    Money installments = Money.ZERO;
+    Money interest = Money.ZERO;
+    for (LoanSimulationRequest loan : LOANS) {
+      LoanSimulationResponse simulation = loanService.calculateLoanSimulation(loan);
+      installments = installments.plus(simulation.getMonthlyInstallment());
+      interest = interest.plus(simulation.getTotalInterestPaid());
+    }
+
+    assertThat(response.getScenarios()).isEqualTo(1_000);
+    assertThat(response.getLoans()).isEqualTo(LOANS.size());
+    assertCloseTo(response.getMonthlyInstallments(), installments);
+    assertCloseTo(response.getTotalInterestPaid(), interest);
+  }
+
+  @Test
+  @DisplayName("Should repeat a run from its seed whatever the number of workers")
+  public void shouldRepeatRunFromSeed() {
+    ForkJoinPool single = new ForkJoinPool(1);
+    ForkJoinPool many = new ForkJoinPool(4);
+    try {
+      RateShockStressResponse first = stress(single, "0.50", "1.00", 20_000, 42L);
+      RateShockStressResponse second = stress(many, "0.50", "1.00", 20_000, 42L);
+
+      assertThat(second.getSeed()).isEqualTo(42L);
+      assertThat(second.getTotalInterestPaid()).usingRecursiveComparison().isEqualTo(first.getTotalInterestPaid());
+      assertThat(second.getMonthlyInstallments()).usingRecursiveComparison()
+          .isEqualTo(first.getMonthlyInstallments());
+    } finally {
+      single.shutdown();
+      many.shutdown();
+    }
+  }
+
+  @Test
+  @DisplayName("Should raise the interest distribution with an upward shock")
+  public void shouldRaiseInterestWithUpwardShock() {
+    RateShockStressResponse base = stress(ForkJoinPool.commonPool(), "0.00", "0.00", 100, 7L);
+    RateShockStressResponse shocked = stress(ForkJoinPool.commonPool(), "2.00", "0.50", 10_000, 7L);
+
+    DistributionSummary interest = shocked.getTotalInterestPaid();
+    assertThat(interest.getMin()).isGreaterThan(base.getTotalInterestPaid().getMax());
+    assertThat(interest.getP50()).isLessThanOrEqualTo(interest.getP90());
+    assertThat(interest.getP90()).isLessThanOrEqualTo(interest.getP99());
+    assertThat(interest.getP99()).isLessThanOrEqualTo(interest.getMax());
+  }
+
+  @Test
+  @DisplayName("Should price terms whose compound growth overflows a double")
+  public void shouldPriceVeryLongTerms() {
+    RateShockStressService service = new RateShockStressService(new DailyClock(Clock.systemDefaultZone()),
+        RatePolicyFixtures.defaultRatePolicyHolder(), ForkJoinPool.commonPool());
+    List<LoanSimulationRequest> loans = List.of(
+        new LoanSimulationRequest(null, new BigDecimal("100000.00"), LocalDate.of(1990, 1, 1), 1_000_000));
+
+    RateShockStressResponse response = service.simulate(new RateShockStressRequest(loans, 100, BigDecimal.ZERO,
+        BigDecimal.ZERO, 3L));
+
+    // (1.0025)^1,000,000 overflows, and the installment tends to the monthly interest at 3.00% a year
+    DistributionSummary installments = response.getMonthlyInstallments();
+    assertThat(Math.abs(installments.getMax().minus(Money.ofCents(25_000)).cents())).isLessThanOrEqualTo(250);
+    assertThat(Math.abs(response.getTotalInterestPaid().getMax().minus(Money.ofCents(24_990_000_000L)).cents()))
+        .isLessThanOrEqualTo(250_000_000L);
+  }
+
+  private static RateShockStressResponse stress(final ForkJoinPool pool, final String mean,
+                                                final String standardDeviation, final int scenarios,
+                                                final Long seed) {
+    RateShockStressService service = new RateShockStressService(new DailyClock(Clock.systemDefaultZone()),
+        RatePolicyFixtures.defaultRatePolicyHolder(), pool);
+    return service.simulate(new RateShockStressRequest(LOANS, scenarios, new BigDecimal(mean),
+        new BigDecimal(standardDeviation), seed));
+  }
+
+  private static void assertCloseTo(final DistributionSummary summary, final Money expected) {
+    // Rounding per loan against the sketch's relative accuracy
+    long tolerance = expected.cents() / 200 + LOANS.size();
+    for (Money value : List.of(summary.getMin(), summary.getMean(), summary.getP50(), summary.getP99(),
+        summary.getMax())) {
+      assertThat(Math.abs(value.minus(expected).cents())).isLessThanOrEqualTo(tolerance);
+    }
+  }
+}
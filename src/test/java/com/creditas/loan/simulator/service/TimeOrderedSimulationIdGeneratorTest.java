@@ -0,0 +1,81 @@
+package com.creditas.loan.simulator.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TimeOrderedSimulationIdGenerator Tests")
+public final class TimeOrderedSimulationIdGeneratorTest {
+
+  private static final long NOW = Instant.parse("2026-10-18T12:00:00Z").toEpochMilli();
+
+  private final AtomicLong millis = new AtomicLong(NOW);
+  private final TimeOrderedSimulationIdGenerator generator = new TimeOrderedSimulationIdGenerator(new Clock() {
+    @Override
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(final java.time.ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return Instant.ofEpochMilli(millis.get());
+    }
+  });
+
+  @Test
+  @DisplayName("Should issue version 7 UUIDs carrying the current time")
+  public void shouldIssueVersion7Uuids() {
+    UUID id = UUID.fromString(generator.nextId());
+
+    assertThat(id.version()).isEqualTo(7);
+    assertThat(id.variant()).isEqualTo(2);
+    assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(NOW);
+  }
+
+  @Test
+  @DisplayName("Should keep ids increasing within a millisecond, past its counter and when the clock goes back")
+  public void shouldKeepIdsIncreasing() {
+    List<String> ids = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      ids.add(generator.nextId());
+    }
+    millis.addAndGet(-60_000);
+    ids.add(generator.nextId());
+
+    assertThat(ids).isSorted().doesNotHaveDuplicates();
+    assertThat(UUID.fromString(ids.getLast()).getMostSignificantBits() >>> 16).isEqualTo(NOW + 2);
+  }
+
+  @Test
+  @DisplayName("Should issue distinct ids in increasing order on each of several threads")
+  public void shouldIssueDistinctIdsAcrossThreads() {
+    List<CompletableFuture<List<UUID>>> threads = IntStream.range(0, 8)
+        .mapToObj(thread -> CompletableFuture.supplyAsync(() -> IntStream.range(0, 20_000)
+            .mapToObj(i -> generator.nextUuid())
+            .toList()))
+        .toList();
+
+    List<UUID> all = new ArrayList<>();
+    for (CompletableFuture<List<UUID>> thread : threads) {
+      List<UUID> ids = thread.join();
+      assertThat(ids).isSorted();
+      all.addAll(ids);
+    }
+    assertThat(all).doesNotHaveDuplicates();
+  }
+}